@@ -0,0 +1,98 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+/**
+ * Headless implementation of the MIDP <code>Alert</code>.
+ *
+ * @author agent
+ */
+public class Alert extends Screen {
+
+	public static final int FOREVER = -2;
+	public static final Command DISMISS_COMMAND = new Command("", Command.OK, 0);
+
+	// Alert content
+	private String string;
+	private Image image;
+	private AlertType type;
+	private int timeout = FOREVER;
+
+	/**
+	 * Construct an {@link Alert}
+	 *
+	 * @param title
+	 */
+	public Alert(String title) {
+		this(title, null, null, null);
+	}
+
+	/**
+	 * Construct an {@link Alert}
+	 *
+	 * @param title
+	 * @param alertText
+	 * @param alertImage
+	 * @param alertType
+	 */
+	public Alert(String title, String alertText, Image alertImage, AlertType alertType) {
+		setTitle(title);
+		this.string = alertText;
+		this.image = alertImage;
+		this.type = alertType;
+	}
+
+	public String getString() {
+		return string;
+	}
+
+	public void setString(String str) {
+		string = str;
+	}
+
+	public Image getImage() {
+		return image;
+	}
+
+	public void setImage(Image img) {
+		image = img;
+	}
+
+	public AlertType getType() {
+		return type;
+	}
+
+	public void setType(AlertType type) {
+		this.type = type;
+	}
+
+	public int getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(int time) {
+		if (time <= 0 && time != FOREVER) {
+			throw new IllegalArgumentException();
+		}
+		timeout = time;
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+/**
+ * Headless implementation of the MIDP <code>Canvas</code>. Key codes follow
+ * the Sun Wireless Toolkit default phone : arrows are -1 to -4, select is -5
+ * and the soft keys are -6 and -7. Repaint requests are ignored, a headless
+ * host renders its frames explicitly.
+ *
+ * @author agent
+ */
+public abstract class Canvas extends Displayable {
+
+	public static final int UP = 1;
+	public static final int DOWN = 6;
+	public static final int LEFT = 2;
+	public static final int RIGHT = 5;
+	public static final int FIRE = 8;
+	public static final int GAME_A = 9;
+	public static final int GAME_B = 10;
+	public static final int GAME_C = 11;
+	public static final int GAME_D = 12;
+	public static final int KEY_NUM0 = 48;
+	public static final int KEY_NUM1 = 49;
+	public static final int KEY_NUM2 = 50;
+	public static final int KEY_NUM3 = 51;
+	public static final int KEY_NUM4 = 52;
+	public static final int KEY_NUM5 = 53;
+	public static final int KEY_NUM6 = 54;
+	public static final int KEY_NUM7 = 55;
+	public static final int KEY_NUM8 = 56;
+	public static final int KEY_NUM9 = 57;
+	public static final int KEY_STAR = 42;
+	public static final int KEY_POUND = 35;
+
+	// Device key codes
+	private static final int KEY_UP = -1;
+	private static final int KEY_DOWN = -2;
+	private static final int KEY_LEFT = -3;
+	private static final int KEY_RIGHT = -4;
+	private static final int KEY_SELECT = -5;
+	private static final int KEY_SOFT1 = -6;
+	private static final int KEY_SOFT2 = -7;
+	private static final int KEY_CLEAR = -8;
+
+	// Full screen mode
+	private boolean fullScreenMode = false;
+
+	/**
+	 * Construct a {@link Canvas}
+	 */
+	protected Canvas() {
+	}
+
+	public boolean isDoubleBuffered() {
+		return true;
+	}
+
+	public boolean hasPointerEvents() {
+		return true;
+	}
+
+	public boolean hasPointerMotionEvents() {
+		return true;
+	}
+
+	public boolean hasRepeatEvents() {
+		return true;
+	}
+
+	public int getKeyCode(int gameAction) {
+		switch (gameAction) {
+			case UP:
+				return KEY_UP;
+			case DOWN:
+				return KEY_DOWN;
+			case LEFT:
+				return KEY_LEFT;
+			case RIGHT:
+				return KEY_RIGHT;
+			case FIRE:
+				return KEY_SELECT;
+			case GAME_A:
+				return KEY_NUM1;
+			case GAME_B:
+				return KEY_NUM3;
+			case GAME_C:
+				return KEY_NUM7;
+			case GAME_D:
+				return KEY_NUM9;
+		}
+		throw new IllegalArgumentException();
+	}
+
+	public String getKeyName(int keyCode) {
+		switch (keyCode) {
+			case KEY_UP:
+				return "Up";
+			case KEY_DOWN:
+				return "Down";
+			case KEY_LEFT:
+				return "Left";
+			case KEY_RIGHT:
+				return "Right";
+			case KEY_SELECT:
+				return "Select";
+			case KEY_SOFT1:
+				return "SOFT1";
+			case KEY_SOFT2:
+				return "SOFT2";
+			case KEY_CLEAR:
+				return "Clear";
+		}
+		if (keyCode > 0) {
+			return String.valueOf((char) keyCode);
+		}
+		return "Unknown";
+	}
+
+	public int getGameAction(int keyCode) {
+		switch (keyCode) {
+			case KEY_UP:
+			case KEY_NUM2:
+				return UP;
+			case KEY_DOWN:
+			case KEY_NUM8:
+				return DOWN;
+			case KEY_LEFT:
+			case KEY_NUM4:
+				return LEFT;
+			case KEY_RIGHT:
+			case KEY_NUM6:
+				return RIGHT;
+			case KEY_SELECT:
+			case KEY_NUM5:
+				return FIRE;
+			case KEY_NUM1:
+				return GAME_A;
+			case KEY_NUM3:
+				return GAME_B;
+			case KEY_NUM7:
+				return GAME_C;
+			case KEY_NUM9:
+				return GAME_D;
+		}
+		return 0;
+	}
+
+	public void setFullScreenMode(boolean mode) {
+		fullScreenMode = mode;
+	}
+
+	protected void keyPressed(int keyCode) {
+	}
+
+	protected void keyRepeated(int keyCode) {
+	}
+
+	protected void keyReleased(int keyCode) {
+	}
+
+	protected void pointerPressed(int x, int y) {
+	}
+
+	protected void pointerReleased(int x, int y) {
+	}
+
+	protected void pointerDragged(int x, int y) {
+	}
+
+	public final void repaint(int x, int y, int width, int height) {
+	}
+
+	public final void repaint() {
+	}
+
+	public final void serviceRepaints() {
+	}
+
+	protected void showNotify() {
+	}
+
+	protected void hideNotify() {
+	}
+
+	protected abstract void paint(Graphics g);
+
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+/**
+ * Headless implementation of the MIDP <code>Command</code>.
+ *
+ * @author agent
+ */
+public class Command {
+
+	public static final int SCREEN = 1;
+	public static final int BACK = 2;
+	public static final int CANCEL = 3;
+	public static final int OK = 4;
+	public static final int HELP = 5;
+	public static final int STOP = 6;
+	public static final int EXIT = 7;
+	public static final int ITEM = 8;
+
+	// Command attributes
+	private final String label;
+	private final String longLabel;
+	private final int commandType;
+	private final int priority;
+
+	/**
+	 * Construct a {@link Command}
+	 *
+	 * @param label
+	 * @param commandType
+	 * @param priority
+	 */
+	public Command(String label, int commandType, int priority) {
+		this(label, null, commandType, priority);
+	}
+
+	/**
+	 * Construct a {@link Command}
+	 *
+	 * @param shortLabel
+	 * @param longLabel
+	 * @param commandType
+	 * @param priority
+	 */
+	public Command(String shortLabel, String longLabel, int commandType, int priority) {
+		if (shortLabel == null) {
+			throw new NullPointerException();
+		}
+		if (commandType < SCREEN || commandType > ITEM) {
+			throw new IllegalArgumentException();
+		}
+		this.label = shortLabel;
+		this.longLabel = longLabel;
+		this.commandType = commandType;
+		this.priority = priority;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public String getLongLabel() {
+		return longLabel;
+	}
+
+	public int getCommandType() {
+		return commandType;
+	}
+
+	public int getPriority() {
+		return priority;
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+import javax.microedition.midlet.MIDlet;
+
+/**
+ * Headless implementation of the MIDP <code>Display</code>. There is no
+ * physical screen : the screen size is read from the
+ * <code>kuix.headless.width</code> and <code>kuix.headless.height</code>
+ * system properties (240x320 by default) and <code>callSerially</code>
+ * runs the given <code>Runnable</code> immediately.
+ *
+ * @author agent
+ */
+public class Display {
+
+	// Screen size
+	static final int SCREEN_WIDTH = Integer.getInteger("kuix.headless.width", 240).intValue();
+	static final int SCREEN_HEIGHT = Integer.getInteger("kuix.headless.height", 320).intValue();
+
+	// The unique display instance
+	private static final Display instance = new Display();
+
+	// The current displayable
+	private Displayable current;
+
+	/**
+	 * Construct a {@link Display}
+	 */
+	private Display() {
+	}
+
+	/**
+	 * @param midlet
+	 * @return the display
+	 */
+	public static Display getDisplay(MIDlet midlet) {
+		if (midlet == null) {
+			throw new NullPointerException();
+		}
+		return instance;
+	}
+
+	/**
+	 * @return the current
+	 */
+	public Displayable getCurrent() {
+		return current;
+	}
+
+	/**
+	 * @return the current displayable of the unique display
+	 */
+	static Displayable getCurrentDisplayable() {
+		return instance.current;
+	}
+
+	/**
+	 * @param nextDisplayable
+	 */
+	public void setCurrent(Displayable nextDisplayable) {
+		if (nextDisplayable == null || nextDisplayable == current) {
+			return;
+		}
+		Displayable previous = current;
+		current = nextDisplayable;
+		if (previous instanceof Canvas) {
+			((Canvas) previous).hideNotify();
+		}
+		if (nextDisplayable instanceof Canvas) {
+			((Canvas) nextDisplayable).showNotify();
+		}
+	}
+
+	/**
+	 * @param alert
+	 * @param nextDisplayable
+	 */
+	public void setCurrent(Alert alert, Displayable nextDisplayable) {
+		setCurrent(nextDisplayable);
+	}
+
+	public void callSerially(Runnable r) {
+		r.run();
+	}
+
+	public boolean vibrate(int duration) {
+		return false;
+	}
+
+	public boolean flashBacklight(int duration) {
+		return false;
+	}
+
+	public boolean isColor() {
+		return true;
+	}
+
+	public int numColors() {
+		return 1 << 24;
+	}
+
+	public int numAlphaLevels() {
+		return 256;
+	}
+
+}
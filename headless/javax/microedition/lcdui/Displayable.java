@@ -0,0 +1,85 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+import java.util.Vector;
+
+/**
+ * Headless implementation of the MIDP <code>Displayable</code>.
+ *
+ * @author agent
+ */
+public abstract class Displayable {
+
+	// Commands
+	private final Vector commands = new Vector();
+	private CommandListener commandListener;
+
+	// Title
+	private String title;
+
+	/**
+	 * Construct a {@link Displayable}
+	 */
+	Displayable() {
+	}
+
+	public void addCommand(Command cmd) {
+		if (cmd == null) {
+			throw new NullPointerException();
+		}
+		if (!commands.contains(cmd)) {
+			commands.addElement(cmd);
+		}
+	}
+
+	public void removeCommand(Command cmd) {
+		commands.removeElement(cmd);
+	}
+
+	public void setCommandListener(CommandListener l) {
+		commandListener = l;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String s) {
+		title = s;
+	}
+
+	public boolean isShown() {
+		return Display.getCurrentDisplayable() == this;
+	}
+
+	public int getWidth() {
+		return Display.SCREEN_WIDTH;
+	}
+
+	public int getHeight() {
+		return Display.SCREEN_HEIGHT;
+	}
+
+	protected void sizeChanged(int w, int h) {
+	}
+
+}
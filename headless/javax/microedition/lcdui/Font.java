@@ -0,0 +1,237 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+import java.util.Hashtable;
+
+/**
+ * Headless implementation of the MIDP <code>Font</code>. Metrics are
+ * synthetic and only depend on the font attributes, so that layouts are the
+ * same on every JVM. Glyphs are drawn by {@link Graphics} as filled boxes.
+ *
+ * @author agent
+ */
+public final class Font {
+
+	public static final int STYLE_PLAIN = 0;
+	public static final int STYLE_BOLD = 1;
+	public static final int STYLE_ITALIC = 2;
+	public static final int STYLE_UNDERLINED = 4;
+	public static final int SIZE_SMALL = 8;
+	public static final int SIZE_MEDIUM = 0;
+	public static final int SIZE_LARGE = 16;
+	public static final int FACE_SYSTEM = 0;
+	public static final int FACE_MONOSPACE = 32;
+	public static final int FACE_PROPORTIONAL = 64;
+	public static final int FONT_STATIC_TEXT = 0;
+	public static final int FONT_INPUT_TEXT = 1;
+
+	// Narrow and wide characters of the proportional faces
+	private static final String NARROW_CHARS = " !'(),.:;I[]`fijlrt|";
+	private static final String WIDE_CHARS = "%@MWmw";
+
+	// Already created fonts
+	private static final Hashtable fonts = new Hashtable();
+
+	// The default font
+	private static final Font defaultFont = getFont(FACE_SYSTEM, STYLE_PLAIN, SIZE_MEDIUM);
+
+	// Font attributes
+	private final int face;
+	private final int style;
+	private final int size;
+
+	// Font metrics
+	private final int height;
+	private final int baselinePosition;
+	private final int advance;
+
+	/**
+	 * Construct a {@link Font}
+	 *
+	 * @param face
+	 * @param style
+	 * @param size
+	 */
+	private Font(int face, int style, int size) {
+		this.face = face;
+		this.style = style;
+		this.size = size;
+		switch (size) {
+			case SIZE_SMALL:
+				height = 12;
+				baselinePosition = 10;
+				advance = 5;
+				break;
+			case SIZE_LARGE:
+				height = 19;
+				baselinePosition = 15;
+				advance = 8;
+				break;
+			default:
+				height = 15;
+				baselinePosition = 12;
+				advance = 6;
+				break;
+		}
+	}
+
+	/**
+	 * @return the default font
+	 */
+	public static Font getDefaultFont() {
+		return defaultFont;
+	}
+
+	/**
+	 * @param fontSpecifier
+	 * @return the font used for static texts or input texts
+	 */
+	public static Font getFont(int fontSpecifier) {
+		if (fontSpecifier != FONT_STATIC_TEXT && fontSpecifier != FONT_INPUT_TEXT) {
+			throw new IllegalArgumentException();
+		}
+		return defaultFont;
+	}
+
+	/**
+	 * @param face
+	 * @param style
+	 * @param size
+	 * @return the font with the given attributes
+	 */
+	public static Font getFont(int face, int style, int size) {
+		if ((face != FACE_SYSTEM && face != FACE_MONOSPACE && face != FACE_PROPORTIONAL)
+				|| (style & ~(STYLE_BOLD | STYLE_ITALIC | STYLE_UNDERLINED)) != 0
+				|| (size != SIZE_SMALL && size != SIZE_MEDIUM && size != SIZE_LARGE)) {
+			throw new IllegalArgumentException();
+		}
+		synchronized (fonts) {
+			Integer key = new Integer(face | style | size);
+			Font font = (Font) fonts.get(key);
+			if (font == null) {
+				font = new Font(face, style, size);
+				fonts.put(key, font);
+			}
+			return font;
+		}
+	}
+
+	/**
+	 * @return the style
+	 */
+	public int getStyle() {
+		return style;
+	}
+
+	/**
+	 * @return the size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the face
+	 */
+	public int getFace() {
+		return face;
+	}
+
+	public boolean isPlain() {
+		return style == STYLE_PLAIN;
+	}
+
+	public boolean isBold() {
+		return (style & STYLE_BOLD) != 0;
+	}
+
+	public boolean isItalic() {
+		return (style & STYLE_ITALIC) != 0;
+	}
+
+	public boolean isUnderlined() {
+		return (style & STYLE_UNDERLINED) != 0;
+	}
+
+	/**
+	 * @return the height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @return the baselinePosition
+	 */
+	public int getBaselinePosition() {
+		return baselinePosition;
+	}
+
+	/**
+	 * @param ch
+	 * @return the advance of <code>ch</code>
+	 */
+	public int charWidth(char ch) {
+		if (ch < ' ') {
+			return 0;
+		}
+		int width = advance;
+		if (face != FACE_MONOSPACE) {
+			if (NARROW_CHARS.indexOf(ch) != -1) {
+				width = (advance + 1) / 2;
+			} else if (WIDE_CHARS.indexOf(ch) != -1) {
+				width = advance * 3 / 2;
+			}
+		}
+		if ((style & STYLE_BOLD) != 0) {
+			width++;
+		}
+		return width;
+	}
+
+	public int charsWidth(char[] ch, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > ch.length) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		int width = 0;
+		for (int i = offset + length - 1; i >= offset; --i) {
+			width += charWidth(ch[i]);
+		}
+		return width;
+	}
+
+	public int stringWidth(String str) {
+		return substringWidth(str, 0, str.length());
+	}
+
+	public int substringWidth(String str, int offset, int len) {
+		if (offset < 0 || len < 0 || offset + len > str.length()) {
+			throw new StringIndexOutOfBoundsException();
+		}
+		int width = 0;
+		for (int i = offset + len - 1; i >= offset; --i) {
+			width += charWidth(str.charAt(i));
+		}
+		return width;
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+import java.util.Vector;
+
+/**
+ * Headless implementation of the MIDP <code>Form</code>. Strings and images
+ * are kept as is instead of being wrapped in items.
+ *
+ * @author agent
+ */
+public class Form extends Screen {
+
+	// Appended items, strings and images
+	private final Vector items = new Vector();
+
+	/**
+	 * Construct a {@link Form}
+	 *
+	 * @param title
+	 */
+	public Form(String title) {
+		setTitle(title);
+	}
+
+	public int append(Item item) {
+		return internalAppend(item);
+	}
+
+	public int append(String str) {
+		return internalAppend(str);
+	}
+
+	public int append(Image img) {
+		return internalAppend(img);
+	}
+
+	public void delete(int itemNum) {
+		items.removeElementAt(itemNum);
+	}
+
+	public void deleteAll() {
+		items.removeAllElements();
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	/**
+	 * @param element
+	 * @return the index of the appended element
+	 */
+	private int internalAppend(Object element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		items.addElement(element);
+		return items.size() - 1;
+	}
+
+}
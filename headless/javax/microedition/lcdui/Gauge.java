@@ -0,0 +1,71 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+/**
+ * Headless implementation of the MIDP <code>Gauge</code>.
+ *
+ * @author agent
+ */
+public class Gauge extends Item {
+
+	// Gauge values
+	private final boolean interactive;
+	private int maxValue;
+	private int value;
+
+	/**
+	 * Construct a {@link Gauge}
+	 *
+	 * @param label
+	 * @param interactive
+	 * @param maxValue
+	 * @param initialValue
+	 */
+	public Gauge(String label, boolean interactive, int maxValue, int initialValue) {
+		super(label);
+		this.interactive = interactive;
+		this.maxValue = maxValue;
+		setValue(initialValue);
+	}
+
+	public boolean isInteractive() {
+		return interactive;
+	}
+
+	public int getMaxValue() {
+		return maxValue;
+	}
+
+	public void setMaxValue(int maxValue) {
+		this.maxValue = maxValue;
+		setValue(value);
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+	public void setValue(int value) {
+		this.value = Math.max(0, Math.min(value, maxValue));
+	}
+
+}
@@ -0,0 +1,613 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+/**
+ * Headless implementation of the MIDP <code>Graphics</code>. It rasterizes
+ * into the <code>int[]</code> ARGB buffer of a mutable {@link Image}.
+ * Primitives are drawn without antialiasing, images and RGB data are alpha
+ * blended and texts are drawn as one filled box per glyph.
+ *
+ * @author agent
+ */
+public class Graphics {
+
+	public static final int HCENTER = 1;
+	public static final int VCENTER = 2;
+	public static final int LEFT = 4;
+	public static final int RIGHT = 8;
+	public static final int TOP = 16;
+	public static final int BOTTOM = 32;
+	public static final int BASELINE = 64;
+	public static final int SOLID = 0;
+	public static final int DOTTED = 1;
+
+	// The target buffer
+	private final int[] pixels;
+	private final int surfaceWidth;
+	private final int surfaceHeight;
+
+	// Translation
+	private int translateX = 0;
+	private int translateY = 0;
+
+	// Clip in surface coordinates (always inside the surface)
+	private int clipX;
+	private int clipY;
+	private int clipWidth;
+	private int clipHeight;
+
+	// Drawing attributes
+	private int color = 0x000000;
+	private Font font = Font.getDefaultFont();
+	private int strokeStyle = SOLID;
+
+	// Dotted stroke step counter
+	private int strokeStep;
+
+	/**
+	 * Construct a {@link Graphics}
+	 *
+	 * @param pixels
+	 * @param surfaceWidth
+	 * @param surfaceHeight
+	 */
+	Graphics(int[] pixels, int surfaceWidth, int surfaceHeight) {
+		this.pixels = pixels;
+		this.surfaceWidth = surfaceWidth;
+		this.surfaceHeight = surfaceHeight;
+		this.clipWidth = surfaceWidth;
+		this.clipHeight = surfaceHeight;
+	}
+
+	// Attributes ////////////////////////////////////////////////////////////////////////////////////
+
+	public void translate(int x, int y) {
+		translateX += x;
+		translateY += y;
+	}
+
+	public int getTranslateX() {
+		return translateX;
+	}
+
+	public int getTranslateY() {
+		return translateY;
+	}
+
+	public int getColor() {
+		return color;
+	}
+
+	public int getRedComponent() {
+		return (color >> 16) & 0xFF;
+	}
+
+	public int getGreenComponent() {
+		return (color >> 8) & 0xFF;
+	}
+
+	public int getBlueComponent() {
+		return color & 0xFF;
+	}
+
+	public int getGrayScale() {
+		return (getRedComponent() + getGreenComponent() + getBlueComponent()) / 3;
+	}
+
+	public void setColor(int red, int green, int blue) {
+		if (red < 0 || red > 0xFF || green < 0 || green > 0xFF || blue < 0 || blue > 0xFF) {
+			throw new IllegalArgumentException();
+		}
+		color = (red << 16) | (green << 8) | blue;
+	}
+
+	public void setColor(int RGB) {
+		color = RGB & 0xFFFFFF;
+	}
+
+	public void setGrayScale(int value) {
+		setColor(value, value, value);
+	}
+
+	public Font getFont() {
+		return font;
+	}
+
+	public void setFont(Font font) {
+		this.font = font == null ? Font.getDefaultFont() : font;
+	}
+
+	public int getStrokeStyle() {
+		return strokeStyle;
+	}
+
+	public void setStrokeStyle(int style) {
+		if (style != SOLID && style != DOTTED) {
+			throw new IllegalArgumentException();
+		}
+		strokeStyle = style;
+	}
+
+	public int getDisplayColor(int color) {
+		return color & 0xFFFFFF;
+	}
+
+	// Clip ////////////////////////////////////////////////////////////////////////////////////
+
+	public int getClipX() {
+		return clipX - translateX;
+	}
+
+	public int getClipY() {
+		return clipY - translateY;
+	}
+
+	public int getClipWidth() {
+		return clipWidth;
+	}
+
+	public int getClipHeight() {
+		return clipHeight;
+	}
+
+	public void clipRect(int x, int y, int width, int height) {
+		intersectClip(x + translateX, y + translateY, width, height, clipX, clipY, clipWidth, clipHeight);
+	}
+
+	public void setClip(int x, int y, int width, int height) {
+		intersectClip(x + translateX, y + translateY, width, height, 0, 0, surfaceWidth, surfaceHeight);
+	}
+
+	/**
+	 * Set the clip to the intersection of the two given rectangles.
+	 */
+	private void intersectClip(int x1, int y1, int width1, int height1, int x2, int y2, int width2, int height2) {
+		int left = Math.max(x1, x2);
+		int top = Math.max(y1, y2);
+		int right = Math.min(x1 + width1, x2 + width2);
+		int bottom = Math.min(y1 + height1, y2 + height2);
+		clipX = left;
+		clipY = top;
+		clipWidth = Math.max(0, right - left);
+		clipHeight = Math.max(0, bottom - top);
+	}
+
+	// Primitives ////////////////////////////////////////////////////////////////////////////////////
+
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		strokeStep = 0;
+		line(x1 + translateX, y1 + translateY, x2 + translateX, y2 + translateY);
+	}
+
+	public void fillRect(int x, int y, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		x += translateX;
+		y += translateY;
+		int left = Math.max(x, clipX);
+		int top = Math.max(y, clipY);
+		int right = Math.min(x + width, clipX + clipWidth);
+		int bottom = Math.min(y + height, clipY + clipHeight);
+		int argb = 0xFF000000 | color;
+		for (int j = top; j < bottom; ++j) {
+			int offset = j * surfaceWidth;
+			for (int i = left; i < right; ++i) {
+				pixels[offset + i] = argb;
+			}
+		}
+	}
+
+	public void drawRect(int x, int y, int width, int height) {
+		if (width < 0 || height < 0) {
+			return;
+		}
+		if (strokeStyle == SOLID) {
+			fillRect(x, y, width + 1, 1);
+			fillRect(x, y + height, width + 1, 1);
+			fillRect(x, y, 1, height + 1);
+			fillRect(x + width, y, 1, height + 1);
+			return;
+		}
+		drawLine(x, y, x + width, y);
+		drawLine(x + width, y, x + width, y + height);
+		drawLine(x + width, y + height, x, y + height);
+		drawLine(x, y + height, x, y);
+	}
+
+	public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		if (width < 0 || height < 0) {
+			return;
+		}
+		arcWidth = Math.min(Math.abs(arcWidth), width);
+		arcHeight = Math.min(Math.abs(arcHeight), height);
+		int rx = arcWidth / 2;
+		int ry = arcHeight / 2;
+		drawLine(x + rx, y, x + width - rx, y);
+		drawLine(x + rx, y + height, x + width - rx, y + height);
+		drawLine(x, y + ry, x, y + height - ry);
+		drawLine(x + width, y + ry, x + width, y + height - ry);
+		if (arcWidth > 0 && arcHeight > 0) {
+			drawArc(x, y, arcWidth, arcHeight, 90, 90);
+			drawArc(x + width - arcWidth, y, arcWidth, arcHeight, 0, 90);
+			drawArc(x, y + height - arcHeight, arcWidth, arcHeight, 180, 90);
+			drawArc(x + width - arcWidth, y + height - arcHeight, arcWidth, arcHeight, 270, 90);
+		}
+	}
+
+	public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		arcWidth = Math.min(Math.abs(arcWidth), width);
+		arcHeight = Math.min(Math.abs(arcHeight), height);
+		if (arcWidth == 0 || arcHeight == 0) {
+			fillRect(x, y, width, height);
+			return;
+		}
+		double rx = arcWidth / 2.0;
+		double ry = arcHeight / 2.0;
+		for (int j = 0; j < height; ++j) {
+			double dy = 0;
+			if (j + 0.5 < ry) {
+				dy = ry - (j + 0.5);
+			} else if (j + 0.5 > height - ry) {
+				dy = (j + 0.5) - (height - ry);
+			}
+			int inset = (int) Math.round(rx - rx * Math.sqrt(Math.max(0, 1 - (dy * dy) / (ry * ry))));
+			fillRect(x + inset, y + j, width - 2 * inset, 1);
+		}
+	}
+
+	public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		if (width <= 0 || height <= 0 || arcAngle == 0) {
+			return;
+		}
+		double rx = width / 2.0;
+		double ry = height / 2.0;
+		int argb = 0xFF000000 | color;
+		for (int j = 0; j < height; ++j) {
+			int py = y + j + translateY;
+			if (py < clipY || py >= clipY + clipHeight) {
+				continue;
+			}
+			double ey = (ry - (j + 0.5)) / ry;
+			for (int i = 0; i < width; ++i) {
+				int px = x + i + translateX;
+				if (px < clipX || px >= clipX + clipWidth) {
+					continue;
+				}
+				double ex = ((i + 0.5) - rx) / rx;
+				if (ex * ex + ey * ey <= 1 && isInArc(Math.toDegrees(Math.atan2(ey, ex)), startAngle, arcAngle)) {
+					pixels[py * surfaceWidth + px] = argb;
+				}
+			}
+		}
+	}
+
+	public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		if (width < 0 || height < 0 || arcAngle == 0) {
+			return;
+		}
+		if (arcAngle > 360) {
+			arcAngle = 360;
+		} else if (arcAngle < -360) {
+			arcAngle = -360;
+		}
+		double cx = x + translateX + width / 2.0;
+		double cy = y + translateY + height / 2.0;
+		int steps = Math.max(4, (width + height) * Math.abs(arcAngle) / 180);
+		strokeStep = 0;
+		int previousX = 0;
+		int previousY = 0;
+		for (int step = 0; step <= steps; ++step) {
+			double angle = Math.toRadians(startAngle + (double) arcAngle * step / steps);
+			int px = (int) Math.round(cx + Math.cos(angle) * width / 2.0);
+			int py = (int) Math.round(cy - Math.sin(angle) * height / 2.0);
+			if (step == 0) {
+				plot(px, py);
+			} else if (px != previousX || py != previousY) {
+				line(previousX, previousY, px, py);
+			}
+			previousX = px;
+			previousY = py;
+		}
+	}
+
+	public void fillTriangle(int x1, int y1, int x2, int y2, int x3, int y3) {
+		int left = Math.max(Math.min(x1, Math.min(x2, x3)) + translateX, clipX);
+		int top = Math.max(Math.min(y1, Math.min(y2, y3)) + translateY, clipY);
+		int right = Math.min(Math.max(x1, Math.max(x2, x3)) + translateX, clipX + clipWidth - 1);
+		int bottom = Math.min(Math.max(y1, Math.max(y2, y3)) + translateY, clipY + clipHeight - 1);
+		long area = (long) (x2 - x1) * (y3 - y1) - (long) (y2 - y1) * (x3 - x1);
+		if (area == 0) {
+			strokeStep = 0;
+			line(x1 + translateX, y1 + translateY, x2 + translateX, y2 + translateY);
+			line(x2 + translateX, y2 + translateY, x3 + translateX, y3 + translateY);
+			return;
+		}
+		int argb = 0xFF000000 | color;
+		for (int py = top; py <= bottom; ++py) {
+			int ty = py - translateY;
+			for (int px = left; px <= right; ++px) {
+				int tx = px - translateX;
+				long e1 = (long) (x2 - x1) * (ty - y1) - (long) (y2 - y1) * (tx - x1);
+				long e2 = (long) (x3 - x2) * (ty - y2) - (long) (y3 - y2) * (tx - x2);
+				long e3 = (long) (x1 - x3) * (ty - y3) - (long) (y1 - y3) * (tx - x3);
+				if ((e1 >= 0 && e2 >= 0 && e3 >= 0) || (e1 <= 0 && e2 <= 0 && e3 <= 0)) {
+					pixels[py * surfaceWidth + px] = argb;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Draw a line in surface coordinates (Bresenham).
+	 */
+	private void line(int x1, int y1, int x2, int y2) {
+		int dx = Math.abs(x2 - x1);
+		int dy = -Math.abs(y2 - y1);
+		int sx = x1 < x2 ? 1 : -1;
+		int sy = y1 < y2 ? 1 : -1;
+		int error = dx + dy;
+		while (true) {
+			plot(x1, y1);
+			if (x1 == x2 && y1 == y2) {
+				break;
+			}
+			int error2 = 2 * error;
+			if (error2 >= dy) {
+				error += dy;
+				x1 += sx;
+			}
+			if (error2 <= dx) {
+				error += dx;
+				y1 += sy;
+			}
+		}
+	}
+
+	/**
+	 * Plot one stroke pixel in surface coordinates.
+	 */
+	private void plot(int x, int y) {
+		if (strokeStyle == DOTTED && (strokeStep++ & 2) != 0) {
+			return;
+		}
+		if (x >= clipX && x < clipX + clipWidth && y >= clipY && y < clipY + clipHeight) {
+			pixels[y * surfaceWidth + x] = 0xFF000000 | color;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if <code>angle</code> (in degrees) is in the
+	 *         arc
+	 */
+	private static boolean isInArc(double angle, int startAngle, int arcAngle) {
+		if (arcAngle >= 360 || arcAngle <= -360) {
+			return true;
+		}
+		if (arcAngle < 0) {
+			startAngle += arcAngle;
+			arcAngle = -arcAngle;
+		}
+		double delta = (angle - startAngle) % 360;
+		if (delta < 0) {
+			delta += 360;
+		}
+		return delta <= arcAngle;
+	}
+
+	// Texts ////////////////////////////////////////////////////////////////////////////////////
+
+	public void drawString(String str, int x, int y, int anchor) {
+		drawChars(str.toCharArray(), 0, str.length(), x, y, anchor);
+	}
+
+	public void drawSubstring(String str, int offset, int len, int x, int y, int anchor) {
+		if (offset < 0 || len < 0 || offset + len > str.length()) {
+			throw new StringIndexOutOfBoundsException();
+		}
+		drawChars(str.toCharArray(), offset, len, x, y, anchor);
+	}
+
+	public void drawChar(char character, int x, int y, int anchor) {
+		drawChars(new char[] { character }, 0, 1, x, y, anchor);
+	}
+
+	public void drawChars(char[] data, int offset, int length, int x, int y, int anchor) {
+		checkAnchor(anchor, VCENTER);
+		int width = font.charsWidth(data, offset, length);
+		if ((anchor & HCENTER) != 0) {
+			x -= width / 2;
+		} else if ((anchor & RIGHT) != 0) {
+			x -= width;
+		}
+		if ((anchor & BASELINE) != 0) {
+			y -= font.getBaselinePosition();
+		} else if ((anchor & BOTTOM) != 0) {
+			y -= font.getHeight();
+		}
+		int height = font.getHeight();
+		int baseline = font.getBaselinePosition();
+		int cursor = x;
+		for (int i = offset; i < offset + length; ++i) {
+			char c = data[i];
+			int charWidth = font.charWidth(c);
+			if (charWidth > 1 && !Character.isWhitespace(c)) {
+				int top;
+				if (Character.isLowerCase(c)) {
+					top = height / 3;
+				} else {
+					top = height / 6;
+				}
+				int bottom = "gjpqy".indexOf(c) != -1 ? baseline + (height - baseline) / 2 : baseline;
+				fillRect(cursor, y + top, charWidth - 1, bottom - top);
+			}
+			cursor += charWidth;
+		}
+		if (font.isUnderlined()) {
+			fillRect(x, y + baseline + 1, width, 1);
+		}
+	}
+
+	// Images ////////////////////////////////////////////////////////////////////////////////////
+
+	public void drawImage(Image img, int x, int y, int anchor) {
+		checkAnchor(anchor, BASELINE);
+		int width = img.getWidth();
+		int height = img.getHeight();
+		blit(img.rgb, 0, width, anchorX(x, width, anchor), anchorY(y, height, anchor), width, height, true);
+	}
+
+	public void drawRegion(Image src, int x_src, int y_src, int width, int height, int transform, int x_dest, int y_dest, int anchor) {
+		if (src.rgb == pixels) {
+			throw new IllegalArgumentException();
+		}
+		checkAnchor(anchor, BASELINE);
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		int[] region = new int[width * height];
+		src.getRGB(region, 0, width, x_src, y_src, width, height);
+		region = Image.transform(region, width, height, transform);
+		if (Image.isAxisSwapped(transform)) {
+			int swap = width;
+			width = height;
+			height = swap;
+		}
+		blit(region, 0, width, anchorX(x_dest, width, anchor), anchorY(y_dest, height, anchor), width, height, true);
+	}
+
+	public void drawRGB(int[] rgbData, int offset, int scanlength, int x, int y, int width, int height, boolean processAlpha) {
+		if (rgbData == null) {
+			throw new NullPointerException();
+		}
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		blit(rgbData, offset, scanlength, x, y, width, height, processAlpha);
+	}
+
+	public void copyArea(int x_src, int y_src, int width, int height, int x_dest, int y_dest, int anchor) {
+		checkAnchor(anchor, BASELINE);
+		x_src += translateX;
+		y_src += translateY;
+		if (width < 0 || height < 0 || x_src < 0 || y_src < 0 || x_src + width > surfaceWidth || y_src + height > surfaceHeight) {
+			throw new IllegalArgumentException();
+		}
+		if (width == 0 || height == 0) {
+			return;
+		}
+		int[] area = new int[width * height];
+		for (int j = 0; j < height; ++j) {
+			System.arraycopy(pixels, (y_src + j) * surfaceWidth + x_src, area, j * width, width);
+		}
+		blit(area, 0, width, anchorX(x_dest, width, anchor), anchorY(y_dest, height, anchor), width, height, false);
+	}
+
+	/**
+	 * Draw ARGB data at the translated location (<code>x</code>,
+	 * <code>y</code>).
+	 */
+	private void blit(int[] rgbData, int offset, int scanlength, int x, int y, int width, int height, boolean processAlpha) {
+		x += translateX;
+		y += translateY;
+		int left = Math.max(x, clipX);
+		int top = Math.max(y, clipY);
+		int right = Math.min(x + width, clipX + clipWidth);
+		int bottom = Math.min(y + height, clipY + clipHeight);
+		for (int j = top; j < bottom; ++j) {
+			int srcOffset = offset + (j - y) * scanlength - x;
+			int dstOffset = j * surfaceWidth;
+			for (int i = left; i < right; ++i) {
+				int src = rgbData[srcOffset + i];
+				int alpha = src >>> 24;
+				if (!processAlpha || alpha == 0xFF) {
+					pixels[dstOffset + i] = src | 0xFF000000;
+				} else if (alpha != 0) {
+					pixels[dstOffset + i] = blend(src, pixels[dstOffset + i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return <code>src</code> composited over <code>dst</code>
+	 */
+	private static int blend(int src, int dst) {
+		int srcAlpha = src >>> 24;
+		int dstAlpha = (dst >>> 24) * (0xFF - srcAlpha) / 0xFF;
+		int alpha = srcAlpha + dstAlpha;
+		int red = (((src >> 16) & 0xFF) * srcAlpha + ((dst >> 16) & 0xFF) * dstAlpha) / alpha;
+		int green = (((src >> 8) & 0xFF) * srcAlpha + ((dst >> 8) & 0xFF) * dstAlpha) / alpha;
+		int blue = ((src & 0xFF) * srcAlpha + (dst & 0xFF) * dstAlpha) / alpha;
+		return (alpha << 24) | (red << 16) | (green << 8) | blue;
+	}
+
+	/**
+	 * @return the left coordinate of a <code>width</code> wide box anchored at
+	 *         <code>x</code>
+	 */
+	private static int anchorX(int x, int width, int anchor) {
+		if ((anchor & HCENTER) != 0) {
+			return x - width / 2;
+		}
+		if ((anchor & RIGHT) != 0) {
+			return x - width;
+		}
+		return x;
+	}
+
+	/**
+	 * @return the top coordinate of a <code>height</code> high box anchored at
+	 *         <code>y</code>
+	 */
+	private static int anchorY(int y, int height, int anchor) {
+		if ((anchor & VCENTER) != 0) {
+			return y - height / 2;
+		}
+		if ((anchor & BOTTOM) != 0) {
+			return y - height;
+		}
+		return y;
+	}
+
+	/**
+	 * Check that <code>anchor</code> is a valid anchor combination that
+	 * doesn't use the <code>illegalAnchor</code> flag.
+	 */
+	private static void checkAnchor(int anchor, int illegalAnchor) {
+		if (anchor == 0) {
+			return;
+		}
+		int horizontal = anchor & (LEFT | HCENTER | RIGHT);
+		int vertical = anchor & (TOP | VCENTER | BOTTOM | BASELINE);
+		if ((anchor & illegalAnchor) != 0
+				|| (anchor & ~(horizontal | vertical)) != 0
+				|| Integer.bitCount(horizontal) > 1
+				|| Integer.bitCount(vertical) > 1) {
+			throw new IllegalArgumentException("invalid anchor : " + anchor);
+		}
+	}
+
+}
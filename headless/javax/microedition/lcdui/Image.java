@@ -0,0 +1,344 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Headless implementation of the MIDP <code>Image</code>. Pixels are stored
+ * in an <code>int[]</code> ARGB buffer. Mutable images are opaque and
+ * initially filled in white. Encoded images are decoded with
+ * <code>javax.imageio</code>.
+ *
+ * @author agent
+ */
+public class Image {
+
+	// Sprite transforms (same values as javax.microedition.lcdui.game.Sprite)
+	private static final int TRANS_NONE = 0;
+	private static final int TRANS_MIRROR_ROT180 = 1;
+	private static final int TRANS_MIRROR = 2;
+	private static final int TRANS_ROT180 = 3;
+	private static final int TRANS_MIRROR_ROT270 = 4;
+	private static final int TRANS_ROT90 = 5;
+	private static final int TRANS_ROT270 = 6;
+	private static final int TRANS_MIRROR_ROT90 = 7;
+
+	// Image size
+	private final int width;
+	private final int height;
+
+	// ARGB pixels
+	final int[] rgb;
+
+	// Specify if the image could be drawn on
+	private final boolean mutable;
+
+	/**
+	 * Construct an {@link Image}
+	 *
+	 * @param width
+	 * @param height
+	 * @param rgb
+	 * @param mutable
+	 */
+	private Image(int width, int height, int[] rgb, boolean mutable) {
+		this.width = width;
+		this.height = height;
+		this.rgb = rgb;
+		this.mutable = mutable;
+	}
+
+	/**
+	 * Create a new mutable image filled in white.
+	 *
+	 * @param width
+	 * @param height
+	 * @return the new {@link Image}
+	 */
+	public static Image createImage(int width, int height) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException();
+		}
+		int[] rgb = new int[width * height];
+		for (int i = rgb.length - 1; i >= 0; --i) {
+			rgb[i] = 0xFFFFFFFF;
+		}
+		return new Image(width, height, rgb, true);
+	}
+
+	/**
+	 * Create an immutable copy of <code>source</code>.
+	 *
+	 * @param source
+	 * @return the immutable {@link Image}
+	 */
+	public static Image createImage(Image source) {
+		if (source == null) {
+			throw new NullPointerException();
+		}
+		if (!source.mutable) {
+			return source;
+		}
+		int[] rgb = new int[source.rgb.length];
+		System.arraycopy(source.rgb, 0, rgb, 0, rgb.length);
+		return new Image(source.width, source.height, rgb, false);
+	}
+
+	/**
+	 * Create an immutable image from the <code>name</code> resource.
+	 *
+	 * @param name
+	 * @return the decoded {@link Image}
+	 * @throws IOException
+	 */
+	public static Image createImage(String name) throws IOException {
+		if (name == null) {
+			throw new NullPointerException();
+		}
+		InputStream inputStream = Image.class.getResourceAsStream(name);
+		if (inputStream == null) {
+			throw new IOException("resource not found : " + name);
+		}
+		try {
+			return createImage(inputStream);
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * Create an immutable image from encoded image data.
+	 *
+	 * @param imageData
+	 * @param imageOffset
+	 * @param imageLength
+	 * @return the decoded {@link Image}
+	 */
+	public static Image createImage(byte[] imageData, int imageOffset, int imageLength) {
+		if (imageOffset < 0 || imageLength < 0 || imageOffset + imageLength > imageData.length) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		try {
+			return createImage(new ByteArrayInputStream(imageData, imageOffset, imageLength));
+		} catch (IOException e) {
+			throw new IllegalArgumentException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Create an immutable image from an encoded image stream.
+	 *
+	 * @param stream
+	 * @return the decoded {@link Image}
+	 * @throws IOException
+	 */
+	public static Image createImage(InputStream stream) throws IOException {
+		if (stream == null) {
+			throw new NullPointerException();
+		}
+		BufferedImage bufferedImage = ImageIO.read(stream);
+		if (bufferedImage == null) {
+			throw new IOException("unsupported image format");
+		}
+		int width = bufferedImage.getWidth();
+		int height = bufferedImage.getHeight();
+		return new Image(width, height, bufferedImage.getRGB(0, 0, width, height, null, 0, width), false);
+	}
+
+	/**
+	 * Create an immutable image from a transformed region of
+	 * <code>image</code>.
+	 *
+	 * @param image
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @param transform
+	 * @return the new {@link Image}
+	 */
+	public static Image createImage(Image image, int x, int y, int width, int height, int transform) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException();
+		}
+		int[] region = new int[width * height];
+		image.getRGB(region, 0, width, x, y, width, height);
+		if (isAxisSwapped(transform)) {
+			return new Image(height, width, transform(region, width, height, transform), false);
+		}
+		return new Image(width, height, transform(region, width, height, transform), false);
+	}
+
+	/**
+	 * Create an immutable image from an ARGB array.
+	 *
+	 * @param rgb
+	 * @param width
+	 * @param height
+	 * @param processAlpha if <code>false</code> all pixels are opaque
+	 * @return the new {@link Image}
+	 */
+	public static Image createRGBImage(int[] rgb, int width, int height, boolean processAlpha) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException();
+		}
+		if (width * height > rgb.length) {
+			throw new ArrayIndexOutOfBoundsException();
+		}
+		int[] pixels = new int[width * height];
+		for (int i = pixels.length - 1; i >= 0; --i) {
+			pixels[i] = processAlpha ? rgb[i] : rgb[i] | 0xFF000000;
+		}
+		return new Image(width, height, pixels, false);
+	}
+
+	/**
+	 * @return a new {@link Graphics} that renders to this image
+	 * @throws IllegalStateException if the image is immutable
+	 */
+	public Graphics getGraphics() {
+		if (!mutable) {
+			throw new IllegalStateException();
+		}
+		return new Graphics(rgb, width, height);
+	}
+
+	/**
+	 * @return the width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return the height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @return the mutable
+	 */
+	public boolean isMutable() {
+		return mutable;
+	}
+
+	/**
+	 * Copy the ARGB pixels of the given region into <code>rgbData</code>.
+	 *
+	 * @param rgbData
+	 * @param offset
+	 * @param scanlength
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 */
+	public void getRGB(int[] rgbData, int offset, int scanlength, int x, int y, int width, int height) {
+		if (x < 0 || y < 0 || x + width > this.width || y + height > this.height) {
+			throw new IllegalArgumentException();
+		}
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		for (int j = 0; j < height; ++j) {
+			System.arraycopy(rgb, (y + j) * this.width + x, rgbData, offset + j * scanlength, width);
+		}
+	}
+
+	/**
+	 * @param transform
+	 * @return <code>true</code> if <code>transform</code> swaps the width and
+	 *         the height
+	 */
+	static boolean isAxisSwapped(int transform) {
+		return (transform & TRANS_MIRROR_ROT270) != 0;
+	}
+
+	/**
+	 * Returns the <code>src</code> pixels transformed by a Sprite
+	 * <code>transform</code>. The result width is <code>height</code> if
+	 * the transform swaps axis.
+	 *
+	 * @param src
+	 * @param width
+	 * @param height
+	 * @param transform
+	 * @return the transformed pixels
+	 */
+	static int[] transform(int[] src, int width, int height, int transform) {
+		if (transform == TRANS_NONE) {
+			return src;
+		}
+		if (transform < TRANS_NONE || transform > TRANS_MIRROR_ROT90) {
+			throw new IllegalArgumentException();
+		}
+		int[] dst = new int[width * height];
+		int dstWidth = isAxisSwapped(transform) ? height : width;
+		int dstHeight = isAxisSwapped(transform) ? width : height;
+		for (int dy = 0; dy < dstHeight; ++dy) {
+			for (int dx = 0; dx < dstWidth; ++dx) {
+				int sx;
+				int sy;
+				switch (transform) {
+					case TRANS_MIRROR_ROT180:
+						sx = dx;
+						sy = height - 1 - dy;
+						break;
+					case TRANS_MIRROR:
+						sx = width - 1 - dx;
+						sy = dy;
+						break;
+					case TRANS_ROT180:
+						sx = width - 1 - dx;
+						sy = height - 1 - dy;
+						break;
+					case TRANS_MIRROR_ROT270:
+						sx = dy;
+						sy = dx;
+						break;
+					case TRANS_ROT90:
+						sx = dy;
+						sy = height - 1 - dx;
+						break;
+					case TRANS_ROT270:
+						sx = width - 1 - dy;
+						sy = dx;
+						break;
+					default:
+						sx = width - 1 - dy;
+						sy = height - 1 - dx;
+						break;
+				}
+				dst[dy * dstWidth + dx] = src[sy * width + sx];
+			}
+		}
+		return dst;
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui;
+
+/**
+ * Headless implementation of the MIDP <code>TextBox</code>.
+ *
+ * @author agent
+ */
+public class TextBox extends Screen {
+
+	// Content
+	private String text;
+	private int maxSize;
+	private int constraints;
+
+	/**
+	 * Construct a {@link TextBox}
+	 *
+	 * @param title
+	 * @param text
+	 * @param maxSize
+	 * @param constraints
+	 */
+	public TextBox(String title, String text, int maxSize, int constraints) {
+		setTitle(title);
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.maxSize = maxSize;
+		this.constraints = constraints;
+		setString(text);
+	}
+
+	public String getString() {
+		return text;
+	}
+
+	public void setString(String text) {
+		if (text != null && text.length() > maxSize) {
+			throw new IllegalArgumentException();
+		}
+		this.text = text == null ? "" : text;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public int setMaxSize(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.maxSize = maxSize;
+		if (text.length() > maxSize) {
+			text = text.substring(0, maxSize);
+		}
+		return maxSize;
+	}
+
+	public int getConstraints() {
+		return constraints;
+	}
+
+	public void setConstraints(int constraints) {
+		this.constraints = constraints;
+	}
+
+	public void setInitialInputMode(String characterSubset) {
+	}
+
+}
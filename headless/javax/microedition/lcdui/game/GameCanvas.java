@@ -0,0 +1,82 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui.game;
+
+import javax.microedition.lcdui.Canvas;
+import javax.microedition.lcdui.Graphics;
+import javax.microedition.lcdui.Image;
+
+/**
+ * Headless implementation of the MIDP <code>GameCanvas</code>. The off-screen
+ * buffer plays the role of the screen : flushing it has no effect.
+ *
+ * @author agent
+ */
+public abstract class GameCanvas extends Canvas {
+
+	public static final int UP_PRESSED = 1 << UP;
+	public static final int DOWN_PRESSED = 1 << DOWN;
+	public static final int LEFT_PRESSED = 1 << LEFT;
+	public static final int RIGHT_PRESSED = 1 << RIGHT;
+	public static final int FIRE_PRESSED = 1 << FIRE;
+	public static final int GAME_A_PRESSED = 1 << GAME_A;
+	public static final int GAME_B_PRESSED = 1 << GAME_B;
+	public static final int GAME_C_PRESSED = 1 << GAME_C;
+	public static final int GAME_D_PRESSED = 1 << GAME_D;
+
+	// The off-screen buffer
+	private Image buffer;
+
+	/**
+	 * Construct a {@link GameCanvas}
+	 *
+	 * @param suppressKeyEvents
+	 */
+	protected GameCanvas(boolean suppressKeyEvents) {
+	}
+
+	/**
+	 * @return a new {@link Graphics} that renders to the off-screen buffer
+	 */
+	protected Graphics getGraphics() {
+		if (buffer == null || buffer.getWidth() != getWidth() || buffer.getHeight() != getHeight()) {
+			buffer = Image.createImage(getWidth(), getHeight());
+		}
+		return buffer.getGraphics();
+	}
+
+	public int getKeyStates() {
+		return 0;
+	}
+
+	public void paint(Graphics g) {
+		if (buffer != null) {
+			g.drawImage(buffer, 0, 0, Graphics.TOP | Graphics.LEFT);
+		}
+	}
+
+	public void flushGraphics(int x, int y, int width, int height) {
+	}
+
+	public void flushGraphics() {
+	}
+
+}
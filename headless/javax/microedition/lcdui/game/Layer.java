@@ -0,0 +1,90 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui.game;
+
+import javax.microedition.lcdui.Graphics;
+
+/**
+ * Headless implementation of the MIDP <code>Layer</code>.
+ *
+ * @author agent
+ */
+public abstract class Layer {
+
+	// Position
+	private int x;
+	private int y;
+
+	// Size
+	int width;
+	int height;
+
+	// Visibility
+	private boolean visible = true;
+
+	/**
+	 * Construct a {@link Layer}
+	 *
+	 * @param width
+	 * @param height
+	 */
+	Layer(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	public void setPosition(int x, int y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	public void move(int dx, int dy) {
+		x += dx;
+		y += dy;
+	}
+
+	public final int getX() {
+		return x;
+	}
+
+	public final int getY() {
+		return y;
+	}
+
+	public final int getWidth() {
+		return width;
+	}
+
+	public final int getHeight() {
+		return height;
+	}
+
+	public void setVisible(boolean visible) {
+		this.visible = visible;
+	}
+
+	public final boolean isVisible() {
+		return visible;
+	}
+
+	public abstract void paint(Graphics g);
+
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.lcdui.game;
+
+import javax.microedition.lcdui.Graphics;
+import javax.microedition.lcdui.Image;
+
+/**
+ * Headless implementation of the MIDP <code>Sprite</code>. The reference
+ * pixel is not supported : the position is always the top left corner of
+ * the transformed frame. Collisions are not supported.
+ *
+ * @author agent
+ */
+public class Sprite extends Layer {
+
+	public static final int TRANS_NONE = 0;
+	public static final int TRANS_ROT90 = 5;
+	public static final int TRANS_ROT180 = 3;
+	public static final int TRANS_ROT270 = 6;
+	public static final int TRANS_MIRROR = 2;
+	public static final int TRANS_MIRROR_ROT90 = 7;
+	public static final int TRANS_MIRROR_ROT180 = 1;
+	public static final int TRANS_MIRROR_ROT270 = 4;
+
+	// Frames source
+	private Image image;
+	private int frameWidth;
+	private int frameHeight;
+	private int rawFrameCount;
+
+	// Frame sequence
+	private int[] frameSequence;
+	private int sequenceIndex = 0;
+
+	// Transform
+	private int transform = TRANS_NONE;
+
+	/**
+	 * Construct a {@link Sprite}
+	 *
+	 * @param image
+	 */
+	public Sprite(Image image) {
+		this(image, image.getWidth(), image.getHeight());
+	}
+
+	/**
+	 * Construct a {@link Sprite}
+	 *
+	 * @param image
+	 * @param frameWidth
+	 * @param frameHeight
+	 */
+	public Sprite(Image image, int frameWidth, int frameHeight) {
+		super(frameWidth, frameHeight);
+		setImage(image, frameWidth, frameHeight);
+	}
+
+	public void setImage(Image image, int frameWidth, int frameHeight) {
+		if (frameWidth < 1 || frameHeight < 1 || image.getWidth() % frameWidth != 0 || image.getHeight() % frameHeight != 0) {
+			throw new IllegalArgumentException();
+		}
+		int previousRawFrameCount = rawFrameCount;
+		this.image = image;
+		this.frameWidth = frameWidth;
+		this.frameHeight = frameHeight;
+		rawFrameCount = (image.getWidth() / frameWidth) * (image.getHeight() / frameHeight);
+		if (frameSequence == null || rawFrameCount < previousRawFrameCount) {
+			setFrameSequence(null);
+		}
+		updateSize();
+	}
+
+	public int getRawFrameCount() {
+		return rawFrameCount;
+	}
+
+	public void setFrameSequence(int[] sequence) {
+		if (sequence == null) {
+			sequence = new int[rawFrameCount];
+			for (int i = 0; i < rawFrameCount; ++i) {
+				sequence[i] = i;
+			}
+		} else {
+			if (sequence.length == 0) {
+				throw new IllegalArgumentException();
+			}
+			for (int i = 0; i < sequence.length; ++i) {
+				if (sequence[i] < 0 || sequence[i] >= rawFrameCount) {
+					throw new ArrayIndexOutOfBoundsException();
+				}
+			}
+			int[] copy = new int[sequence.length];
+			System.arraycopy(sequence, 0, copy, 0, sequence.length);
+			sequence = copy;
+		}
+		frameSequence = sequence;
+		sequenceIndex = 0;
+	}
+
+	public int getFrameSequenceLength() {
+		return frameSequence.length;
+	}
+
+	public void setFrame(int sequenceIndex) {
+		if (sequenceIndex < 0 || sequenceIndex >= frameSequence.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.sequenceIndex = sequenceIndex;
+	}
+
+	public final int getFrame() {
+		return sequenceIndex;
+	}
+
+	public void nextFrame() {
+		sequenceIndex = (sequenceIndex + 1) % frameSequence.length;
+	}
+
+	public void prevFrame() {
+		sequenceIndex = (sequenceIndex + frameSequence.length - 1) % frameSequence.length;
+	}
+
+	public void setTransform(int transform) {
+		if (transform < TRANS_NONE || transform > TRANS_MIRROR_ROT90) {
+			throw new IllegalArgumentException();
+		}
+		this.transform = transform;
+		updateSize();
+	}
+
+	public final void paint(Graphics g) {
+		if (!isVisible()) {
+			return;
+		}
+		int frame = frameSequence[sequenceIndex];
+		int columns = image.getWidth() / frameWidth;
+		g.drawRegion(image, (frame % columns) * frameWidth, (frame / columns) * frameHeight, frameWidth, frameHeight, transform, getX(), getY(), Graphics.TOP | Graphics.LEFT);
+	}
+
+	/**
+	 * Update the layer size from the frame size and the transform.
+	 */
+	private void updateSize() {
+		if ((transform & TRANS_MIRROR_ROT270) != 0) {
+			width = frameHeight;
+			height = frameWidth;
+		} else {
+			width = frameWidth;
+			height = frameHeight;
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.midlet;
+
+/**
+ * Headless implementation of the MIDP <code>MIDlet</code>. Application
+ * properties are read from the system properties.
+ *
+ * @author agent
+ */
+public abstract class MIDlet {
+
+	/**
+	 * Construct a {@link MIDlet}
+	 */
+	protected MIDlet() {
+	}
+
+	protected abstract void startApp() throws MIDletStateChangeException;
+
+	protected abstract void pauseApp();
+
+	protected abstract void destroyApp(boolean unconditional) throws MIDletStateChangeException;
+
+	public final void notifyDestroyed() {
+	}
+
+	public final void notifyPaused() {
+	}
+
+	public final void resumeRequest() {
+	}
+
+	public final String getAppProperty(String key) {
+		if (key == null) {
+			throw new NullPointerException();
+		}
+		return System.getProperty(key);
+	}
+
+	public final boolean platformRequest(String URL) {
+		return false;
+	}
+
+	public final int checkPermission(String permission) {
+		return 0;
+	}
+
+}
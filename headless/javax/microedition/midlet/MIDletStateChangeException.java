@@ -0,0 +1,48 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package javax.microedition.midlet;
+
+/**
+ * Headless implementation of the MIDP
+ * <code>MIDletStateChangeException</code>.
+ *
+ * @author agent
+ */
+public class MIDletStateChangeException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Construct a {@link MIDletStateChangeException}
+	 */
+	public MIDletStateChangeException() {
+	}
+
+	/**
+	 * Construct a {@link MIDletStateChangeException}
+	 *
+	 * @param s
+	 */
+	public MIDletStateChangeException(String s) {
+		super(s);
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of org.kalmeo.debug.kuix.benchmark.
+ * 
+ * org.kalmeo.debug.kuix.benchmark is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.kalmeo.debug.kuix.benchmark is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.debug.kuix.benchmark.  If not, see <http://www.gnu.org/licenses/>.
+ *  
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.debug.kuix.benchmark;
+
+/**
+ * A <code>Benchmark</code> measures the average duration of an operation.
+ * The operation is executed <code>warmupIterations</code> times, then
+ * repeated until <code>minDuration</code> milliseconds are elapsed.
+ * 
+ * @author agent
+ */
+public abstract class Benchmark {
+
+	// Benchmark properties
+	private final String name;
+	private final int size;
+	
+	// Last measure results
+	private int iterations;
+	private long totalDuration;
+	
+	/**
+	 * Construct a {@link Benchmark}
+	 * 
+	 * @param name the benchmark name
+	 * @param size the benchmark problem size (widget count, rule count, ...)
+	 */
+	public Benchmark(String name, int size) {
+		this.name = name;
+		this.size = size;
+	}
+	
+	/**
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the iteration count of the last measure
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return the total duration (in milliseconds) of the last measure
+	 */
+	public long getTotalDuration() {
+		return totalDuration;
+	}
+	
+	/**
+	 * Returns the average operation duration (in microseconds) of the last
+	 * measure.
+	 * 
+	 * @return the average duration
+	 */
+	public long getAverageDuration() {
+		if (iterations == 0) {
+			return 0;
+		}
+		return totalDuration * 1000 / iterations;
+	}
+
+	/**
+	 * Prepare the benchmark. This method is not measured.
+	 */
+	protected void setUp() {
+	}
+	
+	/**
+	 * Execute the measured operation once.
+	 */
+	protected abstract void run();
+	
+	/**
+	 * Release the benchmark resources. This method is not measured.
+	 */
+	protected void tearDown() {
+	}
+	
+	/**
+	 * Measure the operation.
+	 * 
+	 * @param warmupIterations
+	 * @param minDuration the minimal measure duration in milliseconds
+	 */
+	public void measure(int warmupIterations, int minDuration) {
+		setUp();
+		try {
+			for (int i = 0; i < warmupIterations; ++i) {
+				run();
+			}
+			iterations = 0;
+			long startTime = System.currentTimeMillis();
+			do {
+				run();
+				iterations++;
+				totalDuration = System.currentTimeMillis() - startTime;
+			} while (totalDuration < minDuration);
+		} finally {
+			tearDown();
+		}
+	}
+	
+	/**
+	 * Append the last measure results as a JSON object to <code>buffer</code>.
+	 * 
+	 * @param buffer
+	 */
+	public void appendJson(StringBuffer buffer) {
+		buffer.append("{\"name\":\"").append(name)
+				.append("\",\"size\":").append(size)
+				.append(",\"iterations\":").append(iterations)
+				.append(",\"totalMs\":").append(totalDuration)
+				.append(",\"avgUs\":").append(getAverageDuration())
+				.append('}');
+	}
+	
+}
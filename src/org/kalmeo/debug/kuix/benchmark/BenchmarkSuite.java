@@ -0,0 +1,484 @@
+/*
+ * This file is part of org.kalmeo.debug.kuix.benchmark.
+ * 
+ * org.kalmeo.debug.kuix.benchmark is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.kalmeo.debug.kuix.benchmark is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.debug.kuix.benchmark.  If not, see <http://www.gnu.org/licenses/>.
+ *  
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.debug.kuix.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.Vector;
+
+import javax.microedition.lcdui.Graphics;
+import javax.microedition.lcdui.Image;
+import javax.microedition.midlet.MIDlet;
+
+import org.kalmeo.kuix.core.Kuix;
+import org.kalmeo.kuix.core.KuixCanvas;
+import org.kalmeo.kuix.core.KuixConstants;
+import org.kalmeo.kuix.core.KuixConverter;
+import org.kalmeo.kuix.core.KuixInitializer;
+import org.kalmeo.kuix.widget.Desktop;
+import org.kalmeo.kuix.widget.Screen;
+import org.kalmeo.kuix.widget.Text;
+import org.kalmeo.kuix.widget.Widget;
+
+/**
+ * A <code>BenchmarkSuite</code> measures a list of {@link Benchmark} and
+ * returns the results as JSON.<br>
+ * Its <code>main</code> method runs the whole suite on a standard JVM through
+ * a headless {@link KuixCanvas} and prints the results on the standard
+ * output. The <code>headless</code> source folder and the kutil library need
+ * to be in the classpath.
+ * 
+ * @author agent
+ */
+public class BenchmarkSuite {
+
+	// Default configuration
+	public static final int WARMUP_ITERATIONS = 3;
+	public static final int MIN_DURATION = 1000;
+	public static final int[] RULE_COUNTS = new int[] { 10, 100, 1000 };
+	public static final int[] TREE_SIZES = new int[] { 100, 1000, 10000 };
+	public static final int PAINT_TREE_SIZE = 100;
+	private static final int TABLE_COLUMNS = 4;
+	
+	// Generated rules : each group has one rule per selector pattern
+	private static final String[] RULE_SELECTOR_PATTERNS = new String[] { "text.benchgroup", ".benchgroup", "container .benchgroup", "screen container text.benchgroup", "popupbox .benchgroup" };
+	private static final int GROUP_COUNT = RULE_COUNTS[RULE_COUNTS.length - 1] / RULE_SELECTOR_PATTERNS.length;
+	
+	// Benchmarks styles
+	private static final String BENCHMARK_CSS = ".benchinline { layout: inlinelayout(false,fill); }"
+			+ ".benchtable { layout: tablelayout; }"
+			+ ".benchflow { layout: flowlayout(left); }"
+			+ ".benchitem { margin: 1; padding: 2; border: 1; border-color: #808080; bg-color: #f0f0f0; color: black; }"
+			+ "container text.benchitem { font-style: bold; }";
+	
+	// Benchmarks list
+	private final Vector benchmarks = new Vector();
+	
+	/**
+	 * Add a benchmark to the suite.
+	 * 
+	 * @param benchmark
+	 */
+	public void addBenchmark(Benchmark benchmark) {
+		benchmarks.addElement(benchmark);
+	}
+	
+	/**
+	 * @return the benchmarks count
+	 */
+	public int getBenchmarkCount() {
+		return benchmarks.size();
+	}
+	
+	/**
+	 * Add the CSS parser benchmarks. The rules are parsed by
+	 * <code>converter</code> without being registered.
+	 * 
+	 * @param converter
+	 */
+	public void addCssParserBenchmarks(final KuixConverter converter) {
+		for (int i = 0; i < RULE_COUNTS.length; ++i) {
+			addBenchmark(new Benchmark("parseCss", RULE_COUNTS[i]) {
+				
+				private String[] rawSelectors;
+				private String[] rawDefinitions;
+				
+				protected void setUp() {
+					rawSelectors = new String[getSize()];
+					rawDefinitions = new String[getSize()];
+					for (int j = 0; j < getSize(); ++j) {
+						rawSelectors[j] = createRuleSelector(j);
+						rawDefinitions[j] = createRuleDefinition();
+					}
+				}
+				
+				protected void run() {
+					for (int j = 0; j < rawSelectors.length; ++j) {
+						converter.convertStyleSheets(rawSelectors[j], rawDefinitions[j]);
+					}
+				}
+				
+				protected void tearDown() {
+					rawSelectors = null;
+					rawDefinitions = null;
+				}
+			
+			});
+		}
+	}
+	
+	/**
+	 * Add the benchmarks of the Kuix hot paths : CSS and XML parsing, style
+	 * resolution, layouts and desktop paint. The Kuix engine need to be
+	 * initialized with the {@link #createBenchmarkCss()} styles.
+	 * 
+	 * @param desktop
+	 */
+	public void addKuixBenchmarks(Desktop desktop) {
+		
+		// Parsing
+		addCssParserBenchmarks(Kuix.getConverter());
+		for (int i = 0; i < TREE_SIZES.length; ++i) {
+			addBenchmark(new Benchmark("loadScreen", TREE_SIZES[i]) {
+				
+				private byte[] xml;
+				
+				protected void setUp() {
+					StringBuffer buffer = new StringBuffer();
+					buffer.append("<screen title=\"Benchmark\"><container class=\"benchinline\">");
+					for (int j = 0; j < getSize(); ++j) {
+						buffer.append("<text class=\"benchitem benchgroup").append(j % GROUP_COUNT).append("\">Item ").append(j).append("</text>");
+					}
+					buffer.append("</container></screen>");
+					xml = buffer.toString().getBytes();
+				}
+				
+				protected void run() {
+					Screen screen = Kuix.loadScreen(new ByteArrayInputStream(xml), null);
+					screen.cleanUp();
+				}
+				
+				protected void tearDown() {
+					xml = null;
+				}
+			
+			});
+		}
+		
+		// Style resolution and layout
+		for (int i = 0; i < TREE_SIZES.length; ++i) {
+			int size = TREE_SIZES[i];
+			addBenchmark(new TreeBenchmark("styles", size, desktop, "benchinline") {
+				
+				protected void run() {
+					getRoot().clearCachedStyles(true);
+					for (Widget widget = getRoot().getChild(); widget != null; widget = widget.next) {
+						widget.getBackgroundColor();
+						widget.getBorderColor();
+						widget.getMargin();
+						widget.getPadding();
+						widget.getBorder();
+						widget.getLayout();
+					}
+				}
+			
+			});
+			addBenchmark(new LayoutBenchmark("inlineLayout", size, desktop, "benchinline"));
+			addBenchmark(new LayoutBenchmark("tableLayout", size, desktop, "benchtable"));
+			addBenchmark(new LayoutBenchmark("flowLayout", size, desktop, "benchflow"));
+		}
+		
+		// Paint
+		addBenchmark(new PaintBenchmark("paintFull", PAINT_TREE_SIZE, desktop, 1));
+		addBenchmark(new PaintBenchmark("paintQuarter", PAINT_TREE_SIZE, desktop, 4));
+	
+	}
+	
+	/**
+	 * Add the complete frame benchmarks : each iteration invalidates the tree
+	 * items and processes one frame (revalidate and repaint) of the headless
+	 * <code>canvas</code>.
+	 * 
+	 * @param canvas a headless and initialized {@link KuixCanvas}
+	 */
+	public void addFrameBenchmarks(final KuixCanvas canvas) {
+		for (int i = 0; i < TREE_SIZES.length; ++i) {
+			addBenchmark(new TreeBenchmark("processFrame", TREE_SIZES[i], canvas.getDesktop(), "benchinline") {
+				
+				protected void setUp() {
+					super.setUp();
+					canvas.processFrame();
+				}
+				
+				protected void run() {
+					for (Widget widget = getRoot().getChild(); widget != null; widget = widget.next) {
+						widget.invalidate();
+					}
+					canvas.processFrame();
+				}
+			
+			});
+		}
+	}
+	
+	/**
+	 * Measure all benchmarks.
+	 * 
+	 * @param warmupIterations
+	 * @param minDuration the minimal measure duration of each benchmark in
+	 *            milliseconds
+	 * @return the results as a JSON object
+	 */
+	public String run(int warmupIterations, int minDuration) {
+		StringBuffer buffer = new StringBuffer();
+		buffer.append("{\"version\":\"").append(KuixConstants.VERSION).append("\",\"benchmarks\":[");
+		for (int i = 0; i < benchmarks.size(); ++i) {
+			Benchmark benchmark = (Benchmark) benchmarks.elementAt(i);
+			benchmark.measure(warmupIterations, minDuration);
+			if (i != 0) {
+				buffer.append(',');
+			}
+			benchmark.appendJson(buffer);
+		}
+		buffer.append("]}");
+		return buffer.toString();
+	}
+	
+	/**
+	 * Returns the style sheet used by the benchmarks : the tree layouts and
+	 * items styles followed by the largest generated style sheet.
+	 * 
+	 * @return the style sheet
+	 */
+	public static String createBenchmarkCss() {
+		return BENCHMARK_CSS + createCss(RULE_COUNTS[RULE_COUNTS.length - 1]);
+	}
+	
+	/**
+	 * Returns a CSS style sheet of <code>ruleCount</code> generated rules.
+	 * The rules mix tag, class and contextual selectors on the
+	 * <code>benchgroup*</code> classes of the benchmark tree items. Some of
+	 * the contextual rules don't match.
+	 * 
+	 * @param ruleCount
+	 * @return the style sheet
+	 */
+	public static String createCss(int ruleCount) {
+		StringBuffer buffer = new StringBuffer();
+		for (int i = 0; i < ruleCount; ++i) {
+			buffer.append(createRuleSelector(i)).append(" {").append(createRuleDefinition()).append("}\n");
+		}
+		return buffer.toString();
+	}
+	
+	/**
+	 * @param index
+	 * @return the selectors of the generated rule at <code>index</code>
+	 */
+	private static String createRuleSelector(int index) {
+		return RULE_SELECTOR_PATTERNS[index % RULE_SELECTOR_PATTERNS.length] + (index / RULE_SELECTOR_PATTERNS.length % GROUP_COUNT);
+	}
+	
+	/**
+	 * @return the definitions of a generated rule
+	 */
+	private static String createRuleDefinition() {
+		return " margin: 1; padding: 2 1 2 1; bg-color: #123456; color: white; font-style: bold; ";
+	}
+	
+	/**
+	 * Run the whole suite on a headless {@link KuixCanvas} and print the
+	 * results as JSON on the standard output.
+	 * 
+	 * @param args
+	 */
+	public static void main(String[] args) {
+		KuixCanvas canvas = new KuixCanvas(new KuixInitializer() {
+			
+			public MIDlet getMIDlet() {
+				return null;
+			}
+			
+			public int getInitializationBackgroundColor() {
+				return 0xFFFFFF;
+			}
+			
+			public int getInitializationMessageColor() {
+				return 0x000000;
+			}
+			
+			public String getInitializationMessage() {
+				return null;
+			}
+			
+			public String getInitializationImageFile() {
+				return null;
+			}
+			
+			public void initDesktopStyles() {
+				Kuix.loadCss(new ByteArrayInputStream(createBenchmarkCss().getBytes()));
+			}
+			
+			public void initDesktopContent(Desktop desktop) {
+			}
+			
+			public void destroyImpl() {
+			}
+			
+			public void processDebugInfosKeyEvent() {
+			}
+		
+		}, true);
+		canvas.setHeadless(true);
+		Kuix.initialize(null, canvas, null);
+		canvas.processFrame();
+		
+		BenchmarkSuite suite = new BenchmarkSuite();
+		suite.addKuixBenchmarks(canvas.getDesktop());
+		suite.addFrameBenchmarks(canvas);
+		System.out.println(suite.run(WARMUP_ITERATIONS, MIN_DURATION));
+	}
+	
+	/**
+	 * This class represents a benchmark on a screen that contains a
+	 * <code>size</code> widgets tree
+	 */
+	private static abstract class TreeBenchmark extends Benchmark {
+		
+		protected final Desktop desktop;
+		private final String layoutClass;
+		private Screen screen;
+		private Widget root;
+		
+		/**
+		 * Construct a {@link TreeBenchmark}
+		 * 
+		 * @param name
+		 * @param size
+		 * @param desktop
+		 * @param layoutClass
+		 */
+		public TreeBenchmark(String name, int size, Desktop desktop, String layoutClass) {
+			super(name, size);
+			this.desktop = desktop;
+			this.layoutClass = layoutClass;
+		}
+		
+		/**
+		 * @return the tree root widget
+		 */
+		protected Widget getRoot() {
+			return root;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.kalmeo.debug.kuix.benchmark.Benchmark#setUp()
+		 */
+		protected void setUp() {
+			screen = new Screen();
+			root = new Widget(KuixConstants.CONTAINER_WIDGET_TAG);
+			root.setStyleClass(layoutClass);
+			boolean table = "benchtable".equals(layoutClass);
+			for (int i = 0; i < getSize(); ++i) {
+				if (table && i != 0 && i % TABLE_COLUMNS == 0) {
+					root.add(new Widget(KuixConstants.BREAK_WIDGET_TAG));
+				}
+				Text text = new Text();
+				text.setStyleClasses(new String[] { "benchitem", "benchgroup" + (i % GROUP_COUNT) });
+				text.setText("Item " + i);
+				root.add(text);
+			}
+			screen.add(root);
+			screen.setCurrent();
+			desktop.revalidate();
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.kalmeo.debug.kuix.benchmark.Benchmark#tearDown()
+		 */
+		protected void tearDown() {
+			screen.cleanUp();
+			screen = null;
+			root = null;
+		}
+	
+	}
+	
+	/**
+	 * This class represents a full relayout benchmark
+	 */
+	private static class LayoutBenchmark extends TreeBenchmark {
+		
+		/**
+		 * Construct a {@link LayoutBenchmark}
+		 * 
+		 * @param name
+		 * @param size
+		 * @param desktop
+		 * @param layoutClass
+		 */
+		public LayoutBenchmark(String name, int size, Desktop desktop, String layoutClass) {
+			super(name, size, desktop, layoutClass);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.kalmeo.debug.kuix.benchmark.Benchmark#run()
+		 */
+		protected void run() {
+			for (Widget widget = getRoot().getChild(); widget != null; widget = widget.next) {
+				widget.invalidate();
+			}
+			desktop.revalidate();
+		}
+	
+	}
+	
+	/**
+	 * This class represents a desktop paint benchmark
+	 */
+	private static class PaintBenchmark extends TreeBenchmark {
+		
+		private final int clipDivider;
+		private Image image;
+		private Graphics graphics;
+		
+		/**
+		 * Construct a {@link PaintBenchmark}
+		 * 
+		 * @param name
+		 * @param size
+		 * @param desktop
+		 * @param clipDivider the clip height is the desktop height divided
+		 *            by this value
+		 */
+		public PaintBenchmark(String name, int size, Desktop desktop, int clipDivider) {
+			super(name, size, desktop, "benchinline");
+			this.clipDivider = clipDivider;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.kalmeo.debug.kuix.benchmark.BenchmarkSuite.TreeBenchmark#setUp()
+		 */
+		protected void setUp() {
+			super.setUp();
+			image = Image.createImage(desktop.getWidth(), desktop.getHeight());
+			graphics = image.getGraphics();
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.kalmeo.debug.kuix.benchmark.Benchmark#run()
+		 */
+		protected void run() {
+			graphics.setClip(0, 0, desktop.getWidth(), desktop.getHeight() / clipDivider);
+			desktop.paintImpl(graphics);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.kalmeo.debug.kuix.benchmark.BenchmarkSuite.TreeBenchmark#tearDown()
+		 */
+		protected void tearDown() {
+			super.tearDown();
+			image = null;
+			graphics = null;
+		}
+	
+	}
+
+}
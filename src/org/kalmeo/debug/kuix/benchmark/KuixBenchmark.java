@@ -0,0 +1,84 @@
+/*
+ * This file is part of org.kalmeo.debug.kuix.benchmark.
+ * 
+ * org.kalmeo.debug.kuix.benchmark is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.kalmeo.debug.kuix.benchmark is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.debug.kuix.benchmark.  If not, see <http://www.gnu.org/licenses/>.
+ *  
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.debug.kuix.benchmark;
+
+import java.io.ByteArrayInputStream;
+
+import org.kalmeo.kuix.core.Kuix;
+import org.kalmeo.kuix.core.KuixMIDlet;
+import org.kalmeo.kuix.widget.Desktop;
+import org.kalmeo.kuix.widget.Screen;
+import org.kalmeo.kuix.widget.Text;
+import org.kalmeo.util.worker.Worker;
+import org.kalmeo.util.worker.WorkerTask;
+
+/**
+ * This MIDlet runs the Kuix hot paths benchmarks (style resolution, layout,
+ * XML and CSS parsing, paint) and prints the results as JSON on the standard
+ * output. The same benchmarks can also be run on a standard JVM without a
+ * MIDlet (@see BenchmarkSuite#main(String[])).
+ * 
+ * @author agent
+ */
+public class KuixBenchmark extends KuixMIDlet {
+
+	private Text statusText;
+	
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.core.KuixMIDlet#initDesktopStyles()
+	 */
+	public void initDesktopStyles() {
+		
+		// The style resolution benchmarks run against a large style sheet
+		Kuix.loadCss(new ByteArrayInputStream(BenchmarkSuite.createBenchmarkCss().getBytes()));
+		
+	}
+
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.core.KuixMIDlet#initDesktopContent(org.kalmeo.kuix.widget.Desktop)
+	 */
+	public void initDesktopContent(final Desktop desktop) {
+		final Screen screen = new Screen();
+		screen.setTitle("Kuix benchmark");
+		statusText = new Text();
+		statusText.setText("Running...");
+		screen.add(statusText);
+		screen.setCurrent();
+		
+		// Benchmarks are executed by the Worker to be synchronized with the canvas frames
+		Worker.instance.pushTask(new WorkerTask() {
+
+			/* (non-Javadoc)
+			 * @see org.kalmeo.util.worker.WorkerTask#run()
+			 */
+			public boolean run() {
+				BenchmarkSuite suite = new BenchmarkSuite();
+				suite.addKuixBenchmarks(desktop);
+				System.out.println(suite.run(BenchmarkSuite.WARMUP_ITERATIONS, BenchmarkSuite.MIN_DURATION));
+				screen.setCurrent();
+				statusText.setText("Done : " + suite.getBenchmarkCount() + " benchmarks");
+				return true;
+			}
+			
+		});
+	}
+	
+}
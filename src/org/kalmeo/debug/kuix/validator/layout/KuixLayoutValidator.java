@@ -0,0 +1,151 @@
+/*
+ * This file is part of org.kalmeo.debug.kuix.validator.layout.
+ * 
+ * org.kalmeo.debug.kuix.validator.layout is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.kalmeo.debug.kuix.validator.layout is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.debug.kuix.validator.layout.  If not, see <http://www.gnu.org/licenses/>.
+ *  
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.debug.kuix.validator.layout;
+
+import org.kalmeo.kuix.core.KuixConstants;
+import org.kalmeo.kuix.core.KuixMIDlet;
+import org.kalmeo.kuix.widget.Desktop;
+import org.kalmeo.kuix.widget.Screen;
+import org.kalmeo.kuix.widget.Text;
+import org.kalmeo.kuix.widget.Widget;
+import org.kalmeo.util.worker.Worker;
+import org.kalmeo.util.worker.WorkerTask;
+
+/**
+ * This MIDlet validates the relayout boundaries revalidation : a boundary
+ * invalidated in the same frame as an unrelated subtree that causes a desktop
+ * layout need to be laid out, and a later change in its content need to be
+ * laid out too. The result is displayed and printed on the standard output.
+ * 
+ * @author agent
+ */
+public class KuixLayoutValidator extends KuixMIDlet {
+
+	// Number of worker loops to wait for a layout before failing
+	private static final int MAX_WAIT_COUNT = 50;
+	
+	private Text resultText;
+	
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.core.KuixMIDlet#initDesktopStyles()
+	 */
+	public void initDesktopStyles() {
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.core.KuixMIDlet#initDesktopContent(org.kalmeo.kuix.widget.Desktop)
+	 */
+	public void initDesktopContent(Desktop desktop) {
+		Screen screen = new Screen();
+		screen.setAttribute("style", "layout:inlinelayout(false,fill)");
+		screen.setTitle("Kuix layout validator");
+		resultText = new Text();
+		resultText.setText("Running...");
+		screen.add(resultText);
+		
+		// The boundary parent is not an ancestor of the sibling text : it stays valid when the sibling changes
+		Widget boundaryParent = new Widget(KuixConstants.CONTAINER_WIDGET_TAG);
+		boundaryParent.setAttribute("style", "layout:inlinelayout(false,fill)");
+		final Widget boundary = new Widget(KuixConstants.CONTAINER_WIDGET_TAG);
+		boundary.setAttribute("style", "layout:inlinelayout(false,fill);min-size:100 40");
+		boundary.setRelayoutBoundary(true);
+		final Text boundaryText = new Text();
+		boundaryText.setText("Boundary");
+		boundary.add(boundaryText);
+		boundaryParent.add(boundary);
+		screen.add(boundaryParent);
+		final Text siblingText = new Text();
+		siblingText.setText("Sibling");
+		screen.add(siblingText);
+		screen.setCurrent();
+		
+		// The scenario is executed by the Worker to be synchronized with the canvas frames
+		Worker.instance.pushTask(new WorkerTask() {
+			
+			private int step = 0;
+			private int waitCount = 0;
+
+			/* (non-Javadoc)
+			 * @see org.kalmeo.util.worker.WorkerTask#run()
+			 */
+			public boolean run() {
+				switch (step) {
+					
+					case 0:
+						// Wait for the initial layout
+						if (isValid(boundary) && isValid(siblingText)) {
+							boundaryText.setText("Boundary changed");	// Queues the boundary
+							siblingText.setText("Sibling changed");		// Queues a desktop layout in the same frame
+							nextStep();
+						}
+						return waitOrFail("Initial layout not done");
+						
+					case 1:
+						// Wait for the desktop layout, the boundary need to be laid out in the same frame
+						if (isValid(siblingText)) {
+							if (!isValid(boundary)) {
+								return fail("Boundary not laid out with the desktop layout");
+							}
+							boundaryText.setText("Boundary changed again");
+							nextStep();
+						}
+						return waitOrFail("Desktop layout not done");
+						
+					case 2:
+						// A later change inside the boundary need to be laid out too
+						if (isValid(boundary)) {
+							return done("PASS");
+						}
+						return waitOrFail("Boundary content change not laid out");
+						
+				}
+				return true;
+			}
+			
+			private boolean isValid(Widget widget) {
+				return widget.isInWidgetTree() && !widget.isInvalidated();
+			}
+			
+			private void nextStep() {
+				step++;
+				waitCount = 0;
+			}
+			
+			private boolean waitOrFail(String message) {
+				if (waitCount++ > MAX_WAIT_COUNT) {
+					return fail(message);
+				}
+				return false;
+			}
+			
+			private boolean fail(String message) {
+				return done("FAIL : " + message);
+			}
+			
+			private boolean done(String result) {
+				resultText.setText(result);
+				return true;
+			}
+			
+		});
+	}
+	
+}
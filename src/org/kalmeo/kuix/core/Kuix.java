@@ -36,9 +36,12 @@ import javax.microedition.lcdui.Display;
 
 import org.kalmeo.kuix.core.model.DataProvider;
 import org.kalmeo.kuix.core.style.Style;
+import org.kalmeo.kuix.core.style.StyleIndex;
 import org.kalmeo.kuix.core.style.StyleProperty;
 import org.kalmeo.kuix.core.style.StyleSelector;
 import org.kalmeo.kuix.util.Method;
+import org.kalmeo.kuix.util.MosaicImageCache;
+import org.kalmeo.kuix.util.TextMetricsCache;
 import org.kalmeo.kuix.widget.Menu;
 import org.kalmeo.kuix.widget.MenuItem;
 import org.kalmeo.kuix.widget.Picture;
@@ -70,8 +73,8 @@ public final class Kuix {
 	// FrameHandler
 	private static final FrameHandler frameHandler = new FrameHandler();
 
-	// List of registred styles
-	private static final LinkedList registredStyles = new LinkedList();
+	// Registred styles indexed by their rightmost selector keys
+	private static final StyleIndex registredStyleIndex = new StyleIndex();
 
 	// The converter used to convert string representation to java object
 	private static KuixConverter converter;
@@ -84,6 +87,12 @@ public final class Kuix {
 	// Used in Screen an PopupBox widgets to determine if firstXX is on the left and then the secondXX on the right
 	public static boolean firstIsLeft = true;
 	
+	// Maximum memory (in bytes) used by the widgets offscreen layers (@see Widget.setLayerCached(boolean))
+	public static int layerCacheBudget = KuixConstants.DEFAULT_LAYER_CACHE_BUDGET;
+	
+	// Maximum memory (in bytes) used by the prerendered background and border image mosaics (@see MosaicImageCache)
+	public static int mosaicCacheBudget = KuixConstants.DEFAULT_MOSAIC_CACHE_BUDGET;
+	
 	// Alert label renderers customization
 	private static ByteArrayInputStream alertOkLabelRenderer;
 	private static ByteArrayInputStream alertCancelLabelRenderer;
@@ -135,7 +144,10 @@ public final class Kuix {
 
 	/**
 	 * Initialize the Kuix engine be giving the {@link KuixCanvas} object
-	 * instance.
+	 * instance.<br>
+	 * The {@link Worker} is not started for a headless canvas (see
+	 * {@link KuixCanvas#setHeadless(boolean)}) : frames are driven by
+	 * {@link KuixCanvas#processFrame()} and no other task runs concurrently.
 	 * 
 	 * @param display the {@link Display} instance. Set this value to
 	 *            <code>null</code> if you don't want the <code>canvas</code> is
@@ -151,7 +163,7 @@ public final class Kuix {
 		}
 		
 		// Starts the Worker if not running
-		if (!Worker.instance.isRunning()) {
+		if (!canvas.isHeadless() && !Worker.instance.isRunning()) {
 			Worker.instance.start();
 		}
 		
@@ -557,6 +569,19 @@ public final class Kuix {
 		return parseXml(null, inputStream, dataProvider, false);
 	}
 	
+	/**
+	 * Load a {@link Widget} from a {@link WidgetTemplate}. The template XML is
+	 * not parsed again, then this method is preferred to load the same widget
+	 * definition many times (i.e: list items).
+	 * 
+	 * @param template
+	 * @param dataProvider
+	 * @return The loaded {@link Widget} instance
+	 */
+	public static Widget loadWidget(WidgetTemplate template, DataProvider dataProvider) {
+		return parseXml(null, null, template, dataProvider, false);
+	}
+	
 	// Menu ////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
@@ -698,6 +723,8 @@ public final class Kuix {
 	 */
 	public static void loadCss(InputStream inputStream) {
 		parseCss(inputStream);
+		MosaicImageCache.clear();
+		TextMetricsCache.clear();
 		if (canvas != null && canvas.getDesktop() != null) {
 			// Clear all style caches to use new loaded styles
 			canvas.getDesktop().clearCachedStyles(true);
@@ -787,14 +814,29 @@ public final class Kuix {
 	 * @param mergeRootWidget
 	 * @throws Exception
 	 */
-	private static Widget parseXml(final Widget rootWidget, InputStream inputStream, final DataProvider dataProvider, final boolean mergeRootWidget) {
-		if (inputStream != null) {
+	private static Widget parseXml(Widget rootWidget, InputStream inputStream, DataProvider dataProvider, boolean mergeRootWidget) {
+		return parseXml(rootWidget, inputStream, null, dataProvider, mergeRootWidget);
+	}
+	
+	/**
+	 * Parse the XML <code>inputStream</code> or replay the
+	 * <code>template</code> events to build the corresponding widget tree.
+	 * 
+	 * @param rootWidget
+	 * @param inputStream
+	 * @param template
+	 * @param dataProvider
+	 * @param mergeRootWidget
+	 * @throws Exception
+	 */
+	private static Widget parseXml(final Widget rootWidget, InputStream inputStream, final WidgetTemplate template, final DataProvider dataProvider, final boolean mergeRootWidget) {
+		if (inputStream != null || template != null) {
 			
 			// Init the root holder (used if no root widget is defined)
 			final Widget[] rootWidgetHolder = (rootWidget == null) ? new Widget[1] : null;
 			
 			try {
-				LightXmlParser.parse(inputStream, KuixConstants.DEFAULT_CHARSET_NAME, new LightXmlParserHandler() {
+				LightXmlParserHandler handler = new LightXmlParserHandler() {
 
 					private final Stack path = new Stack();
 					private final Stack internalWidgets = new Stack();
@@ -1033,10 +1075,12 @@ public final class Kuix {
 								if (!isCDATA) {
 									
 									// Convert parse property variables to their string values
-									characters = convertParsePropertyStringValues(characters.trim());
+									characters = characters.trim();
+									boolean constant = characters.indexOf(KuixConstants.PARSE_PROPERTY_START_PATTERN) == -1;
+									characters = convertParsePropertyStringValues(characters);
 									
 									// Extract possible bind properties
-									String[] properties = extractBindProperties(characters);
+									String[] properties = getBindProperties(characters, constant);
 									if (properties != null) {
 										usedWidget.setAttributeBindInstruction(usedAttribute, properties, characters);
 										// Special case for default text widget
@@ -1144,6 +1188,32 @@ public final class Kuix {
 						return rawData;
 					}
 					
+					/**
+					 * Returns the bind properties list of <code>rawData</code>.
+					 * If a template is replayed and <code>rawData</code> is
+					 * <code>constant</code>, the list is extracted once and
+					 * cached by the template.
+					 * 
+					 * @param rawData
+					 * @param constant
+					 * @return a list of all extracted bind properties or
+					 *         <code>null</code> if not bind property is defined
+					 *         in the input String.
+					 */
+					private String[] getBindProperties(String rawData, boolean constant) {
+						if (template == null || !constant) {
+							return extractBindProperties(rawData);
+						}
+						String[] properties = template.getBindProperties(rawData);
+						if (properties == null) {
+							properties = extractBindProperties(rawData);
+							template.putBindProperties(rawData, properties);
+						} else if (properties.length == 0) {
+							properties = null;
+						}
+						return properties;
+					}
+					
 					/**
 					 * Extract a bind properties list.
 					 * 
@@ -1186,7 +1256,13 @@ public final class Kuix {
 						return null;
 					}
 
-				});
+				};
+				
+				if (template != null) {
+					template.replay(handler);
+				} else {
+					LightXmlParser.parse(inputStream, KuixConstants.DEFAULT_CHARSET_NAME, handler);
+				}
 				
 				return (rootWidgetHolder == null) ? rootWidget : rootWidgetHolder[0];
 				
@@ -1402,12 +1478,7 @@ public final class Kuix {
 	 */
 	public static void registerStyle(final Style style) {
 		if (style != null) {
-			Style registredStyle = (Style) registredStyles.getFirst();
-			for (; registredStyle != null; registredStyle = (Style) registredStyle.getNext()) {
-				if (registredStyle.getSelector().equals(style.getSelector())) {
-					break;
-				}
-			}
+			Style registredStyle = registredStyleIndex.find(style.getSelector());
 			if (registredStyle != null) {
 				
 				// A style is already registred with the same selector, lets copy all StyleProperties into it.
@@ -1417,7 +1488,7 @@ public final class Kuix {
 				}
 
 			} else {
-				registredStyles.add(style);
+				registredStyleIndex.add(style);
 			}
 		}
 	}
@@ -1519,7 +1590,8 @@ public final class Kuix {
 				}
 			};
 
-			Vector styles = registredStyles.findAll(filter);
+			// Only styles that can match the widget id, classes or tag are tested
+			Vector styles = registredStyleIndex.findAll(widget.getId(), widget.getStyleClasses(), widget.getTag(), widget.getInheritedTag(), filter);
 			if (widget.getAuthorStyle() != null) {
 				// Insert the author style at the first position
 				styles.insertElementAt(widget.getAuthorStyle(), 0);
@@ -1536,7 +1608,9 @@ public final class Kuix {
 	 * Remove all registred styles
 	 */
 	public static void removeAllStyles() {
-		registredStyles.removeAll();
+		registredStyleIndex.clear();
+		MosaicImageCache.clear();
+		TextMetricsCache.clear();
 	}
 
 	// Internationalization support ////////////////////////////////////////////////////////////////////////////////////
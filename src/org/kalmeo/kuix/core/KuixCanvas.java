@@ -34,8 +34,14 @@ import javax.microedition.lcdui.Image;
 import javax.microedition.lcdui.game.GameCanvas;
 
 import org.kalmeo.kuix.core.focus.FocusManager;
+import org.kalmeo.kuix.core.model.DataProvider;
 import org.kalmeo.kuix.transition.Transition;
+import org.kalmeo.kuix.util.FrameProfiler;
+import org.kalmeo.kuix.util.InputEventQueue;
+import org.kalmeo.kuix.util.LayoutMonitor;
 import org.kalmeo.kuix.util.Metrics;
+import org.kalmeo.kuix.util.RepaintRegion;
+import org.kalmeo.kuix.util.TextMetricsCache;
 import org.kalmeo.kuix.widget.Desktop;
 import org.kalmeo.kuix.widget.Widget;
 import org.kalmeo.util.NumberUtil;
@@ -92,6 +98,9 @@ public final class KuixCanvas extends GameCanvas {
 	// Specify if the KuixCanvas is hidded
 	private boolean hidded = true;
 	
+	// Specify if frames are processed by processFrame() calls instead of the Worker
+	private boolean headless = false;
+	
 	// The GameCanvas and BuffuredImage graphics instance
 	private Graphics canvasGraphics;
 	private Graphics imageBufferGraphics;
@@ -115,11 +124,19 @@ public final class KuixCanvas extends GameCanvas {
 	private boolean needToChangeSize = false;
 	private int desiredWidth = -1;
 	private int desiredHeight = -1;
-	private Vector keyEvents;
-	private Vector pointerEvents;
+	private final InputEventQueue inputEvents = new InputEventQueue(KuixConstants.INPUT_EVENT_QUEUE_CAPACITY);
+	private boolean pointerDragsCoalesced = true;
+	private boolean keyRepeatsCoalesced = false;
 	private boolean needToRevalidate = false;
+	private boolean needToRevalidateDesktop = false;
+	private final Vector relayoutRoots = new Vector();	// Invalidated relayout boundaries (@see Widget.isRelayoutBoundary())
 	private boolean needToRepaint = false;
-	private final Metrics repaintRegion = new Metrics();
+	private final RepaintRegion repaintRegion = new RepaintRegion(KuixConstants.REPAINT_REGION_MAX_RECTANGLES, KuixConstants.REPAINT_REGION_MERGE_THRESHOLD);
+	private boolean needToScroll = false;
+	private final Metrics scrollRegion = new Metrics();
+	private Widget scrolledWidget;
+	private int scrollDx;
+	private int scrollDy;
 	private WorkerTask workerTask;
 	
 	// Facultative listener object to intercept at low level user interactions 
@@ -131,6 +148,12 @@ public final class KuixCanvas extends GameCanvas {
 	private boolean debugInfosEnabled = false;
 	private long lastFpsTickTime = 0;
 	
+	// Frame phases durations
+	private final FrameProfiler frameProfiler = new FrameProfiler(KuixConstants.FRAME_PROFILER_SAMPLE_COUNT);
+	
+	// Layout passes monitor
+	private final LayoutMonitor layoutMonitor = new LayoutMonitor(KuixConstants.LAYOUT_MAX_PASS_COUNT, KuixConstants.LAYOUT_MONITOR_MAX_REPORTED_WIDGETS);
+	
 	/**
 	 * Construct a {@link KuixCanvas}. By default the canvas is auto created by
 	 * the {@link KuixMIDlet}. But if you create it manualy @se
@@ -255,6 +278,124 @@ public final class KuixCanvas extends GameCanvas {
 		repaintNextFrame();
 	}
 
+	/**
+	 * @return the pointerDragsCoalesced
+	 */
+	public boolean isPointerDragsCoalesced() {
+		return pointerDragsCoalesced;
+	}
+
+	/**
+	 * Define if consecutive pointer dragged events queued during a frame are
+	 * coalesced into one event that carries the last pointer position. Drag
+	 * receivers could opt out with {@link Widget#isEventCoalescable(byte)}.
+	 * 
+	 * @param pointerDragsCoalesced the pointerDragsCoalesced to set
+	 */
+	public void setPointerDragsCoalesced(boolean pointerDragsCoalesced) {
+		this.pointerDragsCoalesced = pointerDragsCoalesced;
+	}
+
+	/**
+	 * @return the keyRepeatsCoalesced
+	 */
+	public boolean isKeyRepeatsCoalesced() {
+		return keyRepeatsCoalesced;
+	}
+
+	/**
+	 * Define if consecutive key repeated events of the same key queued during
+	 * a frame are coalesced into one event. The number of repeats is then
+	 * returned by {@link #getEventRepeatCount()}. Focused widgets could opt
+	 * out with {@link Widget#isEventCoalescable(byte)}.<br>
+	 * Disabled by default, because widgets that move one step per repeat
+	 * would move less.
+	 * 
+	 * @param keyRepeatsCoalesced the keyRepeatsCoalesced to set
+	 */
+	public void setKeyRepeatsCoalesced(boolean keyRepeatsCoalesced) {
+		this.keyRepeatsCoalesced = keyRepeatsCoalesced;
+	}
+
+	/**
+	 * Returns the number of queued events represented by the event being
+	 * processed. This value is greater than 1 if consecutive events has been
+	 * coalesced. It is only relevant during a key or pointer event process.
+	 * 
+	 * @return the eventRepeatCount
+	 */
+	public int getEventRepeatCount() {
+		return inputEvents.getRepeatCount();
+	}
+
+	/**
+	 * Returns the time (in milliseconds) the event being processed occurred.
+	 * If events have been coalesced, it is the time of the last one. It is
+	 * only relevant during a key or pointer event process.
+	 * 
+	 * @return the eventTimestamp
+	 */
+	public long getEventTimestamp() {
+		return inputEvents.getTimestamp();
+	}
+
+	/**
+	 * @return the headless
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	/**
+	 * Define if the canvas is headless. A headless canvas doesn't push its
+	 * frame task to the {@link Worker} : frames are processed synchronously
+	 * by calling {@link #processFrame()}, and the canvas doesn't need to be
+	 * displayed. Use it to render screens deterministically (benchmarks,
+	 * image comparison tests).<br>
+	 * On a standard JVM, put the <code>headless</code> source folder on the
+	 * classpath instead of a MIDP library : it implements the MIDP
+	 * <code>Graphics</code>, <code>Image</code> and <code>Font</code>
+	 * classes with a software rasterizer that draws into an
+	 * <code>int[]</code> ARGB buffer.<br>
+	 * This value need to be set before the Kuix engine initialization.
+	 * 
+	 * @param headless the headless to set
+	 * @throws IllegalStateException if the canvas is already initialized
+	 */
+	public void setHeadless(boolean headless) {
+		if (initialized) {
+			throw new IllegalStateException("headless couldn't be changed after initialization");
+		}
+		this.headless = headless;
+	}
+	
+	/**
+	 * Process one frame synchronously in the current thread : pending key and
+	 * pointer events, revalidation and repaint. This method is intended to be
+	 * used on a headless canvas.
+	 */
+	public void processFrame() {
+		if (!initialized) {
+			return;
+		}
+		if (!sizeInitialized) {
+			forceSizeChanged(getWidth(), getHeight());
+		}
+		workerTask.run();
+	}
+	
+	/**
+	 * Copy the last rendered frame ARGB pixels into <code>rgbData</code>.
+	 * The array length need to be at least <code>getWidth() * getHeight()</code>.
+	 * 
+	 * @param rgbData
+	 */
+	public void getFrameRGB(int[] rgbData) {
+		if (imageBuffer != null) {
+			imageBuffer.getRGB(rgbData, 0, imageBuffer.getWidth(), 0, 0, imageBuffer.getWidth(), imageBuffer.getHeight());
+		}
+	}
+	
 	/**
 	 * Define the next repaint transition. The transition delay depends on the
 	 * transition implementation.
@@ -294,7 +435,10 @@ public final class KuixCanvas extends GameCanvas {
 		int displayY = 0;
 		int displayWidth = getWidth();
 		int displayHeight = getHeight();
-		String customDisplayBounds = initializer.getMIDlet().getAppProperty(KuixConstants.KUIX_DESKTOP_BOUNDS_APP_PROPERTY);
+		String customDisplayBounds = null;
+		if (initializer.getMIDlet() != null) {
+			customDisplayBounds = initializer.getMIDlet().getAppProperty(KuixConstants.KUIX_DESKTOP_BOUNDS_APP_PROPERTY);
+		}
 		if (customDisplayBounds != null) {
 			StringTokenizer st = new StringTokenizer(customDisplayBounds, ",");
 			if (st.countTokens() == 4) {
@@ -335,8 +479,6 @@ public final class KuixCanvas extends GameCanvas {
 		}
 		
 		// Init worker's task
-		keyEvents = new Vector();
-		pointerEvents = new Vector();
 		workerTask = new WorkerTask() {
 			
 			/* (non-Javadoc)
@@ -350,50 +492,63 @@ public final class KuixCanvas extends GameCanvas {
 				
 				if (sizeInitialized) {
 				
+					// Becomes false if the layout pass cap is reached
+					boolean layoutDone = true;
+					
 					// Key events, Pointer events and revalidation are execute only if transition is not running
 					if (!transitionRunning) {
 						
-						// Key events
-						if (!keyEvents.isEmpty()) {
-							synchronized (this) {
-								for (int i = 0; i < keyEvents.size(); ++i) {
-									int[] keyEvent = ((int[]) keyEvents.elementAt(i));
-									FocusManager focusManager = desktop.getCurrentFocusManager();
-									if (focusManager != null && focusManager.processKeyEvent((byte) keyEvent[0], keyEvent[1])) {
+						// Key and pointer events (in the order they occurred)
+						if (!inputEvents.isEmpty()) {
+							boolean profile = frameProfiler.isEnabled();
+							int keyDuration = -1;
+							int pointerDuration = -1;
+							while (inputEvents.next()) {
+								long startTime = profile ? System.currentTimeMillis() : 0;
+								FocusManager focusManager = desktop.getCurrentFocusManager();
+								coalesceEvents(focusManager);
+								if (inputEvents.getKind() == InputEventQueue.KEY_EVENT) {
+									if (focusManager != null && focusManager.processKeyEvent(inputEvents.getType(), inputEvents.getKeyCode())) {
 										repaintNextFrame();
 									}
-								}
-							}
-							keyEvents.removeAllElements();
-						}
-						
-						// Pointer events
-						if (!pointerEvents.isEmpty()) {
-							synchronized (this) {
-								for (int i = 0; i < pointerEvents.size(); ++i) {
-									int[] pointerEvent = ((int[]) pointerEvents.elementAt(i));
-									FocusManager focusManager = desktop.getCurrentFocusManager();
-									if (focusManager != null && focusManager.processPointerEvent((byte) pointerEvent[0], pointerEvent[1], pointerEvent[2])) {
+									if (profile) {
+										keyDuration = Math.max(keyDuration, 0) + (int) (System.currentTimeMillis() - startTime);
+									}
+								} else {
+									if (focusManager != null && focusManager.processPointerEvent(inputEvents.getType(), inputEvents.getX(), inputEvents.getY())) {
 										repaintNextFrame();
-									} else if ((byte) pointerEvent[0] == KuixConstants.POINTER_DROPPED_EVENT_TYPE) {
+									} else if (inputEvents.getType() == KuixConstants.POINTER_DROPPED_EVENT_TYPE) {
 										if (desktop.getDraggedWidget() != null) {
 											desktop.removeDraggedWidget(true);
 										}
 									}
+									if (profile) {
+										pointerDuration = Math.max(pointerDuration, 0) + (int) (System.currentTimeMillis() - startTime);
+									}
 								}
 							}
-							pointerEvents.removeAllElements();
+							if (keyDuration != -1) {
+								frameProfiler.addSample(FrameProfiler.KEY_PHASE, keyDuration);
+							}
+							if (pointerDuration != -1) {
+								frameProfiler.addSample(FrameProfiler.POINTER_PHASE, pointerDuration);
+							}
 						}
 						
+						// Dispatch the coalesced model updates (they could invalidate widgets)
+						DataProvider.flushPendingUpdates();
+						
 						// Revalidate if needed
 						if (needToRevalidate) {
-							forceRevalidate();
+							frameProfiler.begin(FrameProfiler.REVALIDATE_PHASE);
+							layoutDone = forceRevalidate();
+							frameProfiler.end(FrameProfiler.REVALIDATE_PHASE);
 						}
 						
 					}
 					
-					// Repaint
-					if (needToRepaint) {
+					// Repaint (deferred with the layout if the pass cap is reached to avoid painting a half laid out desktop)
+					if (needToRepaint && layoutDone) {
 						forceRepaint();
 					}
 				
@@ -411,7 +566,12 @@ public final class KuixCanvas extends GameCanvas {
 		initialized = true;
 		
 		// Push the canvas worker task and then the first revalidate and repaint will be done
-		Worker.instance.pushTask(workerTask);
+		if (!headless) {
+			Worker.instance.pushTask(workerTask);
+		} else {
+			hidded = false;
+			revalidateNextFrame();
+		}
 	}
 
 	/* (non-Javadoc)
@@ -449,7 +609,7 @@ public final class KuixCanvas extends GameCanvas {
 			
 			if (message != null) {
 				Font font = Font.getDefaultFont();
-				textWidth = font.stringWidth(message);
+				textWidth = TextMetricsCache.stringWidth(font, message);
 				textHeight = font.getHeight();
 			}
 			if (image != null) {
@@ -532,25 +692,84 @@ public final class KuixCanvas extends GameCanvas {
 		repaintRegion.add(x, y, width, height);
 	}
 	
+	/**
+	 * Scroll the already painted pixels of a region through the Worker task.
+	 * Only the exposed area of the region will be repainted. Only one region
+	 * can be scrolled per frame and scrolling is not possible if a popup is
+	 * displayed, a transition is running or an other widget is painted over
+	 * the region. In these cases the full region is repainted.
+	 * 
+	 * @param scrolledWidget the widget that paints the scrolled content
+	 * @param x x coordinate of the scrolled region
+	 * @param y y coordinate of the scrolled region
+	 * @param width width of the scrolled region
+	 * @param height height of the scrolled region
+	 * @param dx the horizontal pixels displacement
+	 * @param dy the vertical pixels displacement
+	 * @return <code>true</code> if the region will be scrolled,
+	 *         <code>false</code> if it will be fully repainted
+	 */
+	public boolean scrollNextFrame(Widget scrolledWidget, int x, int y, int width, int height, int dx, int dy) {
+		if (dx == 0 && dy == 0) {
+			return true;
+		}
+		if (needToScroll && this.scrolledWidget == scrolledWidget && scrollRegion.x == x && scrollRegion.y == y && scrollRegion.width == width && scrollRegion.height == height) {
+			// Cumulate with the pending scroll
+			scrollDx += dx;
+			scrollDy += dy;
+			needToRepaint = true;
+			return true;
+		}
+		if (needToScroll || transition != null || desktop == null || desktop.hasPopups() || scrolledWidget.isOverlaid(x, y, width, height)) {
+			repaintNextFrame(x, y, width, height);
+			return false;
+		}
+		needToScroll = true;
+		this.scrolledWidget = scrolledWidget;
+		scrollRegion.setBounds(x, y, width, height);
+		scrollDx = dx;
+		scrollDy = dy;
+		needToRepaint = true;
+		return true;
+	}
+	
 	/**
 	 * Revalidate the desktop throught the Worker task. <code>repaintNextFrame</code> is automaticaly call.
 	 */
 	public void revalidateNextFrame() {
 		needToRevalidate = true;
+		needToRevalidateDesktop = true;
 		repaintNextFrame();
 	}
 	
+	/**
+	 * Revalidate only the <code>relayoutRoot</code> subtree throught the
+	 * Worker task. The widget region is repainted after its layout. This
+	 * method is called by the invalidation process when it reaches a relayout
+	 * boundary (@see Widget#isRelayoutBoundary()).
+	 * 
+	 * @param relayoutRoot
+	 */
+	public void revalidateNextFrame(Widget relayoutRoot) {
+		if (!relayoutRoots.contains(relayoutRoot)) {
+			relayoutRoots.addElement(relayoutRoot);
+		}
+		needToRevalidate = true;
+	}
+	
 	/**
 	 * Revalidate (and repaint) the desktop as soon as possible. If the current
 	 * thread is the worker thread the task is done immedialty else it is
-	 * deferred to the next frame.
+	 * deferred to the next frame. If the layout pass cap is reached, the
+	 * repaint is deferred to the next frame with the remaining layout.
 	 */
 	public void revalidateAsSoonAsPossible() {
 		if (!Worker.instance.isCurrentThread()) {
 			revalidateNextFrame();
-		} else {
-			forceRevalidate();
+		} else if (forceRevalidate()) {
 			forceRepaint();
+		} else {
+			needToRepaint = true;
 		}
 	}
 	
@@ -580,6 +799,7 @@ public final class KuixCanvas extends GameCanvas {
 		imageBuffer = Image.createImage(w, h);
 		imageBufferGraphics = imageBuffer.getGraphics();
 		canvasGraphics = getGraphics();
+		repaintRegion.setBounds(w, h);
 		if (desktop != null) {
 			desktop.setBounds(0, 0, w, h);
 		}
@@ -588,13 +808,35 @@ public final class KuixCanvas extends GameCanvas {
 
 	/**
 	 * Force desktop to be revalidated
+	 * 
+	 * @return <code>false</code> if the layout pass cap is reached and the
+	 *         layout continues on next frame
 	 */
-	private void forceRevalidate() {
-		needToRevalidate = false; // Tag as needToRevalidate = false first, because the revalidate process could cause invalidation
-		desktop.revalidate();
-		if (needToRevalidate) {
-			forceRevalidate();
-		}
+	private boolean forceRevalidate() {
+		layoutMonitor.beginFrame();
+		do {
+			if (!layoutMonitor.beginPass()) {
+				layoutMonitor.endFrame();
+				return false;	// Pass cap reached : needToRevalidate is kept and the layout continues on next frame
+			}
+			needToRevalidate = false; // Tag as needToRevalidate = false first, because the revalidate process could cause invalidation
+			if (needToRevalidateDesktop) {
+				needToRevalidateDesktop = false;
+				desktop.revalidate();
+			}
+			// Relayout roots are revalidated after the desktop because its layout skips the ones that have a valid parent
+			for (int i = 0; i < relayoutRoots.size(); ++i) {
+				Widget relayoutRoot = (Widget) relayoutRoots.elementAt(i);
+				if (relayoutRoot.isInvalidated() && relayoutRoot.isInWidgetTree()) {
+					relayoutRoot.revalidate();
+					relayoutRoot.invalidateAppearance();
+				}
+			}
+			relayoutRoots.removeAllElements();
+			layoutMonitor.endPass();
+		} while (needToRevalidate);
+		layoutMonitor.endFrame();
+		return true;
 	}
 	
 	/**
@@ -602,12 +844,22 @@ public final class KuixCanvas extends GameCanvas {
 	 */
 	private void forceRepaint() {
 		
-		// Define clip rect region
-		boolean repaintRegionOnly = !repaintRegion.isEmpty();
-		if (repaintRegionOnly) {
-			imageBufferGraphics.setClip(repaintRegion.x, repaintRegion.y, repaintRegion.width, repaintRegion.height);
+		frameProfiler.begin(FrameProfiler.PAINT_PHASE);
+		
+		// Define repaint rectangles (an empty repaint region means a full repaint)
+		if (repaintRegion.isEmpty() && !needToScroll) {
+			repaintRegion.add(0, 0, getWidth(), getHeight());
 		}
 		
+		// Scroll the image buffer pixels if needed
+		boolean scrolled = false;
+		if (needToScroll) {
+			scrolled = forceScroll();
+			needToScroll = false;
+			scrolledWidget = null;
+		}
+		int rectangleCount = repaintRegion.getCount();
+		
 		// Clear unpaintable widget list (this list would be reconstruct with the recursive Widget.paintImpl() method)
 		if (unpaintableWidgets != null) {
 			clearUnpaintableWidgets();
@@ -616,7 +868,7 @@ public final class KuixCanvas extends GameCanvas {
 		if (transition != null) {
 			if (!transitionRunning) {
 				Image oldImage = Image.createImage(imageBuffer);
-				desktop.paintImpl(imageBufferGraphics);
+				paintDesktop(rectangleCount);
 				transition.init(oldImage, imageBuffer);
 				transitionRunning = true;
 			}
@@ -626,34 +878,131 @@ public final class KuixCanvas extends GameCanvas {
 			}
 		} else {
 			// Repaint desktop
-			desktop.paintImpl(imageBufferGraphics);
+			paintDesktop(rectangleCount);
 			// Paint buffured image
-			canvasGraphics.drawImage(imageBuffer, 0, 0, 0);
+			for (int i = 0; i < rectangleCount; ++i) {
+				Metrics rectangle = repaintRegion.getRectangle(i);
+				canvasGraphics.setClip(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+				canvasGraphics.drawImage(imageBuffer, 0, 0, 0);
+			}
+			if (scrolled) {
+				canvasGraphics.setClip(scrollRegion.x, scrollRegion.y, scrollRegion.width, scrollRegion.height);
+				canvasGraphics.drawImage(imageBuffer, 0, 0, 0);
+			}
+			canvasGraphics.setClip(0, 0, getWidth(), getHeight());
 		}
 		
+		frameProfiler.end(FrameProfiler.PAINT_PHASE);
+		
 		// Debug infos
 		if (debugInfosEnabled) {
 			drawDebugInfos(canvasGraphics);
 		}
 		
 		// FlushGraphics
-		if (unpaintableWidgets == null || unpaintableWidgets.isEmpty()) {
-			if (repaintRegionOnly) {
-				flushGraphics(repaintRegion.x, repaintRegion.y, repaintRegion.width, repaintRegion.height);
-			} else {
-				flushGraphics();
-			}
+		frameProfiler.begin(FrameProfiler.FLUSH_PHASE);
+		if (repaintRegion.isFull() && (unpaintableWidgets == null || unpaintableWidgets.isEmpty())) {
+			flushGraphics();
 		} else {
-			if (repaintRegionOnly) {
-				flushRegion(repaintRegion.x, repaintRegion.y, repaintRegion.width, repaintRegion.height);
-			} else {
-				flushRegion(0, 0, getWidth(), getHeight());
+			for (int i = 0; i < rectangleCount; ++i) {
+				flushRectangle(repaintRegion.getRectangle(i));
+			}
+			if (scrolled) {
+				flushRectangle(scrollRegion);
 			}
 		}
-		repaintRegion.setBounds(0, 0, 0, 0);
+		frameProfiler.end(FrameProfiler.FLUSH_PHASE);
+		repaintRegion.clear();
 		
 		needToRepaint = false || transitionRunning;
 	}
+	
+	/**
+	 * Scroll the scrollRegion pixels of the image buffer and add the exposed
+	 * area to the repaint region. If the image buffer can't be reused, the
+	 * full scrollRegion is added to the repaint region.
+	 * 
+	 * @return <code>true</code> if the image buffer is scrolled
+	 */
+	private boolean forceScroll() {
+		
+		// Clip the scroll region to the display
+		int right = Math.min(scrollRegion.x + scrollRegion.width, getWidth());
+		int bottom = Math.min(scrollRegion.y + scrollRegion.height, getHeight());
+		scrollRegion.x = Math.max(scrollRegion.x, 0);
+		scrollRegion.y = Math.max(scrollRegion.y, 0);
+		scrollRegion.width = right - scrollRegion.x;
+		scrollRegion.height = bottom - scrollRegion.y;
+		if (scrollRegion.width <= 0 || scrollRegion.height <= 0) {
+			return false;
+		}
+		
+		// The image buffer pixels can't be reused if they are overlaid, already fully repainted, or completely scrolled out
+		if (transition != null 
+				|| desktop.hasPopups() 
+				|| scrolledWidget.isOverlaid(scrollRegion.x, scrollRegion.y, scrollRegion.width, scrollRegion.height) 
+				|| repaintRegion.isFull() 
+				|| (unpaintableWidgets != null && !unpaintableWidgets.isEmpty())
+				|| Math.abs(scrollDx) >= scrollRegion.width 
+				|| Math.abs(scrollDy) >= scrollRegion.height) {
+			repaintRegion.add(scrollRegion.x, scrollRegion.y, scrollRegion.width, scrollRegion.height);
+			return false;
+		}
+		
+		// Dirty rectangles painted before the scroll need to be repainted at their new position too
+		repaintRegion.addTranslated(scrollRegion.x, scrollRegion.y, scrollRegion.width, scrollRegion.height, scrollDx, scrollDy);
+		
+		// Move the still visible pixels
+		imageBufferGraphics.setClip(scrollRegion.x, scrollRegion.y, scrollRegion.width, scrollRegion.height);
+		imageBufferGraphics.copyArea(	scrollRegion.x + Math.max(0, -scrollDx), 
+										scrollRegion.y + Math.max(0, -scrollDy), 
+										scrollRegion.width - Math.abs(scrollDx), 
+										scrollRegion.height - Math.abs(scrollDy), 
+										scrollRegion.x + Math.max(0, scrollDx), 
+										scrollRegion.y + Math.max(0, scrollDy), 
+										Graphics.TOP | Graphics.LEFT);
+		
+		// Add exposed areas
+		if (scrollDx > 0) {
+			repaintRegion.add(scrollRegion.x, scrollRegion.y, scrollDx, scrollRegion.height);
+		} else if (scrollDx < 0) {
+			repaintRegion.add(scrollRegion.x + scrollRegion.width + scrollDx, scrollRegion.y, -scrollDx, scrollRegion.height);
+		}
+		if (scrollDy > 0) {
+			repaintRegion.add(scrollRegion.x, scrollRegion.y, scrollRegion.width, scrollDy);
+		} else if (scrollDy < 0) {
+			repaintRegion.add(scrollRegion.x, scrollRegion.y + scrollRegion.height + scrollDy, scrollRegion.width, -scrollDy);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Flush graphics on the given rectangle.
+	 * 
+	 * @param rectangle
+	 */
+	private void flushRectangle(Metrics rectangle) {
+		if (unpaintableWidgets == null || unpaintableWidgets.isEmpty()) {
+			flushGraphics(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+		} else {
+			flushRegion(rectangle.x, rectangle.y, rectangle.x + rectangle.width, rectangle.y + rectangle.height);
+		}
+	}
+	
+	/**
+	 * Paint the desktop into the image buffer once per repaint region
+	 * rectangle.
+	 * 
+	 * @param rectangleCount
+	 */
+	private void paintDesktop(int rectangleCount) {
+		for (int i = 0; i < rectangleCount; ++i) {
+			Metrics rectangle = repaintRegion.getRectangle(i);
+			imageBufferGraphics.setClip(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+			desktop.paintImpl(imageBufferGraphics);
+		}
+	}
 
 	/**
 	 * Flush graphics on a specific region by excluding unpaintaible regions
@@ -677,7 +1026,7 @@ public final class KuixCanvas extends GameCanvas {
 		}
 		if (widget == null) {
 			// Flush the current display area
-			flushGraphics(xMin, yMin, xMax, yMax); 
+			flushGraphics(xMin, yMin, xMax - xMin, yMax - yMin); 
 			return;
 		}
 		
@@ -799,6 +1148,27 @@ public final class KuixCanvas extends GameCanvas {
 		}
 	}
 	
+	/**
+	 * Returns the {@link FrameProfiler} that measures the duration of each
+	 * frame phase (key and pointer events dispatch, revalidate, paint and
+	 * flush).
+	 * 
+	 * @return the frameProfiler
+	 */
+	public FrameProfiler getFrameProfiler() {
+		return frameProfiler;
+	}
+	
+	/**
+	 * Returns the {@link LayoutMonitor} that counts the layout passes of each
+	 * frame and reports the widgets invalidated again by their own layout.
+	 * 
+	 * @return the layoutMonitor
+	 */
+	public LayoutMonitor getLayoutMonitor() {
+		return layoutMonitor;
+	}
+	
 	/**
 	 * Draw debugInfos to the given {@link Graphics}
 	 * 
@@ -861,6 +1231,12 @@ public final class KuixCanvas extends GameCanvas {
 				.append("\nplatform : ").append(getPlatformName())
 				.append("\ntotalMemory : ").append(totalMemory)
 				.append("\nfreeMemory : ").append(freeMemory)
+				.append("\ndropped input events : ").append(inputEvents.getOverflowCount())
+				.append('\n').append(frameProfiler.toString())
+				.append('\n').append(layoutMonitor.toString())
+				.append('\n').append(TextMetricsCache.getStatistics())
+				.append('\n').append(Widget.getPreferredSizeCacheStatistics())
+				.append('\n').append(Widget.getComputedStyleStatistics())
 				.append('\n').append(Kuix.getFrameHandler().toString());
 		
 		return buffer.toString();
@@ -889,12 +1265,13 @@ public final class KuixCanvas extends GameCanvas {
 	}
 
 	/**
-	 * Process the key events
+	 * Process the key events. This method could also be used to inject key
+	 * events in a headless canvas.
 	 * 
 	 * @param type
 	 * @param keyCode
 	 */
-	protected void processKeyEvent(byte type, int keyCode) {
+	public void processKeyEvent(byte type, int keyCode) {
 		if (initialized) {
 			
 			int kuixKeyCode = adoptKeyCode(keyCode);
@@ -913,9 +1290,7 @@ public final class KuixCanvas extends GameCanvas {
 			}
 			
 			// Add event to queue
-			synchronized (this) {
-				keyEvents.addElement(new int[] { type, kuixKeyCode });
-			}
+			inputEvents.postKeyEvent(type, kuixKeyCode);
 			
 			// Propagate the event to the interactionListener
 			if (interactionListener != null) {
@@ -925,6 +1300,34 @@ public final class KuixCanvas extends GameCanvas {
 		}
 	}
 	
+	/**
+	 * Coalesce the current input event with the next consecutive events of
+	 * the same type, if it is allowed by the canvas and the receiver.
+	 * 
+	 * @param focusManager the current focusManager
+	 */
+	private void coalesceEvents(FocusManager focusManager) {
+		if (focusManager == null) {
+			return;
+		}
+		byte type = inputEvents.getType();
+		Widget receiver;
+		if (inputEvents.getKind() == InputEventQueue.POINTER_EVENT) {
+			if (!pointerDragsCoalesced || type != KuixConstants.POINTER_DRAGGED_EVENT_TYPE) {
+				return;
+			}
+			receiver = focusManager.getDraggedEventWidget();	// null on the first drag event : the receiver is not known yet
+		} else {
+			if (!keyRepeatsCoalesced || type != KuixConstants.KEY_REPEATED_EVENT_TYPE) {
+				return;
+			}
+			receiver = focusManager.getFocusedWidget();
+		}
+		if (receiver != null && receiver.isEventCoalescable(type)) {
+			inputEvents.coalesceAll();
+		}
+	}
+	
 	/* (non-Javadoc)
 	 * @see javax.microedition.lcdui.Canvas#pointerDragged(int, int)
 	 */
@@ -959,17 +1362,16 @@ public final class KuixCanvas extends GameCanvas {
 	}
 
 	/**
-	 * Common process for pointer events
+	 * Common process for pointer events. This method could also be used to
+	 * inject pointer events in a headless canvas.
 	 * 
 	 * @param type
 	 * @param x
 	 * @param y
 	 */
-	protected void processPointerEvent(final byte type, final int x, final int y) {
+	public void processPointerEvent(final byte type, final int x, final int y) {
 		if (initialized) {
-			synchronized (this) {
-				pointerEvents.addElement(new int[] { type, x, y });
-			}
+			inputEvents.postPointerEvent(type, x, y);
 			
 			// Propagate the event to the interactionListener
 			if (interactionListener != null) {
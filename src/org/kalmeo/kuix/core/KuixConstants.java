@@ -49,6 +49,32 @@ public interface KuixConstants {
 	
 	public static final String DEFAULT_CHARSET_NAME							= "UTF-8";
 	public static final int SCROLL_BOOSTER_FACTOR							= 2;
+	public static final int SCROLL_VELOCITY_SAMPLE_COUNT					= 5;
+	public static final int SCROLL_VELOCITY_WINDOW							= 150;	// In ms
+	public static final int SCROLL_FLING_MIN_VELOCITY						= 150;	// In pixels per second
+	public static final int SCROLL_FLING_MAX_VELOCITY						= 4000;	// In pixels per second
+	public static final int SCROLL_FLING_DECELERATION						= 2000;	// In pixels per second per second
+	
+	public static final int REPAINT_REGION_MAX_RECTANGLES					= 8;
+	public static final int REPAINT_REGION_MERGE_THRESHOLD					= 30;	// Wasted area percentage
+	
+	public static final int DEFAULT_LAYER_CACHE_BUDGET						= 256 * 1024;	// In bytes
+	
+	public static final int DEFAULT_MOSAIC_CACHE_BUDGET						= 128 * 1024;	// In bytes
+	public static final int MOSAIC_CACHE_MAX_ENTRIES						= 32;
+	
+	public static final int FRAME_PROFILER_SAMPLE_COUNT						= 32;
+	public static final int LAYOUT_MAX_PASS_COUNT							= 4;	// Per frame
+	public static final int LAYOUT_MONITOR_MAX_REPORTED_WIDGETS				= 8;
+	
+	public static final int VIRTUAL_LIST_OVERSCAN							= 2;	// In rows
+	public static final int VIRTUAL_LIST_MAX_RECYCLED_ROWS					= 16;
+	
+	public static final int INPUT_EVENT_QUEUE_CAPACITY						= 64;
+	public static final int HIT_TEST_INDEX_MIN_CHILDREN						= 8;
+	public static final int TEXT_METRICS_CACHE_MAX_ENTRIES					= 256;
+	public static final int PREFERRED_SIZE_CACHE_SIZE						= 3;	// In entries per widget
+	public static final int COMPUTED_STYLE_MAX_SHARED_CHILDREN				= 16;	// Per parent computed style
 	
 	public static final int ALERT_DEFAULT									= 0;
 	public static final int ALERT_DEBUG										= 1 << 0;
@@ -147,10 +173,13 @@ public interface KuixConstants {
 	public static final String RELEASED_SHORTCUTS_ATTRIBUTE 				= "releasedshortcuts";
 	public static final String HORIZONTAL_ATTRIBUTE 						= "horizontal";
 	public static final String AUTO_SCROLL_ATTRIBUTE 						= "autoscroll";
+	public static final String KINETIC_ATTRIBUTE 							= "kinetic";
 	public static final String SHOW_SCROLL_BAR_ATTRIBUTE 					= "showscrollbar";
 	public static final String SHOW_INDICATORS_ATTRIBUTE 					= "showindicators";
 	public static final String RENDERER_ATTRIBUTE 							= "renderer";
 	public static final String ITEMS_ATTRIBUTE 								= "items";
+	public static final String VIRTUAL_ATTRIBUTE 							= "virtual";
+	public static final String RECONCILE_ITEMS_ATTRIBUTE 					= "reconcileitems";
 	public static final String DATAPROVIDER_ATTRIBUTE 						= "dataprovider";
 	public static final String FOCUS_LOOP_ATTRIBUTE 						= "focusloop";
 	public static final String CLEAN_UP_WHEN_REMOVED_ATTRIBUTE 				= "cleanupwhenremoved";
@@ -161,6 +190,8 @@ public interface KuixConstants {
 	public static final String CURRENT_TABITEM_ATTRIBUTE					= "currenttabitem";
 	public static final String FOCUSED_WIDGET_ATTRIBUTE						= "focusedwidget";
 	public static final String FOCUS_SLIDE_ONLY_WIDGET_ATTRIBUTE			= "focusslideonly";
+	public static final String LAYER_CACHED_ATTRIBUTE						= "layercached";
+	public static final String RELAYOUT_BOUNDARY_ATTRIBUTE					= "relayoutboundary";
 	
 	public static final String ON_FOCUS_ATTRIBUTE 							= "onfocus";
 	public static final String ON_LOST_FOCUS_ATTRIBUTE 						= "onlostfocus";
@@ -206,6 +237,33 @@ public interface KuixConstants {
 	
 	public static final String GRAYED_COLOR_STYLE_PROPERTY					= "grayed-color";
 	
+	// Style properties ids (@see StyleProperty.findId(String))
+	public static final int COLOR_STYLE_PROPERTY_ID							= 0;
+	public static final int FONT_FACE_STYLE_PROPERTY_ID						= 1;
+	public static final int FONT_STYLE_STYLE_PROPERTY_ID					= 2;
+	public static final int FONT_SIZE_STYLE_PROPERTY_ID						= 3;
+	public static final int BACKGROUND_COLOR_STYLE_PROPERTY_ID				= 4;
+	public static final int BACKGROUND_IMAGE_STYLE_PROPERTY_ID				= 5;
+	public static final int BACKGROUND_ALIGN_STYLE_PROPERTY_ID				= 6;
+	public static final int BACKGROUND_REPEAT_STYLE_PROPERTY_ID				= 7;
+	public static final int BORDER_COLOR_STYLE_PROPERTY_ID					= 8;
+	public static final int BORDER_IMAGE_STYLE_PROPERTY_ID					= 9;
+	public static final int BORDER_ALIGN_STYLE_PROPERTY_ID					= 10;
+	public static final int BORDER_STROKE_STYLE_PROPERTY_ID					= 11;
+	public static final int LAYOUT_STYLE_PROPERTY_ID						= 12;
+	public static final int LAYOUT_DATA_STYLE_PROPERTY_ID					= 13;
+	public static final int MARGIN_STYLE_PROPERTY_ID						= 14;
+	public static final int BORDER_STYLE_PROPERTY_ID						= 15;
+	public static final int PADDING_STYLE_PROPERTY_ID						= 16;
+	public static final int GAP_STYLE_PROPERTY_ID							= 17;
+	public static final int SPAN_STYLE_PROPERTY_ID							= 18;
+	public static final int WEIGHT_STYLE_PROPERTY_ID						= 19;
+	public static final int MIN_SIZE_STYLE_PROPERTY_ID						= 20;
+	public static final int ALIGN_STYLE_PROPERTY_ID							= 21;
+	public static final int TRANSITION_STYLE_PROPERTY_ID					= 22;
+	public static final int GRAYED_COLOR_STYLE_PROPERTY_ID					= 23;
+	public static final int STYLE_PROPERTY_ID_COUNT							= 24;	// Custom style properties ids start here
+	
 	/////////////////////////////////////////////////////////////////////////////////////////
 	// Internal style classes
 	
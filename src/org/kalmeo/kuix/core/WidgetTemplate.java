@@ -0,0 +1,233 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Vector;
+
+import org.kalmeo.util.xml.LightXmlParser;
+import org.kalmeo.util.xml.LightXmlParserHandler;
+
+/**
+ * A {@link WidgetTemplate} is an XML UI definition parsed once and kept as an
+ * immutable list of parser events (tags, attributes and texts). Each
+ * {@link Kuix#loadWidget(WidgetTemplate, org.kalmeo.kuix.core.model.DataProvider)}
+ * call replays these events to build a new widget tree without parsing the
+ * XML again.<br>
+ * Bind properties extracted from constant texts are also kept by the
+ * template and reused by the next instances.
+ *
+ * @author agent
+ */
+public class WidgetTemplate {
+
+	// Event types
+	private static final byte START_ELEMENT_EVENT = 0;
+	private static final byte END_ELEMENT_EVENT = 1;
+	private static final byte CHARACTERS_EVENT = 2;
+	private static final byte CDATA_EVENT = 3;
+
+	// Used to cache the absence of bind properties
+	private static final String[] NO_BIND_PROPERTIES = new String[0];
+
+	// Recorded events
+	private final byte[] types;
+	private final String[] names;
+	private final String[][] attributes;	// { key0, value0, key1, value1, ... }
+
+	// Bind properties extracted from constant texts (text -> String[])
+	private final Hashtable bindPropertiesCache = new Hashtable();
+
+	// Define if the built widgets only depend on bind properties
+	private final boolean rebindable;
+
+	/**
+	 * Construct a {@link WidgetTemplate} by parsing the XML
+	 * <code>inputStream</code>.
+	 *
+	 * @param inputStream
+	 */
+	public WidgetTemplate(InputStream inputStream) {
+		if (inputStream == null) {
+			throw new IllegalArgumentException("Invalid xml inputStream");
+		}
+
+		final Vector recordedTypes = new Vector();
+		final Vector recordedNames = new Vector();
+		final Vector recordedAttributes = new Vector();
+		try {
+			LightXmlParser.parse(inputStream, KuixConstants.DEFAULT_CHARSET_NAME, new LightXmlParserHandler() {
+
+				/* (non-Javadoc)
+				 * @see org.kalmeo.util.xml.LightXmlParserHandler#startDocument()
+				 */
+				public void startDocument() {
+				}
+
+				/* (non-Javadoc)
+				 * @see org.kalmeo.util.xml.LightXmlParserHandler#startElement(java.lang.String, java.util.Hashtable)
+				 */
+				public void startElement(String name, Hashtable attributes) {
+					String[] keyValues = null;
+					if (attributes != null && !attributes.isEmpty()) {
+						keyValues = new String[attributes.size() * 2];
+						int i = 0;
+						for (Enumeration keys = attributes.keys(); keys.hasMoreElements(); i += 2) {
+							keyValues[i] = (String) keys.nextElement();
+							keyValues[i + 1] = (String) attributes.get(keyValues[i]);
+						}
+					}
+					record(START_ELEMENT_EVENT, name, keyValues);
+				}
+
+				/* (non-Javadoc)
+				 * @see org.kalmeo.util.xml.LightXmlParserHandler#characters(java.lang.String, boolean)
+				 */
+				public void characters(String characters, boolean isCDATA) {
+					record(isCDATA ? CDATA_EVENT : CHARACTERS_EVENT, characters, null);
+				}
+
+				/* (non-Javadoc)
+				 * @see org.kalmeo.util.xml.LightXmlParserHandler#endElement(java.lang.String)
+				 */
+				public void endElement(String name) {
+					record(END_ELEMENT_EVENT, name, null);
+				}
+
+				/* (non-Javadoc)
+				 * @see org.kalmeo.util.xml.LightXmlParserHandler#endDocument()
+				 */
+				public void endDocument() {
+				}
+
+				/**
+				 * Record an event.
+				 *
+				 * @param type
+				 * @param name
+				 * @param keyValues
+				 */
+				private void record(byte type, String name, String[] keyValues) {
+					recordedTypes.addElement(new Byte(type));
+					recordedNames.addElement(name);
+					recordedAttributes.addElement(keyValues);
+				}
+
+			});
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new IllegalArgumentException("Invalid xml inputStream");
+		}
+
+		int eventCount = recordedTypes.size();
+		types = new byte[eventCount];
+		names = new String[eventCount];
+		attributes = new String[eventCount][];
+		boolean rebindable = true;
+		for (int i = 0; i < eventCount; ++i) {
+			types[i] = ((Byte) recordedTypes.elementAt(i)).byteValue();
+			names[i] = (String) recordedNames.elementAt(i);
+			attributes[i] = (String[]) recordedAttributes.elementAt(i);
+			if (types[i] == CHARACTERS_EVENT) {
+				String text = names[i].trim();
+				rebindable &= !text.startsWith(KuixConstants.INCLUDE_KEYWORD_PATTERN) && text.indexOf(KuixConstants.PARSE_PROPERTY_START_PATTERN) == -1;
+			}
+		}
+		this.rebindable = rebindable;
+	}
+
+	/**
+	 * Tests whether or not a widget built from this template can be bound to
+	 * an other {@link org.kalmeo.kuix.core.model.DataProvider}. This is the
+	 * case if the template uses no parse property (<code>${...}</code>) and
+	 * no include (<code>#inc</code>), because their values are resolved once
+	 * when the widget is built.
+	 *
+	 * @return <code>true</code> if the built widgets can be rebound
+	 */
+	public boolean isRebindable() {
+		return rebindable;
+	}
+
+	/**
+	 * Replay the recorded events to the given <code>handler</code>. A new
+	 * attributes {@link Hashtable} is given to each
+	 * <code>startElement</code> call, because handlers can modify it.
+	 *
+	 * @param handler
+	 */
+	void replay(LightXmlParserHandler handler) {
+		handler.startDocument();
+		for (int i = 0; i < types.length; ++i) {
+			switch (types[i]) {
+
+				case START_ELEMENT_EVENT: {
+					Hashtable elementAttributes = null;
+					String[] keyValues = attributes[i];
+					if (keyValues != null) {
+						elementAttributes = new Hashtable(keyValues.length);
+						for (int j = 0; j < keyValues.length; j += 2) {
+							elementAttributes.put(keyValues[j], keyValues[j + 1]);
+						}
+					}
+					handler.startElement(names[i], elementAttributes);
+					break;
+				}
+
+				case END_ELEMENT_EVENT:
+					handler.endElement(names[i]);
+					break;
+
+				case CHARACTERS_EVENT:
+				case CDATA_EVENT:
+					handler.characters(names[i], types[i] == CDATA_EVENT);
+					break;
+
+			}
+		}
+		handler.endDocument();
+	}
+
+	/**
+	 * Returns the cached bind properties of a constant text.
+	 *
+	 * @param text
+	 * @return the cached bind properties, an empty array if the text has no
+	 *         bind property, or <code>null</code> if the text is not cached
+	 */
+	synchronized String[] getBindProperties(String text) {
+		return (String[]) bindPropertiesCache.get(text);
+	}
+
+	/**
+	 * Cache the bind properties of a constant text.
+	 *
+	 * @param text
+	 * @param properties the extracted bind properties or <code>null</code>
+	 */
+	synchronized void putBindProperties(String text, String[] properties) {
+		bindPropertiesCache.put(text, properties != null ? properties : NO_BIND_PROPERTIES);
+	}
+
+}
@@ -88,6 +88,16 @@ public class FocusManager {
 		return focusedWidget;
 	}
 	
+	/**
+	 * Returns the widget that receives the current pointer drag events.
+	 * 
+	 * @return the draggedEventWidget or <code>null</code> if no drag is in
+	 *         progress
+	 */
+	public Widget getDraggedEventWidget() {
+		return draggedEventWidget;
+	}
+	
 	/**
 	 * Returns the focused widget. <br/><b>Caution</b> : if focused widget is a
 	 * {@link TabFolder} the current {@link TabItem}'s focused widget is returned.<br/>
@@ -40,7 +40,14 @@ import org.kalmeo.util.LinkedList.LinkedListEnumeration;
  * function could returns a value from the dataprovider itself if it exists of
  * from its slaves.<br>
  * <code>dispatchUpdateEvent</code> and <code>dispatchItemsUpdateEvent</code>
- * methods invoke rescursivly each dataprovider's masters.
+ * methods invoke rescursivly each dataprovider's masters.<br>
+ * Binded widgets are indexed by their binded properties : an update event is
+ * only dispatched to the widgets that bind the updated property (and to the
+ * binded widgets without bind instruction).<br>
+ * Value updates can be batched between <code>beginUpdate</code> and
+ * <code>endUpdate</code> calls, or coalesced until the next frame (see
+ * <code>setFrameCoalesced</code>). Each binded widget then processes its
+ * bind instructions only once for all the updated properties.
  * 
  * @author bbeaulant
  */
@@ -70,6 +77,20 @@ public class DataProvider implements LinkedListItem {
 
 	// List of binded widgets
 	private Vector bindedWidgets;
+	
+	// Hashtable of property / binded widgets (Vector) pair
+	private Hashtable bindedWidgetsByProperty;
+	
+	// List of binded widgets without bind instruction (they receive all update events)
+	private Vector unindexedBindedWidgets;
+	
+	// Batched updates
+	private int updateDepth = 0;
+	private boolean frameCoalesced = false;
+	private Vector pendingProperties;
+	
+	// List of frame coalesced dataProviders with pending updates
+	private static final Vector pendingDataProviders = new Vector();
 
 	// LinkedListItem properties
 	private DataProvider previous;
@@ -180,6 +201,141 @@ public class DataProvider implements LinkedListItem {
 		}
 	}
 	
+	// Batched updates ////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Start a batch of value updates. Until the matching
+	 * <code>endUpdate</code> call, the updated properties are only recorded.
+	 * Calls can be nested.
+	 */
+	public void beginUpdate() {
+		synchronized (this) {
+			++updateDepth;
+		}
+	}
+	
+	/**
+	 * End a batch of value updates. When the outer batch ends, the recorded
+	 * properties are dispatched (or deferred to the next frame if the
+	 * dataProvider is frame coalesced).
+	 */
+	public void endUpdate() {
+		synchronized (this) {
+			if (updateDepth == 0) {
+				return;
+			}
+			if (--updateDepth != 0 || frameCoalesced) {
+				return;
+			}
+		}
+		flushUpdates();
+	}
+	
+	/**
+	 * @return the frameCoalesced
+	 */
+	public boolean isFrameCoalesced() {
+		return frameCoalesced;
+	}
+
+	/**
+	 * Define if the value updates of this dataProvider are coalesced until the
+	 * next frame. In this case, the updated properties are dispatched by the
+	 * canvas worker just before the desktop revalidation.
+	 * 
+	 * @param frameCoalesced the frameCoalesced to set
+	 */
+	public void setFrameCoalesced(boolean frameCoalesced) {
+		this.frameCoalesced = frameCoalesced;
+		if (!frameCoalesced) {
+			if (updateDepth == 0) {
+				flushUpdates();
+			}
+		} else if (pendingProperties != null && !pendingProperties.isEmpty()) {
+			// Properties recorded by an open batch are now dispatched by the next frame
+			synchronized (pendingDataProviders) {
+				if (!pendingDataProviders.contains(this)) {
+					pendingDataProviders.addElement(this);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @return <code>true</code> if the value updates are currently recorded
+	 *         instead of dispatched
+	 */
+	private boolean isBatchingUpdates() {
+		return updateDepth != 0 || frameCoalesced;
+	}
+	
+	/**
+	 * Record an updated <code>property</code>.
+	 * 
+	 * @param property
+	 */
+	private void addPendingProperty(String property) {
+		synchronized (this) {
+			if (pendingProperties == null) {
+				pendingProperties = new Vector();
+			} else if (pendingProperties.contains(property)) {
+				return;
+			}
+			pendingProperties.addElement(property);
+		}
+		if (frameCoalesced) {
+			synchronized (pendingDataProviders) {
+				if (!pendingDataProviders.contains(this)) {
+					pendingDataProviders.addElement(this);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Dispatch the recorded updated properties now.
+	 */
+	public void flushUpdates() {
+		String[] properties;
+		synchronized (this) {
+			if (pendingProperties == null || pendingProperties.isEmpty()) {
+				return;
+			}
+			properties = new String[pendingProperties.size()];
+			pendingProperties.copyInto(properties);
+			pendingProperties.removeAllElements();
+		}
+		dispatchUpdateEvents(properties);
+	}
+	
+	/**
+	 * Dispatch the recorded updated properties of all frame coalesced
+	 * dataProviders that are not in a batch. This method is called by the
+	 * canvas worker once per frame.
+	 */
+	public static void flushPendingUpdates() {
+		if (pendingDataProviders.isEmpty()) {
+			return;
+		}
+		DataProvider[] dataProviders;
+		synchronized (pendingDataProviders) {
+			dataProviders = new DataProvider[pendingDataProviders.size()];
+			pendingDataProviders.copyInto(dataProviders);
+			pendingDataProviders.removeAllElements();
+		}
+		for (int i = 0; i < dataProviders.length; ++i) {
+			DataProvider dataProvider = dataProviders[i];
+			if (dataProvider.updateDepth != 0) {
+				// Still in a batch : wait for the next frame
+				synchronized (pendingDataProviders) {
+					pendingDataProviders.addElement(dataProvider);
+				}
+			} else {
+				dataProvider.flushUpdates();
+			}
+		}
+	}
+	
 	// Values ////////////////////////////////////////////////////////////////////
 	
 	/**
@@ -541,6 +697,7 @@ public class DataProvider implements LinkedListItem {
 			return;
 		}
 		bindedWidgets.addElement(widget);
+		indexBindedWidget(widget);
 		widget.setDataProvider(this);
 		widget.processDataBindEvent();
 	}
@@ -553,7 +710,9 @@ public class DataProvider implements LinkedListItem {
 	public void unbind(Widget widget) {
 		if (bindedWidgets != null) {
 			widget.setDataProvider(null);
-			bindedWidgets.removeElement(widget);
+			if (bindedWidgets.removeElement(widget)) {
+				unindexBindedWidget(widget);
+			}
 		}
 	}
 
@@ -566,19 +725,105 @@ public class DataProvider implements LinkedListItem {
 				((Widget) (bindedWidgets.elementAt(i))).setDataProvider(null);
 			}
 			bindedWidgets.removeAllElements();
+			bindedWidgetsByProperty = null;
+			unindexedBindedWidgets = null;
+		}
+	}
+	
+	/**
+	 * Update the property index of a binded <code>widget</code>. This method
+	 * need to be called before (<code>index</code> = <code>false</code>) and
+	 * after (<code>index</code> = <code>true</code>) a modification of the
+	 * widget bind instructions.
+	 * 
+	 * @param widget
+	 * @param index
+	 */
+	public void updateBindIndex(Widget widget, boolean index) {
+		if (bindedWidgets != null && bindedWidgets.contains(widget)) {
+			if (index) {
+				indexBindedWidget(widget);
+			} else {
+				unindexBindedWidget(widget);
+			}
+		}
+	}
+	
+	/**
+	 * Add the <code>widget</code> to the property index.
+	 * 
+	 * @param widget
+	 */
+	private void indexBindedWidget(Widget widget) {
+		String[] properties = widget.getBindedProperties();
+		if (properties == null) {
+			if (unindexedBindedWidgets == null) {
+				unindexedBindedWidgets = new Vector();
+			}
+			unindexedBindedWidgets.addElement(widget);
+			return;
+		}
+		if (bindedWidgetsByProperty == null) {
+			bindedWidgetsByProperty = new Hashtable();
+		}
+		for (int i = 0; i < properties.length; ++i) {
+			Vector widgets = (Vector) bindedWidgetsByProperty.get(properties[i]);
+			if (widgets == null) {
+				widgets = new Vector();
+				bindedWidgetsByProperty.put(properties[i], widgets);
+			}
+			widgets.addElement(widget);
+		}
+	}
+	
+	/**
+	 * Remove the <code>widget</code> from the property index.
+	 * 
+	 * @param widget
+	 */
+	private void unindexBindedWidget(Widget widget) {
+		String[] properties = widget.getBindedProperties();
+		if (properties == null) {
+			if (unindexedBindedWidgets != null) {
+				unindexedBindedWidgets.removeElement(widget);
+			}
+			return;
+		}
+		if (bindedWidgetsByProperty != null) {
+			for (int i = 0; i < properties.length; ++i) {
+				Vector widgets = (Vector) bindedWidgetsByProperty.get(properties[i]);
+				if (widgets != null) {
+					widgets.removeElement(widget);
+					if (widgets.isEmpty()) {
+						bindedWidgetsByProperty.remove(properties[i]);
+					}
+				}
+			}
 		}
 	}
 
 	/**
-	 * Dispatch an update event for a specific <code>property</code> to all
-	 * binded widgets.
+	 * Dispatch an update event for a specific <code>property</code> to the
+	 * binded widgets that bind this property.
 	 * 
 	 * @param property
 	 */
 	protected void dispatchUpdateEvent(String property) {
-		if (bindedWidgets != null) {
-			for (int i = bindedWidgets.size() - 1; i >= 0; --i) {
-				((Widget) (bindedWidgets.elementAt(i))).processModelUpdateEvent(property);
+		if (isBatchingUpdates()) {
+			addPendingProperty(property);
+			return;
+		}
+		if (bindedWidgetsByProperty != null) {
+			Vector widgets = (Vector) bindedWidgetsByProperty.get(property);
+			if (widgets != null) {
+				for (int i = widgets.size() - 1; i >= 0; --i) {
+					((Widget) (widgets.elementAt(i))).processModelUpdateEvent(property);
+				}
+			}
+		}
+		if (unindexedBindedWidgets != null) {
+			for (int i = unindexedBindedWidgets.size() - 1; i >= 0; --i) {
+				((Widget) (unindexedBindedWidgets.elementAt(i))).processModelUpdateEvent(property);
 			}
 		}
 		if (masters != null) {
@@ -589,8 +834,55 @@ public class DataProvider implements LinkedListItem {
 	}
 
 	/**
-	 * Dispatch an items update event for a specific <code>property</code> to all
-	 * binded widgets.
+	 * Dispatch update events for several <code>properties</code> at once. Each
+	 * binded widget receives all the updates in a single call.
+	 * 
+	 * @param properties
+	 */
+	private void dispatchUpdateEvents(String[] properties) {
+		if (bindedWidgetsByProperty != null) {
+			
+			// Collect the subscribers of all properties
+			Vector subscribers = new Vector();
+			for (int i = 0; i < properties.length; ++i) {
+				Vector widgets = (Vector) bindedWidgetsByProperty.get(properties[i]);
+				if (widgets != null) {
+					for (int j = widgets.size() - 1; j >= 0; --j) {
+						Object widget = widgets.elementAt(j);
+						if (!subscribers.contains(widget)) {
+							subscribers.addElement(widget);
+						}
+					}
+				}
+			}
+			
+			for (int i = 0; i < subscribers.size(); ++i) {
+				((Widget) (subscribers.elementAt(i))).processModelUpdateEvents(properties);
+			}
+			
+		}
+		if (unindexedBindedWidgets != null) {
+			for (int i = unindexedBindedWidgets.size() - 1; i >= 0; --i) {
+				((Widget) (unindexedBindedWidgets.elementAt(i))).processModelUpdateEvents(properties);
+			}
+		}
+		if (masters != null) {
+			for (int i = masters.size() - 1; i >= 0; --i) {
+				DataProvider master = (DataProvider) masters.elementAt(i);
+				if (master.isBatchingUpdates()) {
+					for (int j = 0; j < properties.length; ++j) {
+						master.addPendingProperty(properties[j]);
+					}
+				} else {
+					master.dispatchUpdateEvents(properties);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Dispatch an items update event for a specific <code>property</code> to the
+	 * binded widgets that bind this property.
 	 * 
 	 * @param type
 	 * @param property
@@ -598,9 +890,17 @@ public class DataProvider implements LinkedListItem {
 	 * @param itemsEnumeration
 	 */
 	protected void dispatchItemsUpdateEvent(byte type, String property, DataProvider item, LinkedListEnumeration itemsEnumeration) {
-		if (bindedWidgets != null) {
-			for (int i = bindedWidgets.size() - 1; i >= 0; --i) {
-				((Widget) (bindedWidgets.elementAt(i))).processItemsModelUpdateEvent(type, property, item, itemsEnumeration);
+		if (bindedWidgetsByProperty != null) {
+			Vector widgets = (Vector) bindedWidgetsByProperty.get(property);
+			if (widgets != null) {
+				for (int i = widgets.size() - 1; i >= 0; --i) {
+					((Widget) (widgets.elementAt(i))).processItemsModelUpdateEvent(type, property, item, itemsEnumeration);
+				}
+			}
+		}
+		if (unindexedBindedWidgets != null) {
+			for (int i = unindexedBindedWidgets.size() - 1; i >= 0; --i) {
+				((Widget) (unindexedBindedWidgets.elementAt(i))).processItemsModelUpdateEvent(type, property, item, itemsEnumeration);
 			}
 		}
 		if (masters != null) {
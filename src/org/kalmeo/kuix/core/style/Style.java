@@ -21,6 +21,7 @@
 
 package org.kalmeo.kuix.core.style;
 
+import org.kalmeo.kuix.core.KuixConstants;
 import org.kalmeo.util.LinkedList;
 import org.kalmeo.util.LinkedListItem;
 
@@ -34,11 +35,18 @@ public class Style implements LinkedListItem {
 
 	// List of StyleProperty
 	private final LinkedList properties;
+	
+	// StyleProperty table indexed by property id (@see StyleProperty.getId())
+	private StyleProperty[] propertyTable = null;
 
 	// LinkedListItem vars
 	private Style previous;
 	private Style next;
 	
+	// StyleIndex vars
+	int registrationIndex;
+	int lookupStamp;
+	
 	/**
 	 * Construct a {@link Style}
 	 * 
@@ -99,23 +107,42 @@ public class Style implements LinkedListItem {
 	 * @return The {@link StyleProperty} corresponding to the <code>name</code>
 	 */
 	public StyleProperty getProperty(final String name) {
-		if (properties.getFirst() != null) {
-			for (StyleProperty property = (StyleProperty) properties.getFirst(); property != null; property = (StyleProperty) property.getNext()) {
-				if (property.getName().equals(name)) {
-					return property;
-				}
-			}
+		return getProperty(StyleProperty.findId(name));
+	}
+	
+	/**
+	 * Returns the {@link StyleProperty} corresponding to the <code>id</code>
+	 * or <code>null</code> if it does not exist
+	 * 
+	 * @param id
+	 * @return The {@link StyleProperty} corresponding to the <code>id</code>
+	 */
+	public StyleProperty getProperty(int id) {
+		if (propertyTable != null && id >= 0 && id < propertyTable.length) {
+			return propertyTable[id];
 		}
 		return null;
 	}
 
 	/**
-	 * Add a {@link StyleProperty} to this {@link Style}
+	 * Add a {@link StyleProperty} to this {@link Style}. If a property with
+	 * the same name is already defined, it keeps precedence.
 	 * 
 	 * @param styleProperty
 	 */
 	public void add(StyleProperty styleProperty) {
 		properties.add(styleProperty);
+		int id = styleProperty.getId();
+		if (propertyTable == null || id >= propertyTable.length) {
+			StyleProperty[] newPropertyTable = new StyleProperty[Math.max(KuixConstants.STYLE_PROPERTY_ID_COUNT, id + 1)];
+			if (propertyTable != null) {
+				System.arraycopy(propertyTable, 0, newPropertyTable, 0, propertyTable.length);
+			}
+			propertyTable = newPropertyTable;
+		}
+		if (propertyTable[id] == null) {
+			propertyTable[id] = styleProperty;
+		}
 	}
 
 	/* (non-Javadoc)
@@ -0,0 +1,216 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ * 
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *  
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.core.style;
+
+import java.util.Hashtable;
+import java.util.Vector;
+
+import org.kalmeo.util.Filter;
+
+/**
+ * A {@link StyleIndex} buckets registered {@link Style}s by the id, class
+ * and tag of their rightmost {@link StyleSelector}. A widget is then only
+ * tested against the styles that can possibly match it.<br>
+ * A style is added to each bucket of its rightmost selector keys, because a
+ * selector matches a widget as soon as one of its id, class or tag matches.
+ * Styles without any key are kept in an unindexed list and always tested.
+ * 
+ * @author agent
+ */
+public class StyleIndex {
+
+	// Buckets (key -> Vector of Style)
+	private final Hashtable idBuckets = new Hashtable();
+	private final Hashtable classBuckets = new Hashtable();
+	private final Hashtable tagBuckets = new Hashtable();
+	
+	// Styles without id, class or tag
+	private final Vector unindexedStyles = new Vector();
+	
+	// Registration counter
+	private int registrationCount = 0;
+	
+	// Lookup stamp used to test each style only once per lookup
+	private int lookupStamp = 0;
+	
+	/**
+	 * Add a {@link Style} to the index.
+	 * 
+	 * @param style
+	 */
+	public synchronized void add(Style style) {
+		style.registrationIndex = registrationCount++;
+		StyleSelector selector = style.getSelector();
+		boolean indexed = false;
+		if (selector.hasId()) {
+			addToBucket(idBuckets, selector.getId(), style);
+			indexed = true;
+		}
+		if (selector.hasClass()) {
+			addToBucket(classBuckets, selector.getStyleClass(), style);
+			indexed = true;
+		}
+		if (selector.hasTag()) {
+			addToBucket(tagBuckets, selector.getTag(), style);
+			indexed = true;
+		}
+		if (!indexed) {
+			unindexedStyles.addElement(style);
+		}
+	}
+	
+	/**
+	 * Returns the registered {@link Style} with an equivalent
+	 * <code>selector</code>, or <code>null</code>.
+	 * 
+	 * @param selector
+	 * @return the registered {@link Style} or <code>null</code>
+	 */
+	public synchronized Style find(StyleSelector selector) {
+		Vector bucket;
+		if (selector.hasId()) {
+			bucket = (Vector) idBuckets.get(selector.getId());
+		} else if (selector.hasClass()) {
+			bucket = (Vector) classBuckets.get(selector.getStyleClass());
+		} else if (selector.hasTag()) {
+			bucket = (Vector) tagBuckets.get(selector.getTag());
+		} else {
+			bucket = unindexedStyles;
+		}
+		if (bucket != null) {
+			for (int i = bucket.size() - 1; i >= 0; --i) {
+				Style style = (Style) bucket.elementAt(i);
+				if (style.getSelector().equals(selector)) {
+					return style;
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Returns the styles accepted by the <code>filter</code> within the
+	 * buckets of the given keys. Styles are sorted by descending score and
+	 * then by registration order.
+	 * 
+	 * @param id the widget id or <code>null</code>
+	 * @param styleClasses the widget style classes or <code>null</code>
+	 * @param tag the widget tag or <code>null</code>
+	 * @param inheritedTag the widget inherited tag or <code>null</code>
+	 * @param filter
+	 * @return the sorted accepted styles
+	 */
+	public synchronized Vector findAll(String id, String[] styleClasses, String tag, String inheritedTag, Filter filter) {
+		lookupStamp++;
+		Vector styles = new Vector();
+		int[] scores = null;
+		if (id != null) {
+			scores = collect((Vector) idBuckets.get(id), filter, styles, scores);
+		}
+		if (styleClasses != null) {
+			for (int i = 0; i < styleClasses.length; ++i) {
+				if (styleClasses[i] != null) {
+					scores = collect((Vector) classBuckets.get(styleClasses[i]), filter, styles, scores);
+				}
+			}
+		}
+		if (tag != null) {
+			scores = collect((Vector) tagBuckets.get(tag), filter, styles, scores);
+		}
+		if (inheritedTag != null && !inheritedTag.equals(tag)) {
+			scores = collect((Vector) tagBuckets.get(inheritedTag), filter, styles, scores);
+		}
+		collect(unindexedStyles, filter, styles, scores);
+		return styles;
+	}
+	
+	/**
+	 * Remove all styles from the index.
+	 */
+	public synchronized void clear() {
+		idBuckets.clear();
+		classBuckets.clear();
+		tagBuckets.clear();
+		unindexedStyles.removeAllElements();
+		registrationCount = 0;
+	}
+	
+	/**
+	 * @param buckets
+	 * @param key
+	 * @param style
+	 */
+	private void addToBucket(Hashtable buckets, String key, Style style) {
+		Vector bucket = (Vector) buckets.get(key);
+		if (bucket == null) {
+			bucket = new Vector();
+			buckets.put(key, bucket);
+		}
+		bucket.addElement(style);
+	}
+	
+	/**
+	 * Test the <code>bucket</code> styles not already tested by the current
+	 * lookup, and insert the accepted ones in <code>styles</code> by
+	 * descending score and registration order.
+	 * 
+	 * @param bucket
+	 * @param filter
+	 * @param styles
+	 * @param scores the scores of <code>styles</code> elements (could be
+	 *            <code>null</code>)
+	 * @return the (possibly reallocated) scores array
+	 */
+	private int[] collect(Vector bucket, Filter filter, Vector styles, int[] scores) {
+		if (bucket == null) {
+			return scores;
+		}
+		for (int i = 0; i < bucket.size(); ++i) {
+			Style style = (Style) bucket.elementAt(i);
+			if (style.lookupStamp == lookupStamp) {
+				continue;
+			}
+			style.lookupStamp = lookupStamp;
+			int score = filter.accept(style);
+			if (score > 0) {
+				int size = styles.size();
+				if (scores == null) {
+					scores = new int[4];
+				} else if (size == scores.length) {
+					int[] newScores = new int[size * 2];
+					System.arraycopy(scores, 0, newScores, 0, size);
+					scores = newScores;
+				}
+				int index = size;
+				while (index > 0 
+						&& (scores[index - 1] < score 
+								|| (scores[index - 1] == score && ((Style) styles.elementAt(index - 1)).registrationIndex > style.registrationIndex))) {
+					scores[index] = scores[index - 1];
+					--index;
+				}
+				scores[index] = score;
+				styles.insertElementAt(style, index);
+			}
+		}
+		return scores;
+	}
+	
+}
@@ -21,19 +21,66 @@
 
 package org.kalmeo.kuix.core.style;
 
+import java.util.Hashtable;
+import java.util.Vector;
+
 import org.kalmeo.kuix.core.Kuix;
+import org.kalmeo.kuix.core.KuixConstants;
 import org.kalmeo.util.LinkedListItem;
 
 /**
  * A {@link StyleProperty} represents a name / value pair. For example
- * <code>name : "color"</code> and <code>value : Color.RED</code>.
+ * <code>name : "color"</code> and <code>value : Color.RED</code>.<br>
+ * Each property name is associated to a compact integer id when the
+ * property is created. Built-in properties use the
+ * <code>KuixConstants.*_STYLE_PROPERTY_ID</code> ids, and custom properties
+ * get the next free ids.
  * 
  * @author bbeaulant
  */
 public class StyleProperty implements LinkedListItem {
 
-	// Style property name
+	// Built-in style property names, indexed by id
+	private static final String[] BUILT_IN_NAMES = new String[] {
+		KuixConstants.COLOR_STYLE_PROPERTY,
+		KuixConstants.FONT_FACE_STYLE_PROPERTY,
+		KuixConstants.FONT_STYLE_STYLE_PROPERTY,
+		KuixConstants.FONT_SIZE_STYLE_PROPERTY,
+		KuixConstants.BACKGROUND_COLOR_STYLE_PROPERTY,
+		KuixConstants.BACKGROUND_IMAGE_STYLE_PROPERTY,
+		KuixConstants.BACKGROUND_ALIGN_STYLE_PROPERTY,
+		KuixConstants.BACKGROUND_REPEAT_STYLE_PROPERTY,
+		KuixConstants.BORDER_COLOR_STYLE_PROPERTY,
+		KuixConstants.BORDER_IMAGE_STYLE_PROPERTY,
+		KuixConstants.BORDER_ALIGN_STYLE_PROPERTY,
+		KuixConstants.BORDER_STROKE_STYLE_PROPERTY,
+		KuixConstants.LAYOUT_STYLE_PROPERTY,
+		KuixConstants.LAYOUT_DATA_STYLE_PROPERTY,
+		KuixConstants.MARGIN_STYLE_PROPERTY,
+		KuixConstants.BORDER_STYLE_PROPERTY,
+		KuixConstants.PADDING_STYLE_PROPERTY,
+		KuixConstants.GAP_STYLE_PROPERTY,
+		KuixConstants.SPAN_STYLE_PROPERTY,
+		KuixConstants.WEIGHT_STYLE_PROPERTY,
+		KuixConstants.MIN_SIZE_STYLE_PROPERTY,
+		KuixConstants.ALIGN_STYLE_PROPERTY,
+		KuixConstants.TRANSITION_STYLE_PROPERTY,
+		KuixConstants.GRAYED_COLOR_STYLE_PROPERTY
+	};
+	
+	// Style property ids registry (name -> Integer) and names (indexed by id)
+	private static final Hashtable ids = new Hashtable();
+	private static final Vector names = new Vector();
+	
+	static {
+		for (int i = 0; i < KuixConstants.STYLE_PROPERTY_ID_COUNT; ++i) {
+			registerId(BUILT_IN_NAMES[i]);
+		}
+	}
+	
+	// Style property name and id
 	private final String name;
+	private final int id;
 
 	// Style property value
 	private String rawValue;
@@ -51,9 +98,58 @@ public class StyleProperty implements LinkedListItem {
 	 */
 	public StyleProperty(String name, String rawValue) {
 		this.name = name.toLowerCase();
+		this.id = registerId(this.name);
 		this.rawValue = rawValue;
 	}
 	
+	/**
+	 * Returns the id associated to the style property <code>name</code>, or
+	 * <code>-1</code> if no style property with this name was ever created
+	 * (then no style can define it).
+	 * 
+	 * @param name the lower case property name
+	 * @return the style property id or <code>-1</code>
+	 */
+	public static int findId(String name) {
+		Integer id = (Integer) ids.get(name);
+		if (id != null) {
+			return id.intValue();
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the id associated to the style property <code>name</code>. A
+	 * new id is registered if the name is unknown. Only called when a
+	 * {@link StyleProperty} is created (i.e. at CSS parse time).
+	 * 
+	 * @param name the lower case property name
+	 * @return the style property id
+	 */
+	private static synchronized int registerId(String name) {
+		Integer id = (Integer) ids.get(name);
+		if (id == null) {
+			id = new Integer(names.size());
+			names.addElement(name);
+			ids.put(name, id);
+		}
+		return id.intValue();
+	}
+	
+	/**
+	 * Returns the style property name associated to <code>id</code>, or
+	 * <code>null</code> if the id is not registered.
+	 * 
+	 * @param id
+	 * @return the style property name
+	 */
+	public static String getName(int id) {
+		if (id >= 0 && id < names.size()) {
+			return (String) names.elementAt(id);
+		}
+		return null;
+	}
+	
 	/**
 	 * Construct a {@link StyleAttribute}
 	 * 
@@ -101,6 +197,15 @@ public class StyleProperty implements LinkedListItem {
 	public String getName() {
 		return name;
 	}
+	
+	/**
+	 * Returns the id of the styleProperty.
+	 * 
+	 * @return the id
+	 */
+	public int getId() {
+		return id;
+	}
 
 	/**
 	 * Retuns the value of the styleProperty.
@@ -0,0 +1,248 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.util;
+
+/**
+ * The <code>FrameProfiler</code> measures the duration (in milliseconds) of
+ * each phase of a frame. The last <code>sampleCount</code> durations of each
+ * phase are kept in fixed-size ring buffers to compute rolling min, average,
+ * 95th percentile and max values. No object is allocated while measuring.
+ * 
+ * @author agent
+ */
+public class FrameProfiler {
+
+	// Phases
+	public static final int KEY_PHASE = 0;
+	public static final int POINTER_PHASE = 1;
+	public static final int REVALIDATE_PHASE = 2;
+	public static final int PAINT_PHASE = 3;
+	public static final int FLUSH_PHASE = 4;
+	public static final int PHASE_COUNT = 5;
+	
+	// Phase names (used by toString())
+	private static final String[] PHASE_NAMES = new String[] { "key", "pointer", "revalidate", "paint", "flush" };
+	
+	// Samples ring buffers
+	private final int sampleCount;
+	private final int[][] samples;
+	private final int[] sampleIndexes;
+	private final int[] sampleSizes;
+	
+	// Current phases start time
+	private final long[] startTimes;
+	
+	// Sorted samples buffer used to compute percentiles
+	private final int[] sortedSamples;
+	
+	// Define if the profiler is enabled
+	private boolean enabled = true;
+	
+	/**
+	 * Construct a {@link FrameProfiler}
+	 * 
+	 * @param sampleCount the number of durations kept per phase
+	 */
+	public FrameProfiler(int sampleCount) {
+		if (sampleCount < 1) {
+			throw new IllegalArgumentException("sampleCount must be greater than 0");
+		}
+		this.sampleCount = sampleCount;
+		samples = new int[PHASE_COUNT][sampleCount];
+		sampleIndexes = new int[PHASE_COUNT];
+		sampleSizes = new int[PHASE_COUNT];
+		startTimes = new long[PHASE_COUNT];
+		sortedSamples = new int[sampleCount];
+	}
+
+	/**
+	 * @return the enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param enabled the enabled to set
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	/**
+	 * Start measuring <code>phase</code>.
+	 * 
+	 * @param phase
+	 */
+	public void begin(int phase) {
+		if (enabled) {
+			startTimes[phase] = System.currentTimeMillis();
+		}
+	}
+	
+	/**
+	 * Stop measuring <code>phase</code> and record its duration.
+	 * 
+	 * @param phase
+	 */
+	public void end(int phase) {
+		if (enabled) {
+			addSample(phase, (int) (System.currentTimeMillis() - startTimes[phase]));
+		}
+	}
+	
+	/**
+	 * Record a <code>phase</code> duration.
+	 * 
+	 * @param phase
+	 * @param duration the duration in milliseconds
+	 */
+	public synchronized void addSample(int phase, int duration) {
+		samples[phase][sampleIndexes[phase]] = duration;
+		sampleIndexes[phase] = (sampleIndexes[phase] + 1) % sampleCount;
+		if (sampleSizes[phase] < sampleCount) {
+			sampleSizes[phase]++;
+		}
+	}
+	
+	/**
+	 * Returns the number of recorded durations for <code>phase</code>.
+	 * 
+	 * @param phase
+	 * @return the sample size
+	 */
+	public int getSampleSize(int phase) {
+		return sampleSizes[phase];
+	}
+	
+	/**
+	 * Returns the minimal recorded duration of <code>phase</code>, or
+	 * <code>0</code> if no duration is recorded.
+	 * 
+	 * @param phase
+	 * @return the min duration
+	 */
+	public synchronized int getMin(int phase) {
+		int size = sampleSizes[phase];
+		if (size == 0) {
+			return 0;
+		}
+		int min = Integer.MAX_VALUE;
+		for (int i = 0; i < size; ++i) {
+			min = Math.min(min, samples[phase][i]);
+		}
+		return min;
+	}
+	
+	/**
+	 * Returns the maximal recorded duration of <code>phase</code>, or
+	 * <code>0</code> if no duration is recorded.
+	 * 
+	 * @param phase
+	 * @return the max duration
+	 */
+	public synchronized int getMax(int phase) {
+		int max = 0;
+		for (int i = 0; i < sampleSizes[phase]; ++i) {
+			max = Math.max(max, samples[phase][i]);
+		}
+		return max;
+	}
+	
+	/**
+	 * Returns the average recorded duration of <code>phase</code>, or
+	 * <code>0</code> if no duration is recorded.
+	 * 
+	 * @param phase
+	 * @return the average duration
+	 */
+	public synchronized int getAverage(int phase) {
+		int size = sampleSizes[phase];
+		if (size == 0) {
+			return 0;
+		}
+		int total = 0;
+		for (int i = 0; i < size; ++i) {
+			total += samples[phase][i];
+		}
+		return total / size;
+	}
+	
+	/**
+	 * Returns the <code>percentile</code> (0 to 100) recorded duration of
+	 * <code>phase</code>, or <code>0</code> if no duration is recorded.
+	 * 
+	 * @param phase
+	 * @param percentile
+	 * @return the percentile duration
+	 */
+	public synchronized int getPercentile(int phase, int percentile) {
+		int size = sampleSizes[phase];
+		if (size == 0) {
+			return 0;
+		}
+		
+		// Insertion sort (the sample count is small)
+		for (int i = 0; i < size; ++i) {
+			int value = samples[phase][i];
+			int j = i - 1;
+			while (j >= 0 && sortedSamples[j] > value) {
+				sortedSamples[j + 1] = sortedSamples[j];
+				--j;
+			}
+			sortedSamples[j + 1] = value;
+		}
+		
+		int index = (size * percentile + 99) / 100 - 1;
+		return sortedSamples[Math.max(0, Math.min(size - 1, index))];
+	}
+	
+	/**
+	 * Remove all recorded durations.
+	 */
+	public synchronized void reset() {
+		for (int phase = 0; phase < PHASE_COUNT; ++phase) {
+			sampleIndexes[phase] = 0;
+			sampleSizes[phase] = 0;
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuffer buffer = new StringBuffer();
+		buffer.append("phase : min/avg/p95/max (ms)");
+		for (int phase = 0; phase < PHASE_COUNT; ++phase) {
+			buffer.append('\n').append(PHASE_NAMES[phase]).append(" : ");
+			if (sampleSizes[phase] == 0) {
+				buffer.append('-');
+			} else {
+				buffer.append(getMin(phase)).append('/')
+						.append(getAverage(phase)).append('/')
+						.append(getPercentile(phase, 95)).append('/')
+						.append(getMax(phase));
+			}
+		}
+		return buffer.toString();
+	}
+	
+}
@@ -0,0 +1,334 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.util;
+
+import org.kalmeo.kuix.core.KuixConstants;
+
+/**
+ * An {@link InputEventQueue} is a fixed capacity FIFO of key and pointer
+ * events stored in preallocated primitive arrays (no allocation per
+ * event).<br>
+ * Events are posted by the UI event thread and read by the worker thread.
+ * Both sides access the queue through synchronized methods, then the event
+ * fields written by the producer are always visible to the consumer.<br>
+ * Overflow policy : if the queue is full, the oldest pointer dragged or key
+ * repeated event is evicted (the next ones carry the same information). If
+ * there is no such event, the new event is dropped, except a release event
+ * that evicts the oldest other event : a widget must not stay pressed or
+ * dragged. Each overflow is counted.
+ *
+ * @author agent
+ */
+public class InputEventQueue {
+
+	// Event kinds
+	public static final byte KEY_EVENT = 0;
+	public static final byte POINTER_EVENT = 1;
+
+	// Events fields
+	private final int capacity;
+	private final byte[] kinds;
+	private final byte[] types;
+	private final int[] keyCodes;
+	private final int[] xs;
+	private final int[] ys;
+	private final long[] timestamps;
+
+	// Ring buffer indexes
+	private int head = 0;
+	private int size = 0;
+
+	// Number of dropped events
+	private int overflowCount = 0;
+
+	// Current event (read by next())
+	private byte kind;
+	private byte type;
+	private int keyCode;
+	private int x;
+	private int y;
+	private long timestamp;
+	private int repeatCount;
+
+	/**
+	 * Construct an {@link InputEventQueue}
+	 *
+	 * @param capacity the maximum number of queued events
+	 */
+	public InputEventQueue(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be greater than 0");
+		}
+		this.capacity = capacity;
+		kinds = new byte[capacity];
+		types = new byte[capacity];
+		keyCodes = new int[capacity];
+		xs = new int[capacity];
+		ys = new int[capacity];
+		timestamps = new long[capacity];
+	}
+
+	/**
+	 * Post a key event.
+	 *
+	 * @param type
+	 * @param keyCode
+	 * @return <code>true</code> if the event is queued, <code>false</code>
+	 *         if it is dropped because the queue is full
+	 */
+	public synchronized boolean postKeyEvent(byte type, int keyCode) {
+		return post(KEY_EVENT, type, keyCode, 0, 0);
+	}
+
+	/**
+	 * Post a pointer event.
+	 *
+	 * @param type
+	 * @param x
+	 * @param y
+	 * @return <code>true</code> if the event is queued, <code>false</code>
+	 *         if it is dropped because the queue is full
+	 */
+	public synchronized boolean postPointerEvent(byte type, int x, int y) {
+		return post(POINTER_EVENT, type, 0, x, y);
+	}
+
+	/**
+	 * Store an event at the tail of the queue.
+	 *
+	 * @param kind
+	 * @param type
+	 * @param keyCode
+	 * @param x
+	 * @param y
+	 * @return <code>true</code> if the event is queued
+	 */
+	private boolean post(byte kind, byte type, int keyCode, int x, int y) {
+		if (size == capacity) {
+			++overflowCount;
+			int position = findEvictableEvent(type);
+			if (position == -1) {
+				return false;
+			}
+			remove(position);
+		}
+		int index = (head + size) % capacity;
+		kinds[index] = kind;
+		types[index] = type;
+		keyCodes[index] = keyCode;
+		xs[index] = x;
+		ys[index] = y;
+		timestamps[index] = System.currentTimeMillis();
+		++size;
+		return true;
+	}
+
+	/**
+	 * Returns the position (from the oldest event) of the queued event to
+	 * evict to post a new event of type <code>newType</code>, or
+	 * <code>-1</code> if the new event need to be dropped.
+	 * 
+	 * @param newType
+	 * @return the position of the event to evict or <code>-1</code>
+	 */
+	private int findEvictableEvent(byte newType) {
+		for (int i = 0; i < size; ++i) {
+			byte queuedType = types[(head + i) % capacity];
+			if (queuedType == KuixConstants.POINTER_DRAGGED_EVENT_TYPE || queuedType == KuixConstants.KEY_REPEATED_EVENT_TYPE) {
+				return i;
+			}
+		}
+		if (!isReleaseEvent(newType)) {
+			return -1;
+		}
+		for (int i = 0; i < size; ++i) {
+			if (!isReleaseEvent(types[(head + i) % capacity])) {
+				return i;
+			}
+		}
+		return 0;	// Only release events are queued : the oldest one is the less relevant
+	}
+	
+	/**
+	 * @param type
+	 * @return <code>true</code> if <code>type</code> ends a key or pointer
+	 *         press
+	 */
+	private static boolean isReleaseEvent(byte type) {
+		return type == KuixConstants.KEY_RELEASED_EVENT_TYPE 
+				|| type == KuixConstants.POINTER_RELEASED_EVENT_TYPE 
+				|| type == KuixConstants.POINTER_DROPPED_EVENT_TYPE;
+	}
+	
+	/**
+	 * Remove the queued event at <code>position</code> (from the oldest
+	 * event). The next events are shifted.
+	 * 
+	 * @param position
+	 */
+	private void remove(int position) {
+		for (int i = position; i < size - 1; ++i) {
+			int to = (head + i) % capacity;
+			int from = (head + i + 1) % capacity;
+			kinds[to] = kinds[from];
+			types[to] = types[from];
+			keyCodes[to] = keyCodes[from];
+			xs[to] = xs[from];
+			ys[to] = ys[from];
+			timestamps[to] = timestamps[from];
+		}
+		--size;
+	}
+
+	/**
+	 * Tests whether or not this queue is empty.
+	 *
+	 * @return <code>true</code> if no event is queued
+	 */
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Remove the oldest event from the queue and make it the current event
+	 * (see <code>getKind()</code>, <code>getType()</code>, ...).
+	 *
+	 * @return <code>false</code> if the queue is empty
+	 */
+	public synchronized boolean next() {
+		if (size == 0) {
+			return false;
+		}
+		kind = kinds[head];
+		type = types[head];
+		keyCode = keyCodes[head];
+		x = xs[head];
+		y = ys[head];
+		timestamp = timestamps[head];
+		head = (head + 1) % capacity;
+		--size;
+		repeatCount = 1;
+		return true;
+	}
+	
+	/**
+	 * Coalesce the oldest queued event with the current event if they have
+	 * the same kind, type and (for key events) key code. The coalesced event
+	 * takes the position and timestamp of the queued one, and its repeat
+	 * count is incremented.
+	 * 
+	 * @return <code>true</code> if an event has been coalesced
+	 */
+	public synchronized boolean coalesceNext() {
+		if (size == 0 || kinds[head] != kind || types[head] != type || keyCodes[head] != keyCode) {
+			return false;
+		}
+		x = xs[head];
+		y = ys[head];
+		timestamp = timestamps[head];
+		head = (head + 1) % capacity;
+		--size;
+		++repeatCount;
+		return true;
+	}
+
+	/**
+	 * Coalesce all consecutive queued events that can be coalesced with the
+	 * current event (@see #coalesceNext()).
+	 * 
+	 * @return the number of coalesced events
+	 */
+	public synchronized int coalesceAll() {
+		int count = 0;
+		while (coalesceNext()) {
+			++count;
+		}
+		return count;
+	}
+
+	/**
+	 * Remove all queued events.
+	 */
+	public synchronized void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * @return the current event kind (<code>KEY_EVENT</code> or
+	 *         <code>POINTER_EVENT</code>)
+	 */
+	public byte getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return the current event type
+	 */
+	public byte getType() {
+		return type;
+	}
+
+	/**
+	 * @return the current key event kuix key code
+	 */
+	public int getKeyCode() {
+		return keyCode;
+	}
+
+	/**
+	 * @return the current pointer event x coordinate
+	 */
+	public int getX() {
+		return x;
+	}
+
+	/**
+	 * @return the current pointer event y coordinate
+	 */
+	public int getY() {
+		return y;
+	}
+
+	/**
+	 * @return the time (in milliseconds) the current event was posted
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return the number of queued events represented by the current event
+	 *         (greater than 1 if events have been coalesced)
+	 */
+	public int getRepeatCount() {
+		return repeatCount;
+	}
+
+	/**
+	 * @return the number of events dropped or evicted because the queue was
+	 *         full
+	 */
+	public int getOverflowCount() {
+		return overflowCount;
+	}
+
+}
@@ -0,0 +1,287 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.util;
+
+import org.kalmeo.kuix.widget.Widget;
+
+/**
+ * The <code>LayoutMonitor</code> counts the layout passes of each frame
+ * revalidation. A new pass is needed when the layout process invalidates a
+ * widget again, then the monitor records the widget responsible of these
+ * invalidations and the widgets that are invalidated again by their own
+ * layout.<br>
+ * Only the first widget reported by a pass is recorded : children are laid
+ * out before their parent ends its layout, then it is the innermost one.<br>
+ * It also enforces a pass cap : once <code>maxPassCount</code> passes are
+ * done in a frame, the remaining revalidation is deferred to the next frame.
+ * <br>
+ * Widgets are only recorded if the monitor is enabled. The reports are
+ * displayed with the canvas debug infos (@see #toString()).
+ * 
+ * @author agent
+ */
+public class LayoutMonitor {
+
+	// Pass cap
+	private int maxPassCount;
+	
+	// Current frame
+	private int passCount = 0;
+	private boolean inPass = false;
+	private Widget lastInvalidator = null;
+	private boolean passReported = false;
+	
+	// Statistics
+	private int frameCount = 0;
+	private int multiPassFrameCount = 0;
+	private int cappedFrameCount = 0;
+	private int lastFramePassCount = 0;
+	private int maxFramePassCount = 0;
+	
+	// Widgets invalidated again by their own layout (described as tag#id <- invalidator tag#id), reached pass caps (cap <- invalidator tag#id) and report counts
+	private final String[] reportedWidgets;
+	private final int[] reportCounts;
+	private int reportedWidgetCount = 0;
+	
+	// Define if the monitor records the reported widgets
+	private boolean enabled = false;
+	
+	/**
+	 * Construct a {@link LayoutMonitor}
+	 * 
+	 * @param maxPassCount the maximum number of layout passes per frame
+	 * @param maxReportedWidgets the maximum number of distinct reported
+	 *            widgets
+	 */
+	public LayoutMonitor(int maxPassCount, int maxReportedWidgets) {
+		if (maxReportedWidgets < 0) {
+			throw new IllegalArgumentException("maxReportedWidgets must be positive");
+		}
+		setMaxPassCount(maxPassCount);
+		reportedWidgets = new String[maxReportedWidgets];
+		reportCounts = new int[maxReportedWidgets];
+	}
+
+	/**
+	 * @return the enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Define if the monitor records the widgets responsible of the layout
+	 * passes. The pass cap is enforced even if the monitor is disabled.
+	 * 
+	 * @param enabled the enabled to set
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	/**
+	 * @return the maxPassCount
+	 */
+	public int getMaxPassCount() {
+		return maxPassCount;
+	}
+
+	/**
+	 * @param maxPassCount the maxPassCount to set
+	 */
+	public void setMaxPassCount(int maxPassCount) {
+		if (maxPassCount < 1) {
+			throw new IllegalArgumentException("maxPassCount must be greater than 0");
+		}
+		this.maxPassCount = maxPassCount;
+	}
+	
+	/**
+	 * Start a frame revalidation.
+	 */
+	public void beginFrame() {
+		passCount = 0;
+		lastInvalidator = null;
+	}
+	
+	/**
+	 * Start a layout pass.
+	 * 
+	 * @return <code>false</code> if the pass cap is reached and the pass
+	 *         must be deferred to the next frame
+	 */
+	public boolean beginPass() {
+		if (passCount >= maxPassCount) {
+			++cappedFrameCount;
+			if (enabled) {
+				report("cap <- " + describe(lastInvalidator));
+			}
+			return false;
+		}
+		++passCount;
+		inPass = true;
+		passReported = false;
+		return true;
+	}
+	
+	/**
+	 * End the current layout pass.
+	 */
+	public void endPass() {
+		inPass = false;
+	}
+	
+	/**
+	 * End the frame revalidation and update the statistics.
+	 */
+	public void endFrame() {
+		inPass = false;
+		lastInvalidator = null;	// Do not retain the widget
+		if (passCount == 0) {
+			return;
+		}
+		++frameCount;
+		if (passCount > 1) {
+			++multiPassFrameCount;
+		}
+		lastFramePassCount = passCount;
+		maxFramePassCount = Math.max(maxFramePassCount, passCount);
+	}
+	
+	/**
+	 * Record the widget responsible of an invalidation. Only invalidations
+	 * that occur during a layout pass are recorded.
+	 * 
+	 * @param fromWidget
+	 */
+	public void invalidated(Widget fromWidget) {
+		if (inPass) {
+			lastInvalidator = fromWidget;
+		}
+	}
+	
+	/**
+	 * Report a widget invalidated again by its own layout. The widget is
+	 * recorded with the last widget responsible of an invalidation.
+	 * 
+	 * @param widget
+	 */
+	public void relayoutNeeded(Widget widget) {
+		if (!enabled || passReported) {
+			return;
+		}
+		passReported = true;
+		report(describe(widget) + " <- " + describe(lastInvalidator));
+	}
+	
+	/**
+	 * Record a report <code>description</code>. Each distinct description is
+	 * recorded once, then only its count is incremented.
+	 * 
+	 * @param description
+	 */
+	private void report(String description) {
+		for (int i = 0; i < reportedWidgetCount; ++i) {
+			if (reportedWidgets[i].equals(description)) {
+				++reportCounts[i];
+				return;
+			}
+		}
+		if (reportedWidgetCount < reportedWidgets.length) {
+			reportedWidgets[reportedWidgetCount] = description;
+			reportCounts[reportedWidgetCount++] = 1;
+		}
+	}
+	
+	/**
+	 * @return the current frame pass count
+	 */
+	public int getPassCount() {
+		return passCount;
+	}
+	
+	/**
+	 * @return the pass count of the last revalidated frame
+	 */
+	public int getLastFramePassCount() {
+		return lastFramePassCount;
+	}
+
+	/**
+	 * @return the maximal pass count of a revalidated frame
+	 */
+	public int getMaxFramePassCount() {
+		return maxFramePassCount;
+	}
+	
+	/**
+	 * @return the number of frames that reached the pass cap
+	 */
+	public int getCappedFrameCount() {
+		return cappedFrameCount;
+	}
+	
+	/**
+	 * Remove all statistics and reported widgets.
+	 */
+	public void reset() {
+		frameCount = 0;
+		multiPassFrameCount = 0;
+		cappedFrameCount = 0;
+		lastFramePassCount = 0;
+		maxFramePassCount = 0;
+		for (int i = 0; i < reportedWidgetCount; ++i) {
+			reportedWidgets[i] = null;
+		}
+		reportedWidgetCount = 0;
+	}
+	
+	/**
+	 * Returns a short widget description (<code>tag#id</code>).
+	 * 
+	 * @param widget
+	 * @return the widget description
+	 */
+	private static String describe(Widget widget) {
+		if (widget == null) {
+			return "-";
+		}
+		String id = widget.getId();
+		return id != null ? widget.getTag() + "#" + id : widget.getTag();
+	}
+	
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuffer buffer = new StringBuffer();
+		buffer.append("layout passes : ").append(lastFramePassCount)
+				.append(" last, ").append(maxFramePassCount)
+				.append(" max, ").append(multiPassFrameCount).append('/').append(frameCount)
+				.append(" multi, ").append(cappedFrameCount)
+				.append(" capped");
+		for (int i = 0; i < reportedWidgetCount; ++i) {
+			buffer.append("\nrelayout : ").append(reportedWidgets[i]).append(" x").append(reportCounts[i]);
+		}
+		return buffer.toString();
+	}
+	
+}
@@ -0,0 +1,548 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.util;
+
+import java.util.Hashtable;
+import java.util.Vector;
+
+import javax.microedition.lcdui.Image;
+
+import org.kalmeo.kuix.core.Kuix;
+import org.kalmeo.kuix.core.KuixConstants;
+import org.kalmeo.util.MathFP;
+
+/**
+ * The <code>MosaicImageCache</code> keeps prerendered background and border
+ * image mosaics. A mosaic is composed once (with alpha) and shared between
+ * all widgets that use the same style image arrays with the same size (like
+ * every <code>ListItem</code> of a list).<br>
+ * Entries are identified by their image, alignment and repeat arrays
+ * instances, the border insets and the size. Only rendered mosaics are
+ * stored. The least recently used entries are removed if the cache exceeds
+ * <code>Kuix.mosaicCacheBudget</code>.
+ * 
+ * @author agent
+ */
+public final class MosaicImageCache {
+
+	// Entry kinds
+	private static final byte BACKGROUND_KIND = 0;
+	private static final byte BORDER_KIND = 1;
+	
+	/**
+	 * This class represents a cache entry key
+	 */
+	private static final class Key {
+		
+		private byte kind;
+		private Object images;
+		private Object alignments;
+		private Object repeats;
+		private int top;
+		private int right;
+		private int bottom;
+		private int left;
+		private int width;
+		private int height;
+		
+		/**
+		 * @param kind
+		 * @param images
+		 * @param alignments
+		 * @param repeats
+		 * @param border
+		 * @param width
+		 * @param height
+		 */
+		private void set(byte kind, Object images, Object alignments, Object repeats, Insets border, int width, int height) {
+			this.kind = kind;
+			this.images = images;
+			this.alignments = alignments;
+			this.repeats = repeats;
+			if (border != null) {
+				top = border.top;
+				right = border.right;
+				bottom = border.bottom;
+				left = border.left;
+			} else {
+				top = right = bottom = left = 0;
+			}
+			this.width = width;
+			this.height = height;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		public int hashCode() {
+			return images.hashCode() + 31 * (width + 31 * (height + 31 * (top + right + bottom + left + kind)));
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		public boolean equals(Object object) {
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) object;
+			return key.kind == kind 
+					&& key.images == images 
+					&& key.alignments == alignments 
+					&& key.repeats == repeats
+					&& key.top == top
+					&& key.right == right
+					&& key.bottom == bottom
+					&& key.left == left
+					&& key.width == width
+					&& key.height == height;
+		}
+		
+	}
+	
+	/**
+	 * This class represents a cache entry
+	 */
+	private static final class Entry {
+		
+		private Key key;
+		
+		// The prerendered parts
+		private Image[] parts;
+		
+		// Size in bytes
+		private int size;
+		
+	}
+	
+	// Cache entries (least recently used first)
+	private static final Hashtable entries = new Hashtable();
+	private static final Vector orderedEntries = new Vector();
+	private static int size = 0;
+	
+	// Reused lookup key (it becomes the stored entry key on cache miss)
+	private static Key lookupKey = new Key();
+	
+	/**
+	 * Construct a {@link MosaicImageCache}
+	 */
+	private MosaicImageCache() {
+	}
+	
+	/**
+	 * Returns the cache size in bytes.
+	 * 
+	 * @return the size
+	 */
+	public static int getSize() {
+		return size;
+	}
+	
+	/**
+	 * Returns the prerendered background mosaic image, or <code>null</code>
+	 * if the mosaic is not worth caching or doesn't fit the cache budget.
+	 * 
+	 * @param images
+	 * @param alignments
+	 * @param repeats
+	 * @param width
+	 * @param height
+	 * @return the mosaic {@link Image} or <code>null</code>
+	 */
+	public static synchronized Image getBackgroundMosaic(Image[] images, Alignment[] alignments, Repeat[] repeats, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			return null;
+		}
+		lookupKey.set(BACKGROUND_KIND, images, alignments, repeats, null, width, height);
+		Entry entry = (Entry) entries.get(lookupKey);
+		if (entry == null) {
+			
+			// Check if the mosaic needs more than one drawImage call
+			int backgroundCount = Math.max(images.length, Math.max(alignments.length, repeats.length));
+			int tileCount = 0;
+			for (int i = 0; i < backgroundCount; ++i) {
+				Repeat repeat = repeats[i % repeats.length];
+				tileCount += getTileCount(	images[i % images.length], 
+											width, 
+											height, 
+											repeat.repeatX > 0 ? repeat.repeatX : Integer.MAX_VALUE, 
+											repeat.repeatY > 0 ? repeat.repeatY : Integer.MAX_VALUE);
+			}
+			
+			if (tileCount > 1 && canStore(width * height * 4)) {
+				try {
+					return store(renderBackgroundMosaic(images, alignments, repeats, width, height))[0];
+				} catch (OutOfMemoryError e) {
+				}
+			}
+			return null;
+			
+		}
+		touch(entry);
+		return entry.parts[0];
+	}
+	
+	/**
+	 * Render the background mosaic.
+	 * 
+	 * @param images
+	 * @param alignments
+	 * @param repeats
+	 * @param width
+	 * @param height
+	 * @return the rendered mosaic parts
+	 */
+	private static Image[] renderBackgroundMosaic(Image[] images, Alignment[] alignments, Repeat[] repeats, int width, int height) {
+		int backgroundCount = Math.max(images.length, Math.max(alignments.length, repeats.length));
+		int[] buffer = new int[width * height];
+		for (int i = 0; i < backgroundCount; ++i) {
+			Repeat repeat = repeats[i % repeats.length];
+			composeMosaic(	buffer, 
+							width, 
+							height, 
+							images[i % images.length], 
+							0, 
+							0, 
+							width, 
+							height, 
+							alignments[i % alignments.length], 
+							repeat.repeatX > 0 ? repeat.repeatX : Integer.MAX_VALUE, 
+							repeat.repeatY > 0 ? repeat.repeatY : Integer.MAX_VALUE);
+		}
+		return new Image[] { createImage(buffer, width, height) };
+	}
+	
+	/**
+	 * Returns the prerendered border mosaic images, or <code>null</code> if
+	 * the mosaic is not worth caching or doesn't fit the cache budget. The
+	 * returned array contains the top, right, bottom and left border strips.
+	 * Top and bottom strips include the corners. An empty strip is
+	 * <code>null</code>.
+	 * 
+	 * @param images the 8 border images
+	 * @param alignments the 8 border alignments (or <code>null</code>)
+	 * @param border
+	 * @param width
+	 * @param height
+	 * @return the mosaic strips or <code>null</code>
+	 */
+	public static synchronized Image[] getBorderMosaic(Image[] images, Alignment[] alignments, Insets border, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			return null;
+		}
+		lookupKey.set(BORDER_KIND, images, alignments, null, border, width, height);
+		Entry entry = (Entry) entries.get(lookupKey);
+		if (entry == null) {
+			
+			int innerWidth = width - border.left - border.right;
+			int innerHeight = height - border.top - border.bottom;
+			
+			// Check if the strips reduce the drawImage call count
+			int tileCount = 0;
+			tileCount += getTileCount(images[0], innerWidth, border.top, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			tileCount += getTileCount(images[1], border.right, border.top, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			tileCount += getTileCount(images[2], border.right, innerHeight, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			tileCount += getTileCount(images[3], border.right, border.bottom, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			tileCount += getTileCount(images[4], innerWidth, border.bottom, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			tileCount += getTileCount(images[5], border.left, border.bottom, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			tileCount += getTileCount(images[6], border.left, innerHeight, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			tileCount += getTileCount(images[7], border.left, border.top, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			
+			if (tileCount > 4 && canStore((width * (border.top + border.bottom) + innerHeight * (border.left + border.right)) * 4)) {
+				try {
+					return store(renderBorderMosaic(images, alignments, border, width, height));
+				} catch (OutOfMemoryError e) {
+				}
+			}
+			return null;
+			
+		}
+		touch(entry);
+		return entry.parts;
+	}
+	
+	/**
+	 * Render the border mosaic strips.
+	 * 
+	 * @param images
+	 * @param alignments
+	 * @param border
+	 * @param width
+	 * @param height
+	 * @return the rendered mosaic strips
+	 */
+	private static Image[] renderBorderMosaic(Image[] images, Alignment[] alignments, Insets border, int width, int height) {
+		int innerWidth = width - border.left - border.right;
+		int innerHeight = height - border.top - border.bottom;
+		Image[] parts = new Image[4];
+		
+		// Top strip
+		if (border.top > 0) {
+			int[] buffer = new int[width * border.top];
+			composeMosaic(buffer, width, border.top, images[7], 0, 0, border.left, border.top, getBorderAlignment(7, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			composeMosaic(buffer, width, border.top, images[0], border.left, 0, innerWidth, border.top, getBorderAlignment(0, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			composeMosaic(buffer, width, border.top, images[1], width - border.right, 0, border.right, border.top, getBorderAlignment(1, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			parts[0] = createImage(buffer, width, border.top);
+		}
+		
+		// Right strip
+		if (border.right > 0 && innerHeight > 0) {
+			int[] buffer = new int[border.right * innerHeight];
+			composeMosaic(buffer, border.right, innerHeight, images[2], 0, 0, border.right, innerHeight, getBorderAlignment(2, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			parts[1] = createImage(buffer, border.right, innerHeight);
+		}
+		
+		// Bottom strip
+		if (border.bottom > 0) {
+			int[] buffer = new int[width * border.bottom];
+			composeMosaic(buffer, width, border.bottom, images[5], 0, 0, border.left, border.bottom, getBorderAlignment(5, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			composeMosaic(buffer, width, border.bottom, images[4], border.left, 0, innerWidth, border.bottom, getBorderAlignment(4, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			composeMosaic(buffer, width, border.bottom, images[3], width - border.right, 0, border.right, border.bottom, getBorderAlignment(3, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			parts[2] = createImage(buffer, width, border.bottom);
+		}
+		
+		// Left strip
+		if (border.left > 0 && innerHeight > 0) {
+			int[] buffer = new int[border.left * innerHeight];
+			composeMosaic(buffer, border.left, innerHeight, images[6], 0, 0, border.left, innerHeight, getBorderAlignment(6, alignments), Integer.MAX_VALUE, Integer.MAX_VALUE);
+			parts[3] = createImage(buffer, border.left, innerHeight);
+		}
+		
+		return parts;
+	}
+	
+	/**
+	 * Remove all cache entries.
+	 */
+	public static synchronized void clear() {
+		entries.clear();
+		orderedEntries.removeAllElements();
+		size = 0;
+	}
+	
+	/**
+	 * Check if an entry of <code>entrySize</code> bytes can be stored. The
+	 * least recently used entries are removed to free the needed space.
+	 * 
+	 * @param entrySize
+	 * @return <code>true</code> if the entry fits the cache budget
+	 */
+	private static boolean canStore(int entrySize) {
+		if (entrySize > Kuix.mosaicCacheBudget) {
+			return false;
+		}
+		while (size + entrySize > Kuix.mosaicCacheBudget && !orderedEntries.isEmpty()) {
+			removeOldestEntry();
+		}
+		return true;
+	}
+	
+	/**
+	 * Store the rendered <code>parts</code> for the current lookup key.
+	 * 
+	 * @param parts
+	 * @return the stored <code>parts</code>
+	 */
+	private static Image[] store(Image[] parts) {
+		if (orderedEntries.size() >= KuixConstants.MOSAIC_CACHE_MAX_ENTRIES) {
+			removeOldestEntry();
+		}
+		Entry entry = new Entry();
+		entry.key = lookupKey;
+		entry.parts = parts;
+		lookupKey = new Key();
+		for (int i = 0; i < parts.length; ++i) {
+			if (parts[i] != null) {
+				entry.size += parts[i].getWidth() * parts[i].getHeight() * 4;
+			}
+		}
+		entries.put(entry.key, entry);
+		orderedEntries.addElement(entry);
+		size += entry.size;
+		return parts;
+	}
+	
+	/**
+	 * Move the <code>entry</code> to the most recently used position.
+	 * 
+	 * @param entry
+	 */
+	private static void touch(Entry entry) {
+		int lastIndex = orderedEntries.size() - 1;
+		if (orderedEntries.elementAt(lastIndex) != entry) {
+			orderedEntries.removeElement(entry);
+			orderedEntries.addElement(entry);
+		}
+	}
+	
+	/**
+	 * Remove the least recently used cache entry.
+	 */
+	private static void removeOldestEntry() {
+		Entry entry = (Entry) orderedEntries.elementAt(0);
+		orderedEntries.removeElementAt(0);
+		entries.remove(entry.key);
+		size -= entry.size;
+	}
+	
+	/**
+	 * @param borderIndex
+	 * @param alignments
+	 * @return the border {@link Alignment}
+	 */
+	private static Alignment getBorderAlignment(int borderIndex, Alignment[] alignments) {
+		if (alignments != null && alignments[borderIndex] != null) {
+			return alignments[borderIndex];
+		}
+		return Alignment.TOP_LEFT;
+	}
+	
+	/**
+	 * Returns the number of tiles needed to paint <code>image</code> as
+	 * mosaic in a <code>width</code> x <code>height</code> zone.
+	 * 
+	 * @param image
+	 * @param width
+	 * @param height
+	 * @param repeatX
+	 * @param repeatY
+	 * @return the tile count
+	 */
+	private static int getTileCount(Image image, int width, int height, int repeatX, int repeatY) {
+		if (image == null || width <= 0 || height <= 0) {
+			return 0;
+		}
+		int imax = Math.min(repeatX, MathFP.toInt(MathFP.ceil(MathFP.div(width, image.getWidth()))));
+		int jmax = Math.min(repeatY, MathFP.toInt(MathFP.ceil(MathFP.div(height, image.getHeight()))));
+		return imax * jmax;
+	}
+	
+	/**
+	 * Compose <code>image</code> as mosaic in the <code>x</code>,
+	 * <code>y</code>, <code>width</code>, <code>height</code> zone of the
+	 * ARGB <code>buffer</code>. Tiles are placed like
+	 * <code>Widget.paintMosaicImage()</code> does and blended over the
+	 * existing buffer pixels.
+	 * 
+	 * @param buffer
+	 * @param bufferWidth
+	 * @param bufferHeight
+	 * @param image
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @param alignment
+	 * @param repeatX
+	 * @param repeatY
+	 */
+	private static void composeMosaic(int[] buffer, int bufferWidth, int bufferHeight, Image image, int x, int y, int width, int height, Alignment alignment, int repeatX, int repeatY) {
+		if (image == null || width <= 0 || height <= 0) {
+			return;
+		}
+		
+		// Zone limits
+		int zoneX1 = Math.max(x, 0);
+		int zoneY1 = Math.max(y, 0);
+		int zoneX2 = Math.min(x + width, bufferWidth);
+		int zoneY2 = Math.min(y + height, bufferHeight);
+		
+		// Image pixels
+		int imageWidth = image.getWidth();
+		int imageHeight = image.getHeight();
+		int[] pixels = new int[imageWidth * imageHeight];
+		image.getRGB(pixels, 0, imageWidth, 0, 0, imageWidth, imageHeight);
+		
+		int imax = Math.min(repeatX, MathFP.toInt(MathFP.ceil(MathFP.div(width, imageWidth))));
+		int jmax = Math.min(repeatY, MathFP.toInt(MathFP.ceil(MathFP.div(height, imageHeight))));
+		int dx = 1;
+		int dy = 1;
+		
+		if (alignment.isVerticalCenter()) {
+			y += (height - imageHeight * jmax) / 2;
+		} else if (alignment.isBottom()) {
+			y += height - imageHeight;
+			dy = -1;
+		}
+		
+		if (alignment.isHorizontalCenter()) {
+			x += (width - imageWidth * imax) / 2;
+		} else if (alignment.isRight()) {
+			x += width - imageWidth;
+			dx = -1;
+		}
+		
+		for (int i = 0; i < imax; ++i) {
+			for (int j = 0; j < jmax; ++j) {
+				int tileX = x + i * imageWidth * dx;
+				int tileY = y + j * imageHeight * dy;
+				int x1 = Math.max(tileX, zoneX1);
+				int y1 = Math.max(tileY, zoneY1);
+				int x2 = Math.min(tileX + imageWidth, zoneX2);
+				int y2 = Math.min(tileY + imageHeight, zoneY2);
+				for (int py = y1; py < y2; ++py) {
+					int bufferOffset = py * bufferWidth;
+					int pixelsOffset = (py - tileY) * imageWidth - tileX;
+					for (int px = x1; px < x2; ++px) {
+						buffer[bufferOffset + px] = blend(pixels[pixelsOffset + px], buffer[bufferOffset + px]);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Blend the <code>source</code> ARGB pixel over the
+	 * <code>destination</code> one.
+	 * 
+	 * @param source
+	 * @param destination
+	 * @return the blended ARGB pixel
+	 */
+	private static int blend(int source, int destination) {
+		int sourceAlpha = source >>> 24;
+		if (sourceAlpha == 0xFF || (destination >>> 24) == 0) {
+			return source;
+		}
+		if (sourceAlpha == 0) {
+			return destination;
+		}
+		int destinationAlpha = ((destination >>> 24) * (0xFF - sourceAlpha)) / 0xFF;
+		int alpha = sourceAlpha + destinationAlpha;
+		int red = (((source >> 16) & 0xFF) * sourceAlpha + ((destination >> 16) & 0xFF) * destinationAlpha) / alpha;
+		int green = (((source >> 8) & 0xFF) * sourceAlpha + ((destination >> 8) & 0xFF) * destinationAlpha) / alpha;
+		int blue = ((source & 0xFF) * sourceAlpha + (destination & 0xFF) * destinationAlpha) / alpha;
+		return (alpha << 24) | (red << 16) | (green << 8) | blue;
+	}
+	
+	/**
+	 * Create an alpha processed {@link Image} from an ARGB buffer.
+	 * 
+	 * @param buffer
+	 * @param width
+	 * @param height
+	 * @return the created {@link Image}
+	 */
+	private static Image createImage(int[] buffer, int width, int height) {
+		return Image.createRGBImage(buffer, width, height, true);
+	}
+
+}
@@ -0,0 +1,304 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.util;
+
+/**
+ * A <code>RepaintRegion</code> is a bounded set of disjoint rectangles
+ * representing the dirty areas of the display.<br>
+ * Each new rectangle is merged with an existing one if they intersect or if
+ * their union wastes less than <code>mergeThreshold</code> percent of its
+ * area. If the set contains more than <code>maxRectangles</code> rectangles,
+ * the region falls back to the full bounds.
+ *
+ * @author agent
+ */
+public class RepaintRegion {
+
+	// The region bounds (rectangles are clipped to these bounds)
+	private int boundsWidth;
+	private int boundsHeight;
+
+	// Merge heuristics
+	private final int maxRectangles;
+	private final int mergeThreshold;
+
+	// The disjoint rectangles
+	private final Metrics[] rectangles;
+	private int count = 0;
+	
+	// Rectangles coordinates copy used by addTranslated()
+	private final int[] translationBuffer;
+
+	// Define if the region covers the full bounds
+	private boolean full = false;
+
+	/**
+	 * Construct a {@link RepaintRegion}
+	 *
+	 * @param maxRectangles the maximum number of rectangles before falling back
+	 *            to the full bounds
+	 * @param mergeThreshold the maximum wasted area percentage (0 to 100) of
+	 *            the union of two rectangles to merge them
+	 */
+	public RepaintRegion(int maxRectangles, int mergeThreshold) {
+		if (maxRectangles < 1) {
+			throw new IllegalArgumentException("maxRectangles must be greater than 0");
+		}
+		this.maxRectangles = maxRectangles;
+		this.mergeThreshold = mergeThreshold;
+		rectangles = new Metrics[maxRectangles];
+		translationBuffer = new int[maxRectangles * 4];
+		for (int i = 0; i < maxRectangles; ++i) {
+			rectangles[i] = new Metrics();
+		}
+	}
+
+	/**
+	 * Define the region bounds. Added rectangles are clipped to these bounds.
+	 * Set <code>width</code> or <code>height</code> to 0 to disable
+	 * clipping.
+	 *
+	 * @param width
+	 * @param height
+	 */
+	public synchronized void setBounds(int width, int height) {
+		boundsWidth = width;
+		boundsHeight = height;
+		if (full) {
+			rectangles[0].setBounds(0, 0, width, height);
+		}
+	}
+
+	/**
+	 * Tests whether or not this {@link RepaintRegion} is empty.
+	 *
+	 * @return <code>true</code> if the region contains no rectangle
+	 */
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Tests whether or not this {@link RepaintRegion} covers the full bounds.
+	 *
+	 * @return <code>true</code> if the region fell back to the full bounds
+	 */
+	public boolean isFull() {
+		return full;
+	}
+
+	/**
+	 * Returns the number of disjoint rectangles.
+	 *
+	 * @return the rectangle count
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the rectangle at the specified <code>index</code>. The returned
+	 * {@link Metrics} instance is reused by the region and must not be modified.
+	 *
+	 * @param index
+	 * @return the rectangle {@link Metrics}
+	 */
+	public Metrics getRectangle(int index) {
+		return rectangles[index];
+	}
+
+	/**
+	 * Add a rectangle to the region.
+	 *
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 */
+	public synchronized void add(int x, int y, int width, int height) {
+		if (full) {
+			return;
+		}
+
+		// Clip to bounds
+		if (boundsWidth != 0 && boundsHeight != 0) {
+			int right = Math.min(x + width, boundsWidth);
+			int bottom = Math.min(y + height, boundsHeight);
+			x = Math.max(x, 0);
+			y = Math.max(y, 0);
+			width = right - x;
+			height = bottom - y;
+		}
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+
+		// Merge with existing rectangles until no more merge is possible
+		int i = 0;
+		while (i < count) {
+			Metrics rectangle = rectangles[i];
+			int right = Math.max(rectangle.x + rectangle.width, x + width);
+			int bottom = Math.max(rectangle.y + rectangle.height, y + height);
+			int unionX = Math.min(rectangle.x, x);
+			int unionY = Math.min(rectangle.y, y);
+			int unionWidth = right - unionX;
+			int unionHeight = bottom - unionY;
+			if (unionWidth == rectangle.width && unionHeight == rectangle.height) {
+				// The rectangle is already contained
+				return;
+			}
+			if (intersects(rectangle, x, y, width, height) || isWorthMerging(rectangle, width * height, unionWidth * unionHeight)) {
+
+				// Remove the rectangle and restart with the union
+				removeRectangle(i);
+				x = unionX;
+				y = unionY;
+				width = unionWidth;
+				height = unionHeight;
+				i = 0;
+				continue;
+
+			}
+			++i;
+		}
+
+		// Too many rectangles : fall back to the full bounds
+		if (count == maxRectangles) {
+			if (boundsWidth != 0 && boundsHeight != 0) {
+				full = true;
+				count = 1;
+				rectangles[0].setBounds(0, 0, boundsWidth, boundsHeight);
+				return;
+			}
+
+			// No bounds, merge everything
+			for (i = count - 1; i >= 0; --i) {
+				Metrics rectangle = rectangles[i];
+				int right = Math.max(rectangle.x + rectangle.width, x + width);
+				int bottom = Math.max(rectangle.y + rectangle.height, y + height);
+				x = Math.min(rectangle.x, x);
+				y = Math.min(rectangle.y, y);
+				width = right - x;
+				height = bottom - y;
+			}
+			count = 0;
+		}
+
+		rectangles[count++].setBounds(x, y, width, height);
+	}
+
+	/**
+	 * Add a copy translated by <code>dx</code>, <code>dy</code> of each
+	 * rectangle that intersects the <code>x</code>, <code>y</code>,
+	 * <code>width</code>, <code>height</code> area. Copies are clipped to
+	 * this area.
+	 * 
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @param dx
+	 * @param dy
+	 */
+	public synchronized void addTranslated(int x, int y, int width, int height, int dx, int dy) {
+		if (full) {
+			return;
+		}
+		
+		// Copy the current rectangles, because add() reorders them
+		int translationCount = count;
+		for (int i = 0; i < translationCount; ++i) {
+			Metrics rectangle = rectangles[i];
+			translationBuffer[i * 4] = rectangle.x;
+			translationBuffer[i * 4 + 1] = rectangle.y;
+			translationBuffer[i * 4 + 2] = rectangle.width;
+			translationBuffer[i * 4 + 3] = rectangle.height;
+		}
+		
+		for (int i = 0; i < translationCount; ++i) {
+			int left = Math.max(x, translationBuffer[i * 4] + dx);
+			int top = Math.max(y, translationBuffer[i * 4 + 1] + dy);
+			int right = Math.min(x + width, translationBuffer[i * 4] + translationBuffer[i * 4 + 2] + dx);
+			int bottom = Math.min(y + height, translationBuffer[i * 4 + 1] + translationBuffer[i * 4 + 3] + dy);
+			if (right > left && bottom > top) {
+				add(left, top, right - left, bottom - top);
+			}
+		}
+	}
+
+	/**
+	 * Remove all rectangles from the region.
+	 */
+	public synchronized void clear() {
+		count = 0;
+		full = false;
+	}
+
+	/**
+	 * Check if merging a rectangle of <code>area</code> with
+	 * <code>rectangle</code> into a union of <code>unionArea</code> wastes
+	 * less than <code>mergeThreshold</code> percent of the union area.
+	 *
+	 * @param rectangle
+	 * @param area
+	 * @param unionArea
+	 * @return <code>true</code> if the two rectangles should be merged
+	 */
+	private boolean isWorthMerging(Metrics rectangle, int area, int unionArea) {
+		int wastedArea = unionArea - area - rectangle.width * rectangle.height;
+		return wastedArea * 100 <= mergeThreshold * unionArea;
+	}
+
+	/**
+	 * Check rectangles intersection.
+	 *
+	 * @param rectangle
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @return <code>true</code> if <code>rectangle</code> intersects the
+	 *         <code>x</code>, <code>y</code>, <code>width</code>,
+	 *         <code>height</code> rectangle
+	 */
+	private boolean intersects(Metrics rectangle, int x, int y, int width, int height) {
+		return x < rectangle.x + rectangle.width
+				&& y < rectangle.y + rectangle.height
+				&& rectangle.x < x + width
+				&& rectangle.y < y + height;
+	}
+
+	/**
+	 * Remove the rectangle at <code>index</code> by swapping it with the last
+	 * one.
+	 *
+	 * @param index
+	 */
+	private void removeRectangle(int index) {
+		--count;
+		if (index != count) {
+			Metrics removed = rectangles[index];
+			rectangles[index] = rectangles[count];
+			rectangles[count] = removed;
+		}
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.util;
+
+import java.util.Hashtable;
+
+import javax.microedition.lcdui.Font;
+
+import org.kalmeo.kuix.core.KuixConstants;
+
+/**
+ * The <code>TextMetricsCache</code> memoizes <code>Font.stringWidth</code>
+ * results, because it is a slow native call on many MIDP VMs. Entries are
+ * identified by the font face, style and size and the text. The least
+ * recently used entry is removed when the cache holds
+ * <code>KuixConstants.TEXT_METRICS_CACHE_MAX_ENTRIES</code> entries.
+ * 
+ * @author agent
+ */
+public final class TextMetricsCache {
+
+	/**
+	 * This class represents a cache entry and its key
+	 */
+	private static final class Entry {
+		
+		private int face;
+		private int style;
+		private int size;
+		private String text;
+		
+		// The measured width
+		private int width;
+		
+		// LRU list links
+		private Entry previous;
+		private Entry next;
+		
+		/**
+		 * @param font
+		 * @param text
+		 */
+		private void set(Font font, String text) {
+			face = font.getFace();
+			style = font.getStyle();
+			size = font.getSize();
+			this.text = text;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		public int hashCode() {
+			return text.hashCode() + 31 * (face + 31 * (style + 31 * size));
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		public boolean equals(Object object) {
+			if (!(object instanceof Entry)) {
+				return false;
+			}
+			Entry entry = (Entry) object;
+			return entry.face == face 
+					&& entry.style == style 
+					&& entry.size == size 
+					&& entry.text.equals(text);
+		}
+		
+	}
+	
+	// Cache entries
+	private static final Hashtable entries = new Hashtable();
+	
+	// LRU list : first is the most recently used
+	private static Entry firstEntry = null;
+	private static Entry lastEntry = null;
+	
+	// Reused lookup key (it becomes the stored entry on cache miss)
+	private static Entry lookupEntry = new Entry();
+	
+	// Counters
+	private static int hitCount = 0;
+	private static int missCount = 0;
+	
+	/**
+	 * Construct a {@link TextMetricsCache}
+	 */
+	private TextMetricsCache() {
+	}
+	
+	/**
+	 * Returns the width of <code>text</code> drawn with <code>font</code>.
+	 * 
+	 * @param font
+	 * @param text
+	 * @return the text width in pixels
+	 */
+	public static synchronized int stringWidth(Font font, String text) {
+		lookupEntry.set(font, text);
+		Entry entry = (Entry) entries.get(lookupEntry);
+		if (entry != null) {
+			hitCount++;
+			if (entry != firstEntry) {
+				unlink(entry);
+				linkFirst(entry);
+			}
+			return entry.width;
+		}
+		missCount++;
+		if (entries.size() >= KuixConstants.TEXT_METRICS_CACHE_MAX_ENTRIES) {
+			Entry eldestEntry = lastEntry;
+			unlink(eldestEntry);
+			entries.remove(eldestEntry);
+		}
+		entry = lookupEntry;
+		entry.width = font.stringWidth(text);
+		lookupEntry = new Entry();
+		entries.put(entry, entry);
+		linkFirst(entry);
+		return entry.width;
+	}
+	
+	/**
+	 * Remove <code>entry</code> from the LRU list.
+	 * 
+	 * @param entry
+	 */
+	private static void unlink(Entry entry) {
+		if (entry.previous != null) {
+			entry.previous.next = entry.next;
+		} else {
+			firstEntry = entry.next;
+		}
+		if (entry.next != null) {
+			entry.next.previous = entry.previous;
+		} else {
+			lastEntry = entry.previous;
+		}
+		entry.previous = null;
+		entry.next = null;
+	}
+	
+	/**
+	 * Insert <code>entry</code> at the head of the LRU list.
+	 * 
+	 * @param entry
+	 */
+	private static void linkFirst(Entry entry) {
+		entry.next = firstEntry;
+		if (firstEntry != null) {
+			firstEntry.previous = entry;
+		} else {
+			lastEntry = entry;
+		}
+		firstEntry = entry;
+	}
+	
+	/**
+	 * Remove all cache entries and reset the counters.
+	 */
+	public static synchronized void clear() {
+		entries.clear();
+		firstEntry = null;
+		lastEntry = null;
+		hitCount = 0;
+		missCount = 0;
+	}
+	
+	/**
+	 * @return the number of cached entries
+	 */
+	public static int getSize() {
+		return entries.size();
+	}
+	
+	/**
+	 * @return the number of <code>stringWidth</code> calls answered by the
+	 *         cache
+	 */
+	public static int getHitCount() {
+		return hitCount;
+	}
+	
+	/**
+	 * @return the number of <code>stringWidth</code> calls that measured
+	 *         the text
+	 */
+	public static int getMissCount() {
+		return missCount;
+	}
+	
+	/**
+	 * Returns a String representation of the cache counters (used by the
+	 * debug infos).
+	 * 
+	 * @return the cache statistics
+	 */
+	public static String getStatistics() {
+		return new StringBuffer("text metrics : ").append(entries.size())
+				.append(" entries, ").append(hitCount)
+				.append(" hits, ").append(missCount)
+				.append(" misses").toString();
+	}
+	
+}
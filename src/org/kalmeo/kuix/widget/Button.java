@@ -57,16 +57,16 @@ public class Button extends ActionWidget {
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStyleAttributeValue(java.lang.String)
+	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 	 */
-	protected Object getDefaultStylePropertyValue(String name) {
-		if (KuixConstants.LAYOUT_STYLE_PROPERTY.equals(name)) {
+	protected Object getDefaultStylePropertyValue(int id) {
+		if (id == KuixConstants.LAYOUT_STYLE_PROPERTY_ID) {
 			return BUTTON_DEFAULT_LAYOUT;
 		}
-		if (KuixConstants.ALIGN_STYLE_PROPERTY.equals(name)) {
+		if (id == KuixConstants.ALIGN_STYLE_PROPERTY_ID) {
 			return Alignment.CENTER;
 		}
-		return super.getDefaultStylePropertyValue(name);
+		return super.getDefaultStylePropertyValue(id);
 	}
 
 }
@@ -92,6 +92,13 @@ public class CheckBox extends ActionWidget {
 		return super.getAttribute(name);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.widget.FocusableWidget#getAvailablePseudoClasses()
+	 */
+	public String[] getAvailablePseudoClasses() {
+		return PSEUDO_CLASSES;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.kalmeo.kuix.widget.AbstractFocusableWidget#isPseudoClassCompatible(java.lang.String)
 	 */
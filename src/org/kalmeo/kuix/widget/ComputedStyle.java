@@ -0,0 +1,260 @@
+/*
+ * This file is part of org.kalmeo.kuix.
+ *
+ * org.kalmeo.kuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * org.kalmeo.kuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with org.kalmeo.kuix.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Creation date : 18 oct. 2026
+ * Copyright (c) agent 2026. All rights reserved.
+ */
+
+package org.kalmeo.kuix.widget;
+
+import java.util.Vector;
+
+import javax.microedition.lcdui.Image;
+
+import org.kalmeo.kuix.core.KuixConstants;
+import org.kalmeo.kuix.layout.Layout;
+import org.kalmeo.kuix.layout.LayoutData;
+import org.kalmeo.kuix.util.Alignment;
+import org.kalmeo.kuix.util.Color;
+import org.kalmeo.kuix.util.Gap;
+import org.kalmeo.kuix.util.Insets;
+import org.kalmeo.kuix.util.Metrics;
+import org.kalmeo.kuix.util.Repeat;
+import org.kalmeo.kuix.util.Span;
+import org.kalmeo.kuix.util.Weight;
+
+/**
+ * A {@link ComputedStyle} holds the matched styles and the resolved style
+ * property values of a {@link Widget}.<br>
+ * Widgets the style cascade can't distinguish share the same instance : same
+ * class, tag, inherited tag, style classes and pseudo classes state, no id,
+ * no author style and the same parent computed style. Shared computed styles
+ * are registered in their parent computed style, then a widget only looks for
+ * an equivalent computed style among its parent and cousins ones.<br>
+ * Property values are resolved lazily by the first widget that needs them.
+ * Because equivalent widgets resolve the same values, a computed style never
+ * changes once a value is resolved. A widget that needs different values
+ * (styles or state changed) gets an other computed style.
+ * 
+ * @author agent
+ */
+final class ComputedStyle {
+
+	// Sharing key
+	private final Class widgetClass;
+	private final String tag;
+	private final String inheritedTag;
+	private final String[] styleClasses;
+	private final int pseudoClassStates;
+	
+	// Define if this computed style can be given to other widgets
+	private boolean sharable;
+	
+	// Shared children computed styles
+	private ComputedStyle[] children = null;
+	private int childCount = 0;
+	
+	// Sharing statistics
+	private static int sharedCount = 0;
+	private static int createdCount = 0;
+
+	// Matched styles (@see Kuix.getStyles(Widget))
+	Vector styles = null;
+	
+	// Style properties cache (@see Widget.VALID_CACHED_FLAG_*)
+	long validCachedFlags;
+	
+	Layout cachedLayout;
+	LayoutData cachedLayoutData;
+	Insets cachedMargin;
+	Insets cachedBorder;
+	Insets cachedPadding;
+	Insets cachedInsets;
+	Metrics cachedMinSize;
+	
+	Color cachedColor;
+	Color[] cachedBorderColor;
+	int cachedBorderStroke;
+	Image[] cachedBorderImage;
+	Alignment[] cachedBorderAlign;
+	Color cachedBackgroundColor;
+	Image[] cachedBackgroundImage;
+	Repeat[] cachedBackgroundRepeat;
+	Alignment[] cachedBackgroundAlign;
+	Color cachedGrayedColor;
+	
+	Gap cachedGap;
+	Span cachedSpan;
+	Weight cachedWeight;
+	Alignment cachedAlign;
+	
+	/**
+	 * Construct a {@link ComputedStyle}
+	 * 
+	 * @param widget
+	 * @param pseudoClassStates
+	 * @param sharable
+	 */
+	private ComputedStyle(Widget widget, int pseudoClassStates, boolean sharable) {
+		this.widgetClass = widget.getClass();
+		this.tag = widget.getTag();
+		this.inheritedTag = widget.getInheritedTag();
+		String[] widgetStyleClasses = widget.getStyleClasses();
+		if (widgetStyleClasses != null) {
+			// Copy, because setStyleClass could change the widget array
+			styleClasses = new String[widgetStyleClasses.length];
+			System.arraycopy(widgetStyleClasses, 0, styleClasses, 0, widgetStyleClasses.length);
+		} else {
+			styleClasses = null;
+		}
+		this.pseudoClassStates = pseudoClassStates;
+		this.sharable = sharable;
+	}
+	
+	/**
+	 * Returns a {@link ComputedStyle} for <code>widget</code> : an
+	 * equivalent shared one if it exists, else a new one.
+	 * 
+	 * @param widget
+	 * @return the widget computed style
+	 */
+	static ComputedStyle get(Widget widget) {
+		ComputedStyle parentStyle = null;
+		if (widget.parent != null && widget.getId() == null && widget.getAuthorStyle() == null && widget.isStyleSharable()) {
+			parentStyle = widget.parent.getComputedStyle();
+		}
+		
+		// Pseudo classes state
+		int pseudoClassStates = 0;
+		String[] pseudoClasses = widget.getAvailablePseudoClasses();
+		if (pseudoClasses != null) {
+			for (int i = pseudoClasses.length - 1; i >= 0; --i) {
+				if (widget.isPseudoClassCompatible(pseudoClasses[i])) {
+					pseudoClassStates |= 1 << i;
+				}
+			}
+		}
+		
+		if (parentStyle != null) {
+			
+			// Look for an equivalent computed style and remove the discarded ones
+			int count = 0;
+			ComputedStyle sharedStyle = null;
+			for (int i = 0; i < parentStyle.childCount; ++i) {
+				ComputedStyle childStyle = parentStyle.children[i];
+				if (childStyle.sharable) {
+					parentStyle.children[count++] = childStyle;
+					if (sharedStyle == null && childStyle.isEquivalent(widget, pseudoClassStates)) {
+						sharedStyle = childStyle;
+					}
+				}
+			}
+			for (int i = count; i < parentStyle.childCount; ++i) {
+				parentStyle.children[i] = null;
+			}
+			parentStyle.childCount = count;
+			if (sharedStyle != null) {
+				++sharedCount;
+				return sharedStyle;
+			}
+			
+		}
+		
+		// Create a new computed style
+		ComputedStyle computedStyle = new ComputedStyle(widget, pseudoClassStates, parentStyle != null);
+		++createdCount;
+		if (parentStyle != null) {
+			if (parentStyle.children == null) {
+				parentStyle.children = new ComputedStyle[KuixConstants.COMPUTED_STYLE_MAX_SHARED_CHILDREN];
+			}
+			if (parentStyle.childCount < parentStyle.children.length) {
+				parentStyle.children[parentStyle.childCount++] = computedStyle;
+			} else {
+				computedStyle.sharable = false;
+			}
+		}
+		return computedStyle;
+	}
+	
+	/**
+	 * Stop sharing this computed style, because the styles it was computed
+	 * from could have changed. The widgets that already use it are not
+	 * affected.
+	 */
+	void discard() {
+		sharable = false;
+	}
+	
+	/**
+	 * @param flag
+	 * @return true if the given <code>flag</code> is already activated
+	 */
+	boolean checkValidCachedFlag(long flag) {
+		return (validCachedFlags & flag) == flag;
+	}
+	
+	/**
+	 * Tests whether or not <code>widget</code> can share this computed
+	 * style. The widget parent computed style is already known to be the
+	 * same.
+	 * 
+	 * @param widget
+	 * @param pseudoClassStates the widget pseudo classes state
+	 * @return <code>true</code> if this computed style is equivalent
+	 */
+	private boolean isEquivalent(Widget widget, int pseudoClassStates) {
+		if (widgetClass != widget.getClass() || this.pseudoClassStates != pseudoClassStates) {
+			return false;
+		}
+		if (!equals(tag, widget.getTag()) || !equals(inheritedTag, widget.getInheritedTag())) {
+			return false;
+		}
+		String[] widgetStyleClasses = widget.getStyleClasses();
+		if (styleClasses == null || widgetStyleClasses == null) {
+			return styleClasses == widgetStyleClasses;
+		}
+		if (styleClasses.length != widgetStyleClasses.length) {
+			return false;
+		}
+		for (int i = styleClasses.length - 1; i >= 0; --i) {
+			if (!equals(styleClasses[i], widgetStyleClasses[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param string1
+	 * @param string2
+	 * @return <code>true</code> if both strings are <code>null</code> or equal
+	 */
+	private static boolean equals(String string1, String string2) {
+		return string1 == null ? string2 == null : string1.equals(string2);
+	}
+	
+	/**
+	 * Returns the sharing statistics of all computed styles.
+	 * 
+	 * @return a description of the shared and created computed styles counts
+	 */
+	static String getStatistics() {
+		return new StringBuffer("computed styles : ").append(sharedCount)
+				.append(" shared, ").append(createdCount)
+				.append(" created").toString();
+	}
+	
+}
@@ -403,6 +403,16 @@ public class Desktop extends Widget {
 		popupContainer.add(widget);
 	}
 	
+	/**
+	 * Check if at least one popup (or a dragged widget) is displayed over the
+	 * current screen.
+	 * 
+	 * @return <code>true</code> if a popup is displayed
+	 */
+	public boolean hasPopups() {
+		return popupContainer.getChild() != null;
+	}
+	
 	/**
 	 * Remove all popup widgets where tag equals <code>tag</code>.
 	 * 
@@ -473,14 +483,23 @@ public class Desktop extends Widget {
 	 * @see org.kalmeo.kuix.widget.Widget#paintImpl(javax.microedition.lcdui.Graphics)
 	 */
 	public void paintImpl(Graphics g) {
-		if (getBackgroundColor() == null) {
-			g.setColor(0xFFFFFF);
-			g.fillRect(0, 0, getWidth(), getHeight());
+		
+		// The screen is ignored if a popup fully hides the clip area
+		boolean occluded = popupContainer.findOccludingChild(	g.getClipX() - popupContainer.getX(), 
+																g.getClipY() - popupContainer.getY(), 
+																g.getClipWidth(), 
+																g.getClipHeight()) != null;
+		
+		if (!occluded) {
+			if (getBackgroundColor() == null) {
+				g.setColor(0xFFFFFF);
+				g.fillRect(0, 0, getWidth(), getHeight());
+			}
+			super.paintImpl(g);
 		}
-		super.paintImpl(g);
 		
 		// Grayed layer if defined on the las popup child
-		if (popupContainer.getLastChild() != null) {
+		if (!occluded && popupContainer.getLastChild() != null) {
 			
 			// Retrieve the last child gray color
 			Color grayedColor = popupContainer.getLastChild().getGrayedColor();
@@ -24,19 +24,30 @@ package org.kalmeo.kuix.widget;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Hashtable;
+import java.util.Vector;
 
 import org.kalmeo.kuix.core.Kuix;
 import org.kalmeo.kuix.core.KuixConstants;
+import org.kalmeo.kuix.core.WidgetTemplate;
+import org.kalmeo.kuix.core.focus.FocusManager;
 import org.kalmeo.kuix.core.model.DataProvider;
 import org.kalmeo.kuix.layout.InlineLayout;
 import org.kalmeo.kuix.layout.Layout;
 import org.kalmeo.kuix.util.Alignment;
+import org.kalmeo.kuix.util.Insets;
+import org.kalmeo.kuix.util.Metrics;
+import org.kalmeo.util.BooleanUtil;
 import org.kalmeo.util.LinkedList;
 import org.kalmeo.util.LinkedListItem;
 import org.kalmeo.util.LinkedList.LinkedListEnumeration;
 
 /**
  * This class represents a list. <br>
+ * A virtual list (<code>virtual</code> attribute) only creates the item
+ * widgets of the rows intersecting the viewport of its vertical
+ * {@link ScrollPane} parent. The item widgets that leave the viewport are
+ * recycled and bound to the new visible items. Other rows are measured by an
+ * estimated height (average of the measured ones).<br>
  * <br>
  * <strong>For further informations, visit the <a
  * href="http://www.kalmeo.org/files/kuix/widgetdoc/index.html"
@@ -46,6 +57,33 @@ import org.kalmeo.util.LinkedList.LinkedListEnumeration;
  */
 public class List extends Widget {
 
+	/**
+	 * Layout used by virtual lists : only the materialized rows are placed.
+	 */
+	private class VirtualLayout implements Layout {
+
+		/* (non-Javadoc)
+		 * @see org.kalmeo.kuix.layout.Layout#measurePreferredSize(org.kalmeo.kuix.widget.Widget, int, org.kalmeo.kuix.util.Metrics)
+		 */
+		public void measurePreferredSize(Widget target, int preferredWidth, Metrics metrics) {
+			Insets insets = getInsets();
+			Metrics minSize = getMinSize();
+			if (measuredRowCount == 0 && !virtualItems.isEmpty()) {
+				measureFirstRow(preferredWidth - insets.left - insets.right);
+			}
+			metrics.width = insets.left + Math.max(minSize.width, maxRowWidth) + insets.right;
+			metrics.height = insets.top + Math.max(minSize.height, getContentHeight()) + insets.bottom;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.kalmeo.kuix.layout.Layout#doLayout(org.kalmeo.kuix.widget.Widget)
+		 */
+		public void doLayout(Widget target) {
+			layoutRows();
+		}
+		
+	}
+	
 	// Defaults
 	private static final Alignment LIST_ALIGN = Alignment.FILL_TOP;
 	private static final Layout LIST_LAYOUT = new InlineLayout(false, Alignment.FILL);
@@ -53,8 +91,41 @@ public class List extends Widget {
 	// Default item widget renderer
 	private ByteArrayInputStream renderer;
 	
+	// The parsed renderer (lazily created from the renderer)
+	private WidgetTemplate rendererTemplate;
+	
 	// Represent the mapping between DataProviders and ItemWidgets
 	private final Hashtable dataProvidersMapping = new Hashtable();
+	
+	// Define if setItems keeps the item widgets of the remaining items
+	private boolean reconcileItems = true;
+	
+	// Virtual mode
+	private static final int UNKNOWN_ROW_HEIGHT = -1;
+	private boolean virtual = false;
+	private final Layout virtualLayout = new VirtualLayout();
+	private final Vector virtualItems = new Vector();
+	private int[] rowHeights = new int[0];
+	private int measuredRowCount = 0;
+	private int measuredRowHeightSum = 0;
+	private int maxRowWidth = 0;
+	
+	// Materialized rows (the list children) : items from firstRowIndex to firstRowIndex + rowCount - 1
+	private int firstRowIndex = 0;
+	private int rowCount = 0;
+	private int rowsTop = 0;
+	private int rowsBottom = 0;
+	
+	// Visible area in list coordinates
+	private int viewportTop;
+	private int viewportBottom;
+	
+	// The scrollPane that notifies the viewport changes
+	private ScrollPane viewportScrollPane;
+	
+	// Detached rows ready to be bound to other items
+	private final Vector recycledRows = new Vector();
+	private boolean layingOutRows = false;
 
 	/**
 	 * Construct a {@link List}
@@ -83,6 +154,14 @@ public class List extends Widget {
 			}
 			return false;
 		}
+		if (KuixConstants.VIRTUAL_ATTRIBUTE.equals(name)) {
+			setVirtual(BooleanUtil.parseBoolean(value));
+			return true;
+		}
+		if (KuixConstants.RECONCILE_ITEMS_ATTRIBUTE.equals(name)) {
+			setReconcileItems(BooleanUtil.parseBoolean(value));
+			return true;
+		}
 		return super.setAttribute(name, value);
 	}
 	
@@ -114,16 +193,26 @@ public class List extends Widget {
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStyleAttributeValue(java.lang.String)
+	 * @see org.kalmeo.kuix.widget.Widget#getLayout()
 	 */
-	protected Object getDefaultStylePropertyValue(String name) {
-		if (KuixConstants.LAYOUT_STYLE_PROPERTY.equals(name)) {
+	public Layout getLayout() {
+		if (virtual) {
+			return virtualLayout;
+		}
+		return super.getLayout();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
+	 */
+	protected Object getDefaultStylePropertyValue(int id) {
+		if (id == KuixConstants.LAYOUT_STYLE_PROPERTY_ID) {
 			return LIST_LAYOUT;
 		}
-		if (KuixConstants.ALIGN_STYLE_PROPERTY.equals(name)) {
+		if (id == KuixConstants.ALIGN_STYLE_PROPERTY_ID) {
 			return LIST_ALIGN;
 		}
-		return super.getDefaultStylePropertyValue(name);
+		return super.getDefaultStylePropertyValue(id);
 	}
 	
 	/**
@@ -138,14 +227,111 @@ public class List extends Widget {
 	 */
 	public void setRenderer(ByteArrayInputStream renderer) {
 		this.renderer = renderer;
+		this.rendererTemplate = null;
+		if (virtual) {
+			// Rows built from the previous renderer can't be reused
+			recycleAllRows();
+			clearRecycledRows();
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Returns the {@link WidgetTemplate} of the default item renderer. The
+	 * renderer is parsed only once, and item widgets are built from this
+	 * template.
+	 * 
+	 * @return the renderer template or <code>null</code> if no renderer is
+	 *         set on the list
+	 */
+	protected WidgetTemplate getRendererTemplate() {
+		if (rendererTemplate == null && renderer != null) {
+			renderer.reset();
+			rendererTemplate = new WidgetTemplate(renderer);
+		}
+		return rendererTemplate;
+	}
+
+	/**
+	 * @return the virtual
+	 */
+	public boolean isVirtual() {
+		return virtual;
 	}
 
 	/**
-	 * Redifine all item values
+	 * Define if the list is virtual. A virtual list only creates the item
+	 * widgets of its visible rows and recycles them while scrolling.<br>
+	 * Caution : in virtual mode <code>getItemWidget()</code> returns
+	 * <code>null</code> for the items outside of the viewport, and items can't
+	 * use a custom renderer.
+	 * 
+	 * @param virtual the virtual to set
+	 */
+	public void setVirtual(boolean virtual) {
+		if (this.virtual != virtual) {
+			
+			// Keep the current items
+			Vector items = new Vector();
+			if (this.virtual) {
+				for (int i = 0; i < virtualItems.size(); ++i) {
+					items.addElement(virtualItems.elementAt(i));
+				}
+			} else {
+				for (Widget widget = getChild(); widget != null; widget = widget.next) {
+					if (widget.getDataProvider() != null && dataProvidersMapping.get(widget.getDataProvider()) == widget) {
+						items.addElement(widget.getDataProvider());
+					}
+				}
+			}
+			removeAllItems();
+			clearRecycledRows();
+			
+			this.virtual = virtual;
+			for (int i = 0; i < items.size(); ++i) {
+				addItem((DataProvider) items.elementAt(i));
+			}
+			invalidate();
+			
+		}
+	}
+
+	/**
+	 * @return the reconcileItems
+	 */
+	public boolean isReconcileItems() {
+		return reconcileItems;
+	}
+
+	/**
+	 * Define if <code>setItems</code> reconciles the current item widgets
+	 * with the new items (keyed on the {@link DataProvider} instances) or
+	 * rebuilds all of them.
+	 * 
+	 * @param reconcileItems the reconcileItems to set
+	 */
+	public void setReconcileItems(boolean reconcileItems) {
+		this.reconcileItems = reconcileItems;
+	}
+
+	/**
+	 * Redifine all item values. If <code>reconcileItems</code> is
+	 * <code>true</code>, the item widgets of the items that are still in the
+	 * enumeration are kept (and reordered if needed), and only the widgets of
+	 * the new or removed items are created or removed.
 	 * 
 	 * @param itemsEnumeration
 	 */
 	public void setItems(LinkedListEnumeration itemsEnumeration) {
+		if (reconcileItems && !virtual && itemsEnumeration != null) {
+			try {
+				reconcileItems(itemsEnumeration);
+			} catch (ClassCastException e) {
+				// An item need to extends the DataProvider model
+				e.printStackTrace();
+			}
+			return;
+		}
 		removeAllItems();
 		if (itemsEnumeration != null) {
 			try {
@@ -160,6 +346,65 @@ public class List extends Widget {
 		}
 	}
 
+	/**
+	 * Update the item widgets to match the <code>itemsEnumeration</code>
+	 * content and order.
+	 * 
+	 * @param itemsEnumeration
+	 */
+	private void reconcileItems(LinkedListEnumeration itemsEnumeration) {
+		
+		// Collect the new items
+		Hashtable items = new Hashtable();
+		itemsEnumeration.reset();
+		while (itemsEnumeration.hasNextItems()) {
+			DataProvider item = (DataProvider) itemsEnumeration.nextItem();
+			items.put(item, item);
+		}
+		
+		// Remove the item widgets of the removed items
+		boolean removed = false;
+		Widget itemWidget = getChild();
+		while (itemWidget != null) {
+			Widget nextItemWidget = itemWidget.next;
+			DataProvider item = itemWidget.getDataProvider();
+			if (item != null && getItemWidget(item) == itemWidget && !items.containsKey(item)) {
+				removed |= internalDetachItem(itemWidget);
+			}
+			itemWidget = nextItemWidget;
+		}
+		if (removed) {
+			System.gc();
+		}
+		
+		// Add the new items and reorder the kept ones
+		WidgetTemplate template = getRendererTemplate();
+		Widget previousItemWidget = null;
+		itemsEnumeration.reset();
+		while (itemsEnumeration.hasNextItems()) {
+			DataProvider item = (DataProvider) itemsEnumeration.nextItem();
+			itemWidget = getItemWidget(item);
+			if (itemWidget == null) {
+				if (template == null) {
+					continue;
+				}
+				if (previousItemWidget != null) {
+					itemWidget = internalAddItem(item, Kuix.loadWidget(template, item), previousItemWidget, true);
+				} else {
+					itemWidget = internalAddItem(item, Kuix.loadWidget(template, item), getChild(), false);
+				}
+			} else if (previousItemWidget == null) {
+				if (getChild() != itemWidget) {
+					bringToFront(itemWidget);
+				}
+			} else if (previousItemWidget.next != itemWidget) {
+				bringNear(itemWidget, previousItemWidget, true);
+			}
+			previousItemWidget = itemWidget;
+		}
+		
+	}
+
 	/**
 	 * Add an item value
 	 * 
@@ -187,12 +432,19 @@ public class List extends Widget {
 	 * @param item
 	 * @param enabled
 	 * @param prepend
-	 * @return The added {@link Widget} or <code>null</code> if no renderer is set on the list
+	 * @return The added {@link Widget} or <code>null</code> if no renderer is
+	 *         set on the list. In virtual mode, item widgets are created by
+	 *         the layout and <code>null</code> is returned
 	 */
 	public Widget addItem(DataProvider item, DataProvider referenceItem, boolean after) {
-		if (renderer != null) {
-			renderer.reset();
-			return addItem(item, renderer, referenceItem, after);
+		WidgetTemplate template = getRendererTemplate();
+		if (template != null) {
+			if (virtual) {
+				int index = referenceItem != null ? virtualItems.indexOf(referenceItem) : -1;
+				insertVirtualItem(item, index == -1 ? virtualItems.size() : (after ? index + 1 : index));
+				return null;
+			}
+			return internalAddItem(item, Kuix.loadWidget(template, item), referenceItem != null ? getItemWidget(referenceItem) : null, after);
 		}
 		return null;
 	}
@@ -207,20 +459,22 @@ public class List extends Widget {
 	 * @return The added {@link Widget}
 	 */
 	public Widget addItem(DataProvider item, InputStream renderer, DataProvider referenceItem, boolean after) {
-		return internalAddItem(item, renderer, referenceItem != null ? getItemWidget(referenceItem) : null, after);
+		if (virtual) {
+			throw new IllegalArgumentException("Virtual list items can't use a custom renderer");
+		}
+		return internalAddItem(item, Kuix.loadWidget(renderer, item), referenceItem != null ? getItemWidget(referenceItem) : null, after);
 	}
 	
 	/**
-	 * Add an item value near an other {@link Widget}.
+	 * Add an item widget near an other {@link Widget}.
 	 * 
 	 * @param item
-	 * @param renderer
+	 * @param itemWidget
 	 * @param referenceWidget
 	 * @param after
 	 * @return The added {@link Widget}
 	 */
-	private Widget internalAddItem(DataProvider item, InputStream renderer, Widget referenceWidget, boolean after) {
-		Widget itemWidget = Kuix.loadWidget(renderer, item);
+	private Widget internalAddItem(DataProvider item, Widget itemWidget, Widget referenceWidget, boolean after) {
 		itemWidget.setDataProvider(item);
 		if (referenceWidget != null) {
 			add(itemWidget, referenceWidget, after);
@@ -239,6 +493,14 @@ public class List extends Widget {
 	 *         associated item widget removed
 	 */
 	public boolean removeItem(DataProvider item) {
+		if (virtual) {
+			int index = virtualItems.indexOf(item);
+			if (index != -1) {
+				removeVirtualItem(index);
+				return true;
+			}
+			return false;
+		}
 		Widget itemWidget = getItemWidget(item);
 		internalRemoveItem(itemWidget);
 		return itemWidget != null;
@@ -250,17 +512,40 @@ public class List extends Widget {
 	 *         associated item widget removed
 	 */
 	private void internalRemoveItem(Widget itemWidget) {
+		if (internalDetachItem(itemWidget)) {
+			System.gc();
+		}
+	}
+	
+	/**
+	 * Clean up and detach the <code>itemWidget</code> without requesting a
+	 * garbage collection.
+	 * 
+	 * @param itemWidget
+	 * @return <code>true</code> if the <code>itemWidget</code> had a parent
+	 */
+	private boolean internalDetachItem(Widget itemWidget) {
 		if (itemWidget != null) {
 			dataProvidersMapping.remove(itemWidget.getDataProvider());
 			itemWidget.cleanUp();
-			itemWidget.remove();
+			return itemWidget.detach();
 		}
+		return false;
 	}
 	
 	/**
 	 * Remove all items
 	 */
 	public void removeAllItems() {
+		if (virtual) {
+			recycleAllRows();
+			virtualItems.removeAllElements();
+			rowHeights = new int[0];
+			measuredRowCount = 0;
+			measuredRowHeightSum = 0;
+			maxRowWidth = 0;
+			invalidate();
+		}
 		cleanUpChildren();
 		removeAll();
 		dataProvidersMapping.clear();
@@ -269,8 +554,8 @@ public class List extends Widget {
 	/**
 	 * @param item
 	 * @return The item {@link Widget} associated with the specified
-	 *         {@link DataProvider}. If no item is found <code>null</code> is
-	 *         returned
+	 *         {@link DataProvider}. If no item is found (or if the item row is
+	 *         not materialized in virtual mode) <code>null</code> is returned
 	 */
 	public Widget getItemWidget(DataProvider item) {
 		return (Widget) dataProvidersMapping.get(item);
@@ -303,6 +588,11 @@ public class List extends Widget {
 
 						case DataProvider.SORT_MODEL_UPDATE_EVENT_TYPE: {
 							
+							if (virtual) {
+								setItems(itemsEnumeration);
+								return true;
+							}
+							
 							// Reorder item widgets
 							
 							Widget previousItemWidget = null;
@@ -327,6 +617,11 @@ public class List extends Widget {
 							
 						case DataProvider.FILTER_MODEL_UPDATE_EVENT_TYPE: {
 							
+							if (virtual) {
+								setItems(itemsEnumeration);
+								return true;
+							}
+							
 							itemsEnumeration.reset();
 							if (itemsEnumeration.hasNextItems()) {
 								
@@ -358,10 +653,7 @@ public class List extends Widget {
 									// If not in list but in enumeration, add in list
 									if (!isItemWidgetDataProvider && isEnumerationItem) {
 										if (itemWidget != null) {
-											if (renderer != null) {
-												renderer.reset();
-											}
-											internalAddItem((DataProvider) linkedListItem, renderer, itemWidget, false);
+											internalAddItem((DataProvider) linkedListItem, Kuix.loadWidget(getRendererTemplate(), (DataProvider) linkedListItem), itemWidget, false);
 										} else {
 											addItem((DataProvider) linkedListItem);
 										}
@@ -403,4 +695,376 @@ public class List extends Widget {
 		return false;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.widget.Widget#cleanUp()
+	 */
+	public void cleanUp() {
+		super.cleanUp();
+		clearRecycledRows();
+		if (viewportScrollPane != null) {
+			viewportScrollPane.removeVirtualList(this);
+			viewportScrollPane = null;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.widget.Widget#invalidate(org.kalmeo.kuix.widget.Widget)
+	 */
+	protected void invalidate(Widget fromWidget) {
+		// Rows added, removed or bound by the virtual layout don't change the list size
+		if (!layingOutRows) {
+			super.invalidate(fromWidget);
+		}
+	}
+
+	/**
+	 * Materialize the rows of the new viewport if it is no longer covered by
+	 * the current rows. This method is called by the {@link ScrollPane}
+	 * parent when its offset changes, because it doesn't relayout its content
+	 * while scrolling.
+	 */
+	void updateVisibleRows() {
+		if (virtual && !isInvalidated()) {
+			updateViewport();
+			if (viewportTop < rowsTop && firstRowIndex > 0 || viewportBottom > rowsBottom && firstRowIndex + rowCount < virtualItems.size()) {
+				layoutRows();
+			}
+		}
+	}
+	
+	/**
+	 * Insert an item in virtual mode.
+	 * 
+	 * @param item
+	 * @param index
+	 */
+	private void insertVirtualItem(DataProvider item, int index) {
+		int itemCount = virtualItems.size();
+		if (index < firstRowIndex + rowCount) {
+			if (index <= firstRowIndex) {
+				++firstRowIndex;
+			} else {
+				recycleAllRows();
+			}
+		}
+		virtualItems.insertElementAt(item, index);
+		if (itemCount == rowHeights.length) {
+			int[] heights = new int[Math.max(8, itemCount * 2)];
+			System.arraycopy(rowHeights, 0, heights, 0, itemCount);
+			rowHeights = heights;
+		}
+		System.arraycopy(rowHeights, index, rowHeights, index + 1, itemCount - index);
+		rowHeights[index] = UNKNOWN_ROW_HEIGHT;
+		invalidate();
+	}
+	
+	/**
+	 * Remove the item at <code>index</code> in virtual mode.
+	 * 
+	 * @param index
+	 */
+	private void removeVirtualItem(int index) {
+		if (index < firstRowIndex + rowCount) {
+			if (index < firstRowIndex) {
+				--firstRowIndex;
+			} else {
+				recycleAllRows();
+			}
+		}
+		if (rowHeights[index] != UNKNOWN_ROW_HEIGHT) {
+			--measuredRowCount;
+			measuredRowHeightSum -= rowHeights[index];
+		}
+		virtualItems.removeElementAt(index);
+		System.arraycopy(rowHeights, index + 1, rowHeights, index, virtualItems.size() - index);
+		invalidate();
+	}
+	
+	/**
+	 * @return the average height of the measured rows
+	 */
+	private int getEstimatedRowHeight() {
+		return measuredRowCount != 0 ? measuredRowHeightSum / measuredRowCount : 0;
+	}
+	
+	/**
+	 * @param index
+	 * @return the measured or estimated height of the row at <code>index</code>
+	 */
+	private int getRowHeight(int index) {
+		return rowHeights[index] != UNKNOWN_ROW_HEIGHT ? rowHeights[index] : getEstimatedRowHeight();
+	}
+	
+	/**
+	 * Store the measured height of the row at <code>index</code>.
+	 * 
+	 * @param index
+	 * @param height
+	 */
+	private void setRowHeight(int index, int height) {
+		if (rowHeights[index] == UNKNOWN_ROW_HEIGHT) {
+			++measuredRowCount;
+		} else {
+			measuredRowHeightSum -= rowHeights[index];
+		}
+		measuredRowHeightSum += height;
+		rowHeights[index] = height;
+	}
+	
+	/**
+	 * @return the height of all rows in virtual mode
+	 */
+	private int getContentHeight() {
+		int itemCount = virtualItems.size();
+		if (itemCount == 0) {
+			return 0;
+		}
+		return measuredRowHeightSum + (itemCount - measuredRowCount) * getEstimatedRowHeight() + (itemCount - 1) * getGap().verticalGap;
+	}
+	
+	/**
+	 * Compute the visible area of the list in its own coordinates. Without a
+	 * vertical {@link ScrollPane} parent, the whole list is visible.
+	 */
+	private void updateViewport() {
+		ScrollPane scrollPane = Kuix.findFirstScrollPaneParent(this);
+		if (scrollPane != viewportScrollPane) {
+			if (viewportScrollPane != null) {
+				viewportScrollPane.removeVirtualList(this);
+			}
+			viewportScrollPane = scrollPane;
+			if (scrollPane != null) {
+				scrollPane.addVirtualList(this);
+			}
+		}
+		if (scrollPane != null && !scrollPane.isHorizontal()) {
+			Widget container = scrollPane.getContainer();
+			int listY = getY() - container.getInsets().top;
+			for (Widget widget = parent; widget != null && widget != container; widget = widget.parent) {
+				listY += widget.getY();
+			}
+			viewportTop = scrollPane.getYOffset() - listY;
+			viewportBottom = viewportTop + container.getInnerHeight();
+		} else {
+			viewportTop = 0;
+			viewportBottom = getHeight();
+		}
+	}
+	
+	/**
+	 * Materialize and measure the first row to have a row height estimation.
+	 * 
+	 * @param width
+	 */
+	private void measureFirstRow(int width) {
+		layingOutRows = true;
+		try {
+			recycleAllRows();
+			Widget row = obtainRow((DataProvider) virtualItems.firstElement());
+			add(row);
+			firstRowIndex = 0;
+			rowCount = 1;
+			Metrics preferredSize = row.getPreferredSize(width);
+			setRowHeight(0, preferredSize.height);
+			maxRowWidth = Math.max(maxRowWidth, preferredSize.width);
+		} finally {
+			layingOutRows = false;
+		}
+	}
+	
+	/**
+	 * Materialize the rows intersecting the viewport (plus an overscan),
+	 * recycle the others, and place them.
+	 */
+	private void layoutRows() {
+		int itemCount = virtualItems.size();
+		Insets insets = getInsets();
+		int width = getWidth() - insets.left - insets.right;
+		int verticalGap = getGap().verticalGap;
+		if (measuredRowCount == 0 && itemCount != 0) {
+			measureFirstRow(width);
+		}
+		int lastContentHeight = getContentHeight();
+		int lastMaxRowWidth = maxRowWidth;
+		updateViewport();
+		
+		// Search the rows intersecting the viewport
+		int first = -1;
+		int last = -1;
+		int y = insets.top;
+		for (int i = 0; i < itemCount && y < viewportBottom; ++i) {
+			int rowHeight = getRowHeight(i);
+			if (y + rowHeight > viewportTop) {
+				if (first == -1) {
+					first = i;
+				}
+				last = i;
+			}
+			y += rowHeight + verticalGap;
+		}
+		if (first != -1) {
+			first = Math.max(0, first - KuixConstants.VIRTUAL_LIST_OVERSCAN);
+			last = Math.min(itemCount - 1, last + KuixConstants.VIRTUAL_LIST_OVERSCAN);
+		}
+		
+		layingOutRows = true;
+		try {
+			
+			// Recycle the rows outside of the new range
+			if (first == -1 || first > firstRowIndex + rowCount - 1 || last < firstRowIndex) {
+				recycleAllRows();
+				firstRowIndex = Math.max(0, first);
+			} else {
+				for (; firstRowIndex < first; ++firstRowIndex, --rowCount) {
+					recycleRow(getChild());
+				}
+				for (; firstRowIndex + rowCount - 1 > last; --rowCount) {
+					recycleRow(getLastChild());
+				}
+			}
+			
+			// Materialize the missing rows
+			if (first != -1) {
+				for (; firstRowIndex > first; ++rowCount) {
+					add(obtainRow((DataProvider) virtualItems.elementAt(--firstRowIndex)), getChild(), false);
+				}
+				for (; firstRowIndex + rowCount - 1 < last; ++rowCount) {
+					add(obtainRow((DataProvider) virtualItems.elementAt(firstRowIndex + rowCount)), getLastChild(), true);
+				}
+			}
+			
+			// Place the rows
+			y = insets.top;
+			for (int i = 0; i < firstRowIndex; ++i) {
+				y += getRowHeight(i) + verticalGap;
+			}
+			rowsTop = y;
+			int index = firstRowIndex;
+			for (Widget row = getChild(); row != null; row = row.next, ++index) {
+				Metrics preferredSize = row.getPreferredSize(width);
+				setRowHeight(index, preferredSize.height);
+				maxRowWidth = Math.max(maxRowWidth, preferredSize.width);
+				row.setBounds(insets.left, y, width, preferredSize.height);
+				y += preferredSize.height + verticalGap;
+			}
+			rowsBottom = y;
+			
+		} finally {
+			layingOutRows = false;
+		}
+		
+		// Measured rows changed the list preferred size
+		if (getContentHeight() != lastContentHeight || maxRowWidth != lastMaxRowWidth) {
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Returns a row widget bound to <code>item</code>. A recycled row is used
+	 * if possible.
+	 * 
+	 * @param item
+	 * @return the row {@link Widget}
+	 */
+	private Widget obtainRow(DataProvider item) {
+		Widget row;
+		if (!recycledRows.isEmpty()) {
+			row = (Widget) recycledRows.lastElement();
+			recycledRows.removeElementAt(recycledRows.size() - 1);
+			bindRow(row, item);
+		} else {
+			row = Kuix.loadWidget(getRendererTemplate(), item);
+		}
+		row.setDataProvider(item);
+		dataProvidersMapping.put(item, row);
+		return row;
+	}
+	
+	/**
+	 * Detach the <code>row</code> from the list and keep it to be reused if
+	 * the renderer allows it.
+	 * 
+	 * @param row
+	 */
+	private void recycleRow(Widget row) {
+		DataProvider item = row.getDataProvider();
+		if (item != null) {
+			dataProvidersMapping.remove(item);
+		}
+		
+		// A recycled row can't keep the focus
+		FocusManager focusManager = getFocusManager();
+		if (focusManager != null) {
+			for (Widget widget = focusManager.getFocusedWidget(); widget != null; widget = widget.parent) {
+				if (widget == row) {
+					focusManager.requestFocus(null);
+					break;
+				}
+			}
+		}
+		
+		row.detach();
+		invalidateHitTestIndex();	// The list invalidation is ignored while laying out rows
+		WidgetTemplate template = getRendererTemplate();
+		if (item != null && template != null && template.isRebindable() && recycledRows.size() < KuixConstants.VIRTUAL_LIST_MAX_RECYCLED_ROWS) {
+			unbindRow(row, item);
+			recycledRows.addElement(row);
+		} else {
+			row.cleanUp();
+		}
+	}
+	
+	/**
+	 * Recycle all materialized rows.
+	 */
+	private void recycleAllRows() {
+		while (getChild() != null) {
+			recycleRow(getChild());
+		}
+		rowCount = 0;
+		rowsTop = 0;
+		rowsBottom = 0;
+	}
+	
+	/**
+	 * CleanUp and forget the recycled rows.
+	 */
+	private void clearRecycledRows() {
+		for (int i = recycledRows.size() - 1; i >= 0; --i) {
+			((Widget) recycledRows.elementAt(i)).cleanUp();
+		}
+		recycledRows.removeAllElements();
+	}
+	
+	/**
+	 * Unbind <code>widget</code> and its children from <code>item</code>.
+	 * 
+	 * @param widget
+	 * @param item
+	 */
+	private void unbindRow(Widget widget, DataProvider item) {
+		if (widget.getDataProvider() == item) {
+			item.unbind(widget);
+			widget.setDataProvider(null);
+		}
+		for (Widget child = widget.getChild(); child != null; child = child.next) {
+			unbindRow(child, item);
+		}
+	}
+	
+	/**
+	 * Bind the unbound widgets of a recycled row to <code>item</code>.
+	 * 
+	 * @param widget
+	 * @param item
+	 */
+	private void bindRow(Widget widget, DataProvider item) {
+		if (widget.getDataProvider() == null && widget.hasBindInstruction()) {
+			item.bind(widget);
+		}
+		for (Widget child = widget.getChild(); child != null; child = child.next) {
+			bindRow(child, item);
+		}
+	}
+
 }
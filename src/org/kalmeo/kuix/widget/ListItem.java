@@ -57,13 +57,13 @@ public class ListItem extends ActionWidget {
 	}
 	
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStyleAttributeValue(java.lang.String)
+	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 	 */
-	protected Object getDefaultStylePropertyValue(String name) {
-		if (KuixConstants.LAYOUT_STYLE_PROPERTY.equals(name)) {
+	protected Object getDefaultStylePropertyValue(int id) {
+		if (id == KuixConstants.LAYOUT_STYLE_PROPERTY_ID) {
 			return LIST_ITEM_DEFAULT_LAYOUT;
 		}
-		return super.getDefaultStylePropertyValue(name);
+		return super.getDefaultStylePropertyValue(id);
 	}
 
 }
@@ -265,32 +265,26 @@ public class Picture extends Widget {
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getPreferredSize(int)
+	 * @see org.kalmeo.kuix.widget.Widget#computePreferredSize(int, org.kalmeo.kuix.util.Metrics)
 	 */
-	public Metrics getPreferredSize(int preferredWidth) {
-		Metrics metrics;
-		if (needToComputePreferredSize(preferredWidth)) {
-			metrics = super.getPreferredSize(preferredWidth);
-			if (image != null) {
-				Metrics minSize = getMinSize();
-				boolean rotate = isRotate();
-				metrics.width += Math.max(minSize.width, rotate ? frameHeight : frameWidth) - minSize.width;
-				metrics.height += Math.max(minSize.height, rotate ? frameWidth : frameHeight) - minSize.height;
-			}
-		} else {
-			metrics = getCachedMetrics();
+	protected void computePreferredSize(int preferredWidth, Metrics metrics) {
+		super.computePreferredSize(preferredWidth, metrics);
+		if (image != null) {
+			Metrics minSize = getMinSize();
+			boolean rotate = isRotate();
+			metrics.width += Math.max(minSize.width, rotate ? frameHeight : frameWidth) - minSize.width;
+			metrics.height += Math.max(minSize.height, rotate ? frameWidth : frameHeight) - minSize.height;
 		}
-		return metrics;
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStyleAttributeValue(java.lang.String)
+	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 	 */
-	protected Object getDefaultStylePropertyValue(String name) {
-		if (KuixConstants.ALIGN_STYLE_PROPERTY.equals(name)) {
+	protected Object getDefaultStylePropertyValue(int id) {
+		if (id == KuixConstants.ALIGN_STYLE_PROPERTY_ID) {
 			return PICTURE_DEFAULT_ALIGN;
 		}
-		return super.getDefaultStylePropertyValue(name);
+		return super.getDefaultStylePropertyValue(id);
 	}
 	
 	/**
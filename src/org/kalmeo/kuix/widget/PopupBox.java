@@ -194,10 +194,17 @@ public class PopupBox extends ActionWidget {
 		contentContainer = new Widget() {
 			
 			/* (non-Javadoc)
-			 * @see org.kalmeo.kuix.widget.Widget#getStylePropertyValue(java.lang.String, boolean)
+			 * @see org.kalmeo.kuix.widget.Widget#getStylePropertyValue(int, boolean)
 			 */
-			protected Object getStylePropertyValue(String name, boolean inherited) {
-				return PopupBox.this.getStylePropertyValue(name, inherited);
+			protected Object getStylePropertyValue(int id, boolean inherited) {
+				return PopupBox.this.getStylePropertyValue(id, inherited);
+			}
+			
+			/* (non-Javadoc)
+			 * @see org.kalmeo.kuix.widget.Widget#isStyleSharable()
+			 */
+			protected boolean isStyleSharable() {
+				return false;	// Style property values are the popupBox ones
 			}
 
 		};
@@ -364,15 +371,15 @@ public class PopupBox extends ActionWidget {
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(java.lang.String)
+	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 	 */
-	protected Object getDefaultStylePropertyValue(String name) {
-		if (KuixConstants.LAYOUT_STYLE_PROPERTY.equals(name)) {
+	protected Object getDefaultStylePropertyValue(int id) {
+		if (id == KuixConstants.LAYOUT_STYLE_PROPERTY_ID) {
 			return GridLayout.instanceOneByOne;
-		} else if (KuixConstants.LAYOUT_DATA_STYLE_PROPERTY.equals(name)) {
+		} else if (id == KuixConstants.LAYOUT_DATA_STYLE_PROPERTY_ID) {
 			return DEFAULT_CONTENT_CONTAINER_LAYOUT_DATA;
 		}
-		return super.getDefaultStylePropertyValue(name);
+		return super.getDefaultStylePropertyValue(id);
 	}
 	
 	/* (non-Javadoc)
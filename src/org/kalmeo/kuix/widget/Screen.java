@@ -255,7 +255,7 @@ public class Screen extends Widget {
 			 * @see org.kalmeo.kuix.widget.Widget#getLayout()
 			 */
 			public Layout getLayout() {
-				return (Layout) Screen.this.getStylePropertyValue(KuixConstants.LAYOUT_STYLE_PROPERTY, false);
+				return (Layout) Screen.this.getStylePropertyValue(KuixConstants.LAYOUT_STYLE_PROPERTY_ID, false);
 			}
 			
 			/* (non-Javadoc)
@@ -272,35 +272,42 @@ public class Screen extends Widget {
 			 * @see org.kalmeo.kuix.widget.Widget#getMargin()
 			 */
 			public Insets getMargin() {
-				return (Insets) Screen.this.getStylePropertyValue(KuixConstants.MARGIN_STYLE_PROPERTY, false);
+				return (Insets) Screen.this.getStylePropertyValue(KuixConstants.MARGIN_STYLE_PROPERTY_ID, false);
 			}
 
 			/* (non-Javadoc)
 			 * @see org.kalmeo.kuix.widget.Widget#getBorder()
 			 */
 			public Insets getBorder() {
-				return (Insets) Screen.this.getStylePropertyValue(KuixConstants.BORDER_STYLE_PROPERTY, false);
+				return (Insets) Screen.this.getStylePropertyValue(KuixConstants.BORDER_STYLE_PROPERTY_ID, false);
 			}
 
 			/* (non-Javadoc)
 			 * @see org.kalmeo.kuix.widget.Widget#getPadding()
 			 */
 			public Insets getPadding() {
-				return (Insets) Screen.this.getStylePropertyValue(KuixConstants.PADDING_STYLE_PROPERTY, false);
+				return (Insets) Screen.this.getStylePropertyValue(KuixConstants.PADDING_STYLE_PROPERTY_ID, false);
 			}
 
 			/* (non-Javadoc)
 			 * @see org.kalmeo.kuix.widget.Widget#getAlign()
 			 */
 			public Alignment getAlign() {
-				return (Alignment) Screen.this.getStylePropertyValue(KuixConstants.ALIGN_STYLE_PROPERTY, false);
+				return (Alignment) Screen.this.getStylePropertyValue(KuixConstants.ALIGN_STYLE_PROPERTY_ID, false);
 			}
 
 			/* (non-Javadoc)
 			 * @see org.kalmeo.kuix.widget.Widget#getGap()
 			 */
 			public Gap getGap() {
-				return (Gap) Screen.this.getStylePropertyValue(KuixConstants.GAP_STYLE_PROPERTY, false);
+				return (Gap) Screen.this.getStylePropertyValue(KuixConstants.GAP_STYLE_PROPERTY_ID, false);
+			}
+			
+			/* (non-Javadoc)
+			 * @see org.kalmeo.kuix.widget.Widget#isStyleSharable()
+			 */
+			protected boolean isStyleSharable() {
+				return false;	// Style property values are the screen ones
 			}
 			
 		};
@@ -488,7 +495,7 @@ public class Screen extends Widget {
 	 * @return the transition
 	 */
 	public Transition getTransition() {
-		Object transition = getStylePropertyValue(KuixConstants.TRANSITION_STYLE_PROPERTY, false);
+		Object transition = getStylePropertyValue(KuixConstants.TRANSITION_STYLE_PROPERTY_ID, false);
 		if (transition != null) {
 			return (Transition) transition;
 		}
@@ -496,13 +503,13 @@ public class Screen extends Widget {
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(java.lang.String)
+	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 	 */
-	protected Object getDefaultStylePropertyValue(String name) {
-		if (KuixConstants.LAYOUT_STYLE_PROPERTY.equals(name)) {
+	protected Object getDefaultStylePropertyValue(int id) {
+		if (id == KuixConstants.LAYOUT_STYLE_PROPERTY_ID) {
 			return GridLayout.instanceOneByOne;
 		}
-		return super.getDefaultStylePropertyValue(name);
+		return super.getDefaultStylePropertyValue(id);
 	}
 	
 	/**
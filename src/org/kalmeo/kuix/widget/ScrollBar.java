@@ -91,6 +91,13 @@ public class ScrollBar extends Widget {
 				}
 			}
 			
+			/* (non-Javadoc)
+			 * @see org.kalmeo.kuix.widget.Widget#isOpaque()
+			 */
+			public boolean isOpaque() {
+				return !barHidden && super.isOpaque();
+			}
+			
 		};
 		add(bar);
 	}
@@ -179,7 +186,7 @@ public class ScrollBar extends Widget {
 		int lastValue = this.value;
 		this.value = Math.min(MathFP.ONE, Math.max(0, value));
 		if (this.value != lastValue) {
-			invalidate();
+			invalidateAppearance();	// The value only changes the bar paint offset
 		}
 	}
 	
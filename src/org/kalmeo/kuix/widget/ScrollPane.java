@@ -21,8 +21,11 @@
 
 package org.kalmeo.kuix.widget;
 
+import java.util.Vector;
+
 import javax.microedition.lcdui.Graphics;
 
+import org.kalmeo.kuix.core.Kuix;
 import org.kalmeo.kuix.core.KuixConstants;
 import org.kalmeo.kuix.layout.BorderLayout;
 import org.kalmeo.kuix.layout.BorderLayoutData;
@@ -32,6 +35,8 @@ import org.kalmeo.kuix.util.Alignment;
 import org.kalmeo.kuix.util.Insets;
 import org.kalmeo.util.BooleanUtil;
 import org.kalmeo.util.MathFP;
+import org.kalmeo.util.worker.Worker;
+import org.kalmeo.util.worker.WorkerTask;
 
 /**
  * This class represents a scroll pane. <br>
@@ -57,19 +62,26 @@ public class ScrollPane extends Widget {
 		public ScrollPaneIndicator(String tag) {
 			super(tag);
 		}
+		
+		/* (non-Javadoc)
+		 * @see org.kalmeo.kuix.widget.Widget#isStyleSharable()
+		 */
+		protected boolean isStyleSharable() {
+			return false;	// The default layoutData depends on the indicator position
+		}
 
 		/* (non-Javadoc)
-		 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(java.lang.String)
+		 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 		 */
-		protected Object getDefaultStylePropertyValue(String name) {
-			if (KuixConstants.LAYOUT_DATA_STYLE_PROPERTY.equals(name)) {
+		protected Object getDefaultStylePropertyValue(int id) {
+			if (id == KuixConstants.LAYOUT_DATA_STYLE_PROPERTY_ID) {
 				if (horizontal) {
 					return this == firstIndicator ? BorderLayoutData.instanceWest : BorderLayoutData.instanceEast;
 				} else {
 					return this == firstIndicator ? BorderLayoutData.instanceNorth : BorderLayoutData.instanceSouth;
 				}
 			}
-			return super.getDefaultStylePropertyValue(name);
+			return super.getDefaultStylePropertyValue(id);
 		}
 		
 	}
@@ -102,6 +114,9 @@ public class ScrollPane extends Widget {
 	// Offsets
 	private int xOffset = 0;
 	private int yOffset = 0;
+	
+	// Virtual lists that materialize their rows according to the yOffset
+	private Vector virtualLists;
 
 	// Internal use
 	private int innerWidth;
@@ -114,6 +129,18 @@ public class ScrollPane extends Widget {
 	private int pressedXOffset = 0;
 	private int pressedYOffset = 0;
 	
+	// Kinetic scrolling
+	private boolean kinetic = true;
+	private int[] dragOffsets;		// Last dragged offsets (ring buffer)
+	private long[] dragTimes;
+	private int dragSampleIndex;
+	private int dragSampleCount;
+	private int flingVelocity;		// In pixels per second (0 = no fling)
+	private int flingRemainder;		// In thousandths of pixel
+	private long flingTime;
+	private boolean flingRunning = false;
+	private WorkerTask flingTask;
+	
 	/**
 	 * Construct a {@link ScrollPane}
 	 */
@@ -177,6 +204,22 @@ public class ScrollPane extends Widget {
 				return getWidgetAt(mx + xOffset, my + yOffset, getX(), getY(), contentWidth, contentHeight);
 			}
 			
+			/* (non-Javadoc)
+			 * @see org.kalmeo.kuix.widget.Widget#isRelayoutBoundary()
+			 */
+			public boolean isRelayoutBoundary() {
+				// The container fills the scrollPane : its size only depends on the content if the scrollPane size does
+				return ScrollPane.this.isRelayoutBoundary();
+			}
+			
+			/* (non-Javadoc)
+			 * @see org.kalmeo.kuix.widget.Widget#invalidate(org.kalmeo.kuix.widget.Widget)
+			 */
+			protected void invalidate(Widget fromWidget) {
+				needToAutoScroll = true;	// The invalidation may not reach the scrollPane if the container is a relayout boundary
+				super.invalidate(fromWidget);
+			}
+			
 			/* (non-Javadoc)
 			 * @see org.kalmeo.kuix.widget.Widget#add(org.kalmeo.kuix.widget.Widget)
 			 */
@@ -263,19 +306,26 @@ public class ScrollPane extends Widget {
 			public String getInheritedTag() {
 				return KuixConstants.SCROLL_BAR_WIDGET_TAG;
 			}
+			
+			/* (non-Javadoc)
+			 * @see org.kalmeo.kuix.widget.Widget#isStyleSharable()
+			 */
+			protected boolean isStyleSharable() {
+				return false;	// The default layoutData depends on the scrollPane orientation
+			}
 
 			/* (non-Javadoc)
-			 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(java.lang.String)
+			 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 			 */
-			protected Object getDefaultStylePropertyValue(String name) {
-				if (KuixConstants.LAYOUT_DATA_STYLE_PROPERTY.equals(name)) {
+			protected Object getDefaultStylePropertyValue(int id) {
+				if (id == KuixConstants.LAYOUT_DATA_STYLE_PROPERTY_ID) {
 					if (horizontal) {
 						return BorderLayoutData.instanceSouth;
 					} else {
 						return BorderLayoutData.instanceEast;
 					}
 				}
-				return super.getDefaultStylePropertyValue(name);
+				return super.getDefaultStylePropertyValue(id);
 			}
 			
 			/* (non-Javadoc)
@@ -315,6 +365,10 @@ public class ScrollPane extends Widget {
 			setAutoScroll(BooleanUtil.parseBoolean(value));
 			return true;
 		}
+		if (KuixConstants.KINETIC_ATTRIBUTE.equals(name)) {
+			setKinetic(BooleanUtil.parseBoolean(value));
+			return true;
+		}
 		return super.setAttribute(name, value);
 	}
 	
@@ -432,6 +486,26 @@ public class ScrollPane extends Widget {
 		this.autoScroll = autoScroll;
 	}
 
+	/**
+	 * @return the kinetic
+	 */
+	public boolean isKinetic() {
+		return kinetic;
+	}
+
+	/**
+	 * The kinetic attribute define if the content keeps scrolling and
+	 * decelerates after a pointer drag is released (fling).
+	 * 
+	 * @param kinetic the kinetic to set
+	 */
+	public void setKinetic(boolean kinetic) {
+		this.kinetic = kinetic;
+		if (!kinetic) {
+			flingVelocity = 0;
+		}
+	}
+
 	/**
 	 * Check if <code>widget</code> is one of the ScrollPane markers.
 	 * 
@@ -483,6 +557,20 @@ public class ScrollPane extends Widget {
 		return lastIndicator;
 	}
 	
+	/**
+	 * @return the xOffset
+	 */
+	public int getXOffset() {
+		return xOffset;
+	}
+	
+	/**
+	 * @return the yOffset
+	 */
+	public int getYOffset() {
+		return yOffset;
+	}
+	
 	/**
 	 * @param xOffset the xOffset to set
 	 * @return <code>true</code> if the xOffset value has changed
@@ -494,7 +582,11 @@ public class ScrollPane extends Widget {
 		}
 		int lastXOffset = this.xOffset;
 		this.xOffset = Math.max(0, Math.min(contentWidth - innerWidth, xOffset));
-		return lastXOffset != this.xOffset;
+		if (lastXOffset != this.xOffset) {
+			invalidateLayers();
+			return true;
+		}
+		return false;
 	}
 
 	/**
@@ -508,7 +600,57 @@ public class ScrollPane extends Widget {
 		}
 		int lastYOffset = this.yOffset;
 		this.yOffset = Math.max(0, Math.min(contentHeight - innerHeight, yOffset));
-		return lastYOffset != this.yOffset;
+		if (lastYOffset != this.yOffset) {
+			invalidateLayers();
+			updateVirtualLists();
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Register a virtual {@link List} to be notified when the yOffset
+	 * changes.
+	 * 
+	 * @param list
+	 */
+	void addVirtualList(List list) {
+		if (virtualLists == null) {
+			virtualLists = new Vector();
+		} else if (virtualLists.contains(list)) {
+			return;
+		}
+		virtualLists.addElement(list);
+	}
+	
+	/**
+	 * Unregister a virtual {@link List}.
+	 * 
+	 * @param list
+	 */
+	void removeVirtualList(List list) {
+		if (virtualLists != null) {
+			virtualLists.removeElement(list);
+		}
+	}
+	
+	/**
+	 * Let the registered virtual lists materialize the rows of the new
+	 * viewport. The lists that are no longer contained in this scrollPane are
+	 * unregistered.
+	 */
+	private void updateVirtualLists() {
+		if (virtualLists == null) {
+			return;
+		}
+		for (int i = virtualLists.size() - 1; i >= 0; --i) {
+			List list = (List) virtualLists.elementAt(i);
+			if (Kuix.findFirstScrollPaneParent(list) != this) {
+				virtualLists.removeElementAt(i);
+			} else {
+				list.updateVisibleRows();
+			}
+		}
 	}
 	
 	/* (non-Javadoc)
@@ -665,8 +807,8 @@ public class ScrollPane extends Widget {
 				scrollBar.setSelection(MathFP.div(innerWidth, contentWidth));
 			}
 			if (showIndicators) {
-				firstIndicator.setVisible(xOffset != 0);
-				lastIndicator.setVisible(contentWidth > innerWidth && xOffset < contentWidth - innerWidth);
+				updateIndicatorVisibility(firstIndicator, xOffset != 0);
+				updateIndicatorVisibility(lastIndicator, contentWidth > innerWidth && xOffset < contentWidth - innerWidth);
 			}
 		} else {
 			if (contentHeight != 0) {
@@ -674,9 +816,212 @@ public class ScrollPane extends Widget {
 				scrollBar.setSelection(MathFP.div(innerHeight, contentHeight));
 			}
 			if (showIndicators) {
-				firstIndicator.setVisible(yOffset != 0);
-				lastIndicator.setVisible(contentHeight > innerHeight && yOffset < contentHeight - innerHeight);
+				updateIndicatorVisibility(firstIndicator, yOffset != 0);
+				updateIndicatorVisibility(lastIndicator, contentHeight > innerHeight && yOffset < contentHeight - innerHeight);
+			}
+		}
+	}
+	
+	/**
+	 * Change the indicator visibility only if needed (to avoid a useless
+	 * invalidation).
+	 * 
+	 * @param indicator
+	 * @param visible
+	 */
+	private void updateIndicatorVisibility(ScrollPaneIndicator indicator, boolean visible) {
+		if (indicator.isIndividualyVisible() != visible) {
+			indicator.setVisible(visible);
+		}
+	}
+	
+	/**
+	 * Ask the canvas to scroll the already painted container content instead
+	 * of repainting it. The scroll is impossible if this scrollPane is
+	 * contained in an other scrollPane, if a background image is visible
+	 * behind the content (it doesn't scroll with the content) or if an other
+	 * widget is painted over the content.
+	 * 
+	 * @param dx the horizontal pixels displacement
+	 * @param dy the vertical pixels displacement
+	 * @return <code>true</code> if the content will be scrolled
+	 */
+	private boolean scrollContent(int dx, int dy) {
+		if (Kuix.getCanvas() == null || Kuix.findFirstScrollPaneParent(this) != null) {
+			return false;
+		}
+		for (Widget widget = container; widget != null; widget = widget.parent) {
+			if (widget.getBackgroundImage() != null) {
+				return false;
+			}
+			if (widget.getBackgroundColor() != null) {
+				break;
+			}
+		}
+		Insets insets = container.getInsets();
+		return Kuix.getCanvas().scrollNextFrame(	container, 
+													container.getDisplayX() + xOffset + insets.left, 
+													container.getDisplayY() + yOffset + insets.top, 
+													container.getInnerWidth(), 
+													container.getInnerHeight(), 
+													dx, 
+													dy);
+	}
+	
+	/**
+	 * Scroll to <code>offset</code> along the scroll axis.
+	 * 
+	 * @param offset
+	 * @return <code>true</code> if the offset has changed and the content
+	 *         couldn't be blitted (a repaint is needed)
+	 */
+	private boolean scrollTo(int offset) {
+		if (horizontal) {
+			int lastXOffset = xOffset;
+			if (setXOffset(offset)) {
+				updateScrollBarValues();
+				return !scrollContent(lastXOffset - xOffset, 0);
+			}
+		} else {
+			int lastYOffset = yOffset;
+			if (setYOffset(offset)) {
+				updateScrollBarValues();
+				return !scrollContent(0, lastYOffset - yOffset);
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns the time of the event being processed.
+	 * 
+	 * @return the event time in milliseconds
+	 */
+	private long getEventTime() {
+		if (Kuix.getCanvas() != null) {
+			return Kuix.getCanvas().getEventTimestamp();
+		}
+		return System.currentTimeMillis();
+	}
+	
+	/**
+	 * Record a dragged offset sample for the velocity tracking.
+	 * 
+	 * @param offset
+	 * @param time
+	 */
+	private void addDragSample(int offset, long time) {
+		if (dragOffsets == null) {
+			dragOffsets = new int[KuixConstants.SCROLL_VELOCITY_SAMPLE_COUNT];
+			dragTimes = new long[KuixConstants.SCROLL_VELOCITY_SAMPLE_COUNT];
+		}
+		dragOffsets[dragSampleIndex] = offset;
+		dragTimes[dragSampleIndex] = time;
+		dragSampleIndex = (dragSampleIndex + 1) % dragOffsets.length;
+		if (dragSampleCount < dragOffsets.length) {
+			dragSampleCount++;
+		}
+	}
+	
+	/**
+	 * Compute the drag velocity from the samples recorded in the last
+	 * <code>KuixConstants.SCROLL_VELOCITY_WINDOW</code> milliseconds before
+	 * <code>releaseTime</code>.
+	 * 
+	 * @param releaseTime
+	 * @return the velocity in pixels per second
+	 */
+	private int computeDragVelocity(long releaseTime) {
+		if (dragSampleCount < 2) {
+			return 0;
+		}
+		int lastIndex = (dragSampleIndex + dragOffsets.length - 1) % dragOffsets.length;
+		if (releaseTime - dragTimes[lastIndex] > KuixConstants.SCROLL_VELOCITY_WINDOW) {
+			return 0;	// The pointer stopped before release
+		}
+		int firstIndex = lastIndex;
+		for (int i = 1; i < dragSampleCount; ++i) {
+			int index = (lastIndex + dragOffsets.length - i) % dragOffsets.length;
+			if (dragTimes[lastIndex] - dragTimes[index] > KuixConstants.SCROLL_VELOCITY_WINDOW) {
+				break;
 			}
+			firstIndex = index;
+		}
+		long duration = dragTimes[lastIndex] - dragTimes[firstIndex];
+		if (duration <= 0) {
+			return 0;
+		}
+		int velocity = (int) ((dragOffsets[lastIndex] - dragOffsets[firstIndex]) * 1000L / duration);
+		return Math.max(-KuixConstants.SCROLL_FLING_MAX_VELOCITY, Math.min(KuixConstants.SCROLL_FLING_MAX_VELOCITY, velocity));
+	}
+	
+	/**
+	 * Start a fling animation with the given <code>velocity</code>. The
+	 * animation is a single {@link WorkerTask} that moves the offset
+	 * according to the elapsed time and decelerates until it stops or
+	 * reaches a bound.
+	 * 
+	 * @param velocity in pixels per second
+	 * @param time the start time in milliseconds
+	 */
+	private void startFling(int velocity, long time) {
+		if (Math.abs(velocity) < KuixConstants.SCROLL_FLING_MIN_VELOCITY) {
+			flingVelocity = 0;
+			return;
+		}
+		flingVelocity = velocity;
+		flingRemainder = 0;
+		flingTime = time;
+		if (flingTask == null) {
+			flingTask = new WorkerTask() {
+
+				/* (non-Javadoc)
+				 * @see org.kalmeo.util.worker.WorkerTask#run()
+				 */
+				public boolean run() {
+					if (flingVelocity == 0 || !isInWidgetTree()) {
+						flingVelocity = 0;
+						flingRunning = false;
+						return true;	// Remove the task
+					}
+					long currentTime = System.currentTimeMillis();
+					int elapsedTime = (int) Math.min(currentTime - flingTime, 1000);
+					flingTime = currentTime;
+					if (elapsedTime <= 0) {
+						return false;
+					}
+					
+					// Constant deceleration : the velocity stops at 0
+					int deceleration = KuixConstants.SCROLL_FLING_DECELERATION * elapsedTime / 1000;
+					int velocity = flingVelocity;
+					int nextVelocity;
+					if (velocity > 0) {
+						nextVelocity = Math.max(0, velocity - deceleration);
+					} else {
+						nextVelocity = Math.min(0, velocity + deceleration);
+					}
+					flingRemainder += (velocity + nextVelocity) * elapsedTime / 2;	// In thousandths of pixel
+					int distance = flingRemainder / 1000;
+					flingRemainder -= distance * 1000;
+					flingVelocity = nextVelocity;
+					
+					if (distance != 0) {
+						int offset = (horizontal ? xOffset : yOffset) + distance;
+						if (scrollTo(offset)) {
+							invalidateAppearance();
+						}
+						if ((horizontal ? xOffset : yOffset) != offset) {
+							flingVelocity = 0;	// A bound is reached
+						}
+					}
+					return false;
+				}
+				
+			};
+		}
+		if (!flingRunning) {
+			flingRunning = true;
+			Worker.instance.pushTask(flingTask);
 		}
 	}
 	
@@ -687,6 +1032,8 @@ public class ScrollPane extends Widget {
 		switch (type) {
 			
 			case KuixConstants.POINTER_PRESSED_EVENT_TYPE: {
+				flingVelocity = 0;	// A press stops the fling (the task removes itself)
+				dragSampleCount = 0;
 				pressedX = x;
 				pressedY = y;
 				pressedXOffset = xOffset;
@@ -695,18 +1042,26 @@ public class ScrollPane extends Widget {
 			}
 			
 			case KuixConstants.POINTER_DRAGGED_EVENT_TYPE: {
+				int offset;
 				if (horizontal) {
-					if (setXOffset(pressedXOffset - (x - pressedX) * KuixConstants.SCROLL_BOOSTER_FACTOR)) {
-						updateScrollBarValues();
-						return true;
-					}
+					offset = pressedXOffset - (x - pressedX) * KuixConstants.SCROLL_BOOSTER_FACTOR;
 				} else {
-					if (setYOffset(pressedYOffset - (y - pressedY) * KuixConstants.SCROLL_BOOSTER_FACTOR)) {
-						updateScrollBarValues();
-						return true;
-					}
+					offset = pressedYOffset - (y - pressedY) * KuixConstants.SCROLL_BOOSTER_FACTOR;
 				}
-				return false;
+				if (kinetic) {
+					addDragSample(offset, getEventTime());
+				}
+				// A blitted scroll doesn't need a full repaint : the event is not reported as treated in this case
+				return scrollTo(offset);
+			}
+			
+			case KuixConstants.POINTER_DROPPED_EVENT_TYPE: {
+				if (kinetic) {
+					long time = getEventTime();
+					startFling(computeDragVelocity(time), time);
+					dragSampleCount = 0;
+				}
+				break;
 			}
 			
 		}
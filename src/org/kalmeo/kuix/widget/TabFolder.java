@@ -72,13 +72,13 @@ public class TabFolder extends List {
 		buttonsContainer = new ScrollPane(KuixConstants.TAB_FOLDER_BUTTONS_CONTAINER_WIDGET_TAG, false) {
 
 			/* (non-Javadoc)
-			 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(java.lang.String)
+			 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 			 */
-			protected Object getDefaultStylePropertyValue(String name) {
-				if (KuixConstants.LAYOUT_DATA_STYLE_PROPERTY.equals(name)) {
+			protected Object getDefaultStylePropertyValue(int id) {
+				if (id == KuixConstants.LAYOUT_DATA_STYLE_PROPERTY_ID) {
 					return BorderLayoutData.instanceNorth;
 				}
-				return super.getDefaultStylePropertyValue(name);
+				return super.getDefaultStylePropertyValue(id);
 			}
 
 		};
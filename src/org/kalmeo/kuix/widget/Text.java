@@ -30,6 +30,7 @@ import org.kalmeo.kuix.util.Alignment;
 import org.kalmeo.kuix.util.Color;
 import org.kalmeo.kuix.util.Insets;
 import org.kalmeo.kuix.util.Metrics;
+import org.kalmeo.kuix.util.TextMetricsCache;
 import org.kalmeo.util.BooleanUtil;
 import org.kalmeo.util.worker.Worker;
 import org.kalmeo.util.worker.WorkerTask;
@@ -91,23 +92,17 @@ public class Text extends TextWidget {
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getPreferredSize(int)
+	 * @see org.kalmeo.kuix.widget.Widget#computePreferredSize(int, org.kalmeo.kuix.util.Metrics)
 	 */
-	public Metrics getPreferredSize(int preferredWidth) {
-		Metrics metrics;
-		if (needToComputePreferredSize(preferredWidth)) {
-			metrics = super.getPreferredSize(preferredWidth);
-			String text = getText();
-			Font font = getFont();
-			if (font != null) {
-				Metrics minSize = getMinSize();
-				metrics.width += Math.max(minSize.width, text != null ? font.stringWidth(text) : font.charWidth(' ')) - minSize.width;
-				metrics.height += Math.max(minSize.height, font.getHeight()) - minSize.height;
-			}
-		} else {
-			metrics = getCachedMetrics();
+	protected void computePreferredSize(int preferredWidth, Metrics metrics) {
+		super.computePreferredSize(preferredWidth, metrics);
+		String text = getText();
+		Font font = getFont();
+		if (font != null) {
+			Metrics minSize = getMinSize();
+			metrics.width += Math.max(minSize.width, text != null ? TextMetricsCache.stringWidth(font, text) : font.charWidth(' ')) - minSize.width;
+			metrics.height += Math.max(minSize.height, font.getHeight()) - minSize.height;
 		}
-		return metrics;
 	}
 
 	/* (non-Javadoc)
@@ -134,7 +129,7 @@ public class Text extends TextWidget {
 			// Compute text size and position
 			Font font = getFont();
 			Alignment alignment = getAlign();
-			int textWidth = font.stringWidth(text);
+			int textWidth = TextMetricsCache.stringWidth(font, text);
 			int insetWidth = getWidth() - insets.left - insets.right;
 			if (alignment != null) {
 				textX += alignment.alignX(insetWidth, textWidth);
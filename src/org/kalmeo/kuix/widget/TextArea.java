@@ -29,10 +29,11 @@ import javax.microedition.lcdui.Font;
 import javax.microedition.lcdui.Graphics;
 
 import org.kalmeo.kuix.core.KuixConstants;
-import org.kalmeo.kuix.layout.FlowLayout;
 import org.kalmeo.kuix.layout.Layout;
 import org.kalmeo.kuix.util.Alignment;
+import org.kalmeo.kuix.util.Color;
 import org.kalmeo.kuix.util.Gap;
+import org.kalmeo.kuix.util.Insets;
 import org.kalmeo.kuix.util.Metrics;
 import org.kalmeo.util.BooleanUtil;
 import org.kalmeo.util.xml.LightXmlParser;
@@ -49,17 +50,79 @@ import org.kalmeo.util.xml.LightXmlParserHandler;
  */
 public class TextArea extends TextWidget {
 
-	// Defaults
-	private static final Layout TEXTAREA_DEFAULT_LAYOUT = new FlowLayout(Alignment.BOTTOM);
+	/**
+	 * The {@link TextArea} layout : words and inline widgets flow in lines
+	 * like a {@link org.kalmeo.kuix.layout.FlowLayout} with a bottom
+	 * alignment, but words are not widgets.
+	 */
+	private class TextLayout implements Layout {
 
+		/* (non-Javadoc)
+		 * @see org.kalmeo.kuix.layout.Layout#measurePreferredSize(org.kalmeo.kuix.widget.Widget, int, org.kalmeo.kuix.util.Metrics)
+		 */
+		public void measurePreferredSize(Widget target, int preferredWidth, Metrics metrics) {
+			Insets insets = getInsets();
+			Metrics minSize = getMinSize();
+			measureContent(preferredWidth - insets.left - insets.right, metrics);
+			metrics.width = insets.left + Math.max(minSize.width, metrics.width) + insets.right;
+			metrics.height = insets.top + Math.max(minSize.height, metrics.height) + insets.bottom;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.kalmeo.kuix.layout.Layout#doLayout(org.kalmeo.kuix.widget.Widget)
+		 */
+		public void doLayout(Widget target) {
+			layoutLines();
+		}
+		
+	}
+	
+	// Item types
+	private static final byte WORD_ITEM = 0;
+	private static final byte WIDGET_ITEM = 1;
+	private static final byte BREAK_ITEM = 2;
+	
+	// Initial capacity of the item and line arrays
+	private static final int INITIAL_CAPACITY = 16;
+	
 	// Indicate is the text input need to be parse to extract HTML style tags during reflow 
 	private boolean styled = false;
 
 	// Indicate if the textArea need to be reflow before next getPreferredSize call
 	private boolean needToReflow;
 	
+	// The layout instance
+	private final Layout textLayout = new TextLayout();
+	
+	// Items : words (characters range and font style), inline widgets (hyperlinks and pictures) and breaks
+	private char[] chars;
+	private int itemCount = 0;
+	private byte[] itemTypes;
+	private int[] itemOffsets;
+	private int[] itemLengths;
+	private byte[] itemStyles;
+	private Widget[] itemWidgets;
+	private int[] itemWidths;		// Cached word widths (-1 = not measured)
+	private int[] itemXs;			// x coordinate of the item in its line
+	
+	// Lines computed for the breakWidth
+	private int breakWidth = -1;
+	private int lineCount = 0;
+	private int[] lineFirstItems;	// lineFirstItems[lineCount] = itemCount
+	private int[] lineYs;
+	private int[] lineWidths;
+	private int[] lineHeights;
+	private int[] lineXs;			// Line alignment offset (computed by layoutLines)
+	private int contentWidth;
+	private int contentHeight;
+	private int measuredWidth;		// Content size computed by the last computeLines call
+	private int measuredHeight;
+	private int contentX;
+	private int contentY;
+	
 	// The cached objects
 	private Gap cachedGap;
+	private final Font[] cachedFonts = new Font[8];	// Indexed by words font style
 	
 	/**
 	 * Construct a {@link TextArea}
@@ -111,13 +174,14 @@ public class TextArea extends TextWidget {
 	public void setStyled(boolean styled) {
 		this.styled = styled;
 		needToReflow = true;
+		invalidate();
 	}
 
 	/* (non-Javadoc)
 	 * @see org.kalmeo.kuix.widget.Text#getLayout()
 	 */
 	public Layout getLayout() {
-		return TEXTAREA_DEFAULT_LAYOUT;
+		return textLayout;
 	}
 	
 	/* (non-Javadoc)
@@ -139,16 +203,82 @@ public class TextArea extends TextWidget {
 		}
 		return cachedGap;
 	}
+	
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.widget.Widget#invalidate(org.kalmeo.kuix.widget.Widget)
+	 */
+	protected void invalidate(Widget fromWidget) {
+		breakWidth = -1;	// An inline widget could have changed its size
+		super.invalidate(fromWidget);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.widget.Widget#doLayout()
+	 */
+	protected void doLayout() {
+		if (needToReflow) {
+			reflow();
+		}
+		super.doLayout();
+	}
 
 	/* (non-Javadoc)
 	 * @see org.kalmeo.kuix.widget.Widget#paintChildrenImpl(javax.microedition.lcdui.Graphics)
 	 */
 	protected void paintChildrenImpl(Graphics g) {
+		if (lineCount == 0) {
+			return;
+		}
 		int minY = g.getClipY();
 		int maxY = minY + g.getClipHeight();
-		for (Widget widget = getChild(); widget != null; widget = widget.next) {
-			if (widget.getY() + widget.getHeight() >= minY && widget.getY() < maxY) {	// Optimized children paint if in scrollContainer
-				widget.paintImpl(g);
+		
+		// Find the first visible line (lineYs are sorted)
+		int low = 0;
+		int high = lineCount;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (contentY + lineYs[middle] + lineHeights[middle] < minY) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		
+		Color color = getColor();
+		int rgb = color != null ? color.getRGB() : 0x000000;
+		int currentStyle = -1;
+		for (int line = low; line < lineCount; ++line) {
+			int lineY = contentY + lineYs[line];
+			if (lineY >= maxY) {
+				break;
+			}
+			int lineX = contentX + lineXs[line];
+			for (int i = lineFirstItems[line]; i < lineFirstItems[line + 1]; ++i) {
+				switch (itemTypes[i]) {
+					
+					case WORD_ITEM: {
+						Font font = getItemFont(itemStyles[i]);
+						if (itemStyles[i] != currentStyle) {
+							if (currentStyle == -1) {
+								g.setColor(rgb);
+							}
+							g.setFont(font);
+							currentStyle = itemStyles[i];
+						}
+						g.drawChars(chars, itemOffsets[i], itemLengths[i], lineX + itemXs[i], lineY + lineHeights[line] - font.getHeight(), 0);
+						break;
+					}
+					
+					case WIDGET_ITEM: {
+						Widget widget = itemWidgets[i];
+						if (widget.isIndividualyVisible()) {
+							widget.paintImpl(g);
+							currentStyle = -1;	// The widget could have changed the font and the color
+						}
+						break;
+					}
+					
+				}
 			}
 		}
 	}
@@ -158,6 +288,13 @@ public class TextArea extends TextWidget {
 	 */
 	public void clearCachedStyles(boolean clearCachedStyle) {
 		cachedGap = null;
+		for (int i = 0; i < cachedFonts.length; ++i) {
+			cachedFonts[i] = null;
+		}
+		for (int i = 0; i < itemCount; ++i) {
+			itemWidths[i] = -1;
+		}
+		breakWidth = -1;
 		super.clearCachedStyles(clearCachedStyle);
 	}
 
@@ -169,18 +306,307 @@ public class TextArea extends TextWidget {
 	}
 	
 	/**
-	 * Construct all Text child according to the text input ans styled option
+	 * Returns the font used to draw words with the given <code>style</code>
+	 * (combined with the textArea font style).
+	 * 
+	 * @param style
+	 * @return the {@link Font}
+	 */
+	private Font getItemFont(int style) {
+		Font font = cachedFonts[style];
+		if (font == null) {
+			Font baseFont = getFont();
+			if (style == Font.STYLE_PLAIN) {
+				font = baseFont;
+			} else {
+				font = Font.getFont(baseFont.getFace(), baseFont.getStyle() | style, baseFont.getSize());
+			}
+			cachedFonts[style] = font;
+		}
+		return font;
+	}
+	
+	/**
+	 * Measure the content size for the given <code>width</code> into
+	 * <code>metrics</code>. The measure doesn't change the lines used to
+	 * paint the textArea (measured sizes are already cached by
+	 * <code>getPreferredSize</code>).
+	 * 
+	 * @param width the available content width
+	 * @param metrics
+	 */
+	private void measureContent(int width, Metrics metrics) {
+		if (needToReflow) {
+			reflow();
+		}
+		if (width == breakWidth) {
+			metrics.width = contentWidth;
+			metrics.height = contentHeight;
+			return;
+		}
+		computeLines(width, false);
+		metrics.width = measuredWidth;
+		metrics.height = measuredHeight;
+	}
+	
+	/**
+	 * Compute the lines for the given <code>width</code>. Lines are kept
+	 * until the width, the text, the style or an inline widget change.
+	 * 
+	 * @param width the available content width
+	 */
+	private void breakLines(int width) {
+		if (needToReflow) {
+			reflow();
+		}
+		if (width == breakWidth) {
+			return;
+		}
+		breakWidth = width;
+		computeLines(width, true);
+		contentWidth = measuredWidth;
+		contentHeight = measuredHeight;
+	}
+	
+	/**
+	 * Break the items in lines for the given <code>width</code>. The content
+	 * size is stored in <code>measuredWidth</code> and
+	 * <code>measuredHeight</code>.
+	 * 
+	 * @param width the available content width
+	 * @param keepLines if <code>true</code> the lines and the items x
+	 *            coordinates are stored
+	 */
+	private void computeLines(int width, boolean keepLines) {
+		if (keepLines) {
+			lineCount = 0;
+			newLine(0);
+		}
+		measuredWidth = 0;
+		measuredHeight = 0;
+		
+		Gap gap = getGap();
+		int lineWidth = 0;
+		int lineHeight = 0;
+		boolean lineEmpty = true;
+		for (int i = 0; i < itemCount; ++i) {
+			int itemWidth = 0;
+			int itemHeight = 0;
+			switch (itemTypes[i]) {
+				
+				case WORD_ITEM: {
+					Font font = getItemFont(itemStyles[i]);
+					if (itemWidths[i] == -1) {
+						itemWidths[i] = font.charsWidth(chars, itemOffsets[i], itemLengths[i]);
+					}
+					itemWidth = itemWidths[i];
+					itemHeight = font.getHeight();
+					break;
+				}
+				
+				case WIDGET_ITEM: {
+					Widget widget = itemWidgets[i];
+					if (!widget.isIndividualyVisible()) {
+						if (keepLines) {
+							itemXs[i] = 0;
+						}
+						continue;
+					}
+					Metrics preferredSize = widget.getPreferredSize(width);
+					itemWidth = preferredSize.width;
+					itemHeight = preferredSize.height;
+					break;
+				}
+				
+			}
+			
+			boolean isBreak = itemTypes[i] == BREAK_ITEM;
+			if (isBreak || !lineEmpty && lineWidth + gap.horizontalGap + itemWidth > width) {
+				
+				// Close the current line
+				closeLine(lineWidth, lineHeight, gap.verticalGap, keepLines);
+				if (keepLines) {
+					newLine(i);
+				}
+				lineWidth = 0;
+				lineHeight = 0;
+				lineEmpty = true;
+				
+			}
+			
+			if (!isBreak) {
+				int itemX = lineEmpty ? 0 : lineWidth + gap.horizontalGap;
+				if (keepLines) {
+					itemXs[i] = itemX;
+				}
+				lineWidth = itemX + itemWidth;
+				lineHeight = Math.max(lineHeight, itemHeight);
+				lineEmpty = false;
+			}
+			
+		}
+		closeLine(lineWidth, lineHeight, gap.verticalGap, keepLines);
+		if (keepLines) {
+			lineFirstItems[lineCount] = itemCount;
+		}
+	}
+	
+	/**
+	 * Start a new line with the item at <code>firstItem</code>.
+	 * 
+	 * @param firstItem
+	 */
+	private void newLine(int firstItem) {
+		if (lineFirstItems == null || lineCount + 1 >= lineFirstItems.length) {
+			int capacity = lineFirstItems == null ? INITIAL_CAPACITY : lineFirstItems.length * 2;
+			lineFirstItems = grow(lineFirstItems, capacity);
+			lineYs = grow(lineYs, capacity);
+			lineWidths = grow(lineWidths, capacity);
+			lineHeights = grow(lineHeights, capacity);
+			lineXs = grow(lineXs, capacity);
+		}
+		lineFirstItems[lineCount] = firstItem;
+	}
+	
+	/**
+	 * Close the current line and add it to the measured content size.
+	 * 
+	 * @param lineWidth
+	 * @param lineHeight
+	 * @param verticalGap
+	 * @param keepLines if <code>true</code> the line is stored
+	 */
+	private void closeLine(int lineWidth, int lineHeight, int verticalGap, boolean keepLines) {
+		if (measuredHeight != 0) {
+			measuredHeight += verticalGap;
+		}
+		if (keepLines) {
+			lineYs[lineCount] = measuredHeight;
+			lineWidths[lineCount] = lineWidth;
+			lineHeights[lineCount] = lineHeight;
+			lineCount++;
+		}
+		measuredWidth = Math.max(measuredWidth, lineWidth);
+		measuredHeight += lineHeight;
+	}
+	
+	/**
+	 * Align the lines in the textArea bounds and place the inline widgets.
+	 */
+	private void layoutLines() {
+		Insets insets = getInsets();
+		int width = getWidth() - insets.left - insets.right;
+		int height = getHeight() - insets.top - insets.bottom;
+		breakLines(width);
+		
+		Alignment alignment = getAlign();
+		contentX = insets.left;
+		contentY = insets.top;
+		if (alignment != null) {
+			contentX += alignment.alignX(width, contentWidth);
+			contentY += alignment.alignY(height, contentHeight);
+		}
+		for (int line = 0; line < lineCount; ++line) {
+			lineXs[line] = alignment != null ? alignment.alignX(contentWidth, lineWidths[line]) : 0;
+			for (int i = lineFirstItems[line]; i < lineFirstItems[line + 1]; ++i) {
+				if (itemTypes[i] == WIDGET_ITEM && itemWidgets[i].isIndividualyVisible()) {
+					Widget widget = itemWidgets[i];
+					Metrics preferredSize = widget.getPreferredSize(width);
+					widget.setBounds(	contentX + lineXs[line] + itemXs[i], 
+										contentY + lineYs[line] + lineHeights[line] - preferredSize.height, 
+										preferredSize.width, 
+										preferredSize.height);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns a copy of <code>array</code> with the given
+	 * <code>capacity</code>.
+	 * 
+	 * @param array
+	 * @param capacity
+	 * @return the new array
+	 */
+	private static int[] grow(int[] array, int capacity) {
+		int[] newArray = new int[capacity];
+		if (array != null) {
+			System.arraycopy(array, 0, newArray, 0, array.length);
+		}
+		return newArray;
+	}
+	
+	/**
+	 * Append an item.
+	 * 
+	 * @param type
+	 * @param offset
+	 * @param length
+	 * @param style
+	 * @param widget
+	 */
+	private void addItem(byte type, int offset, int length, int style, Widget widget) {
+		if (itemTypes == null || itemCount == itemTypes.length) {
+			int capacity = itemTypes == null ? INITIAL_CAPACITY : itemTypes.length * 2;
+			byte[] newItemTypes = new byte[capacity];
+			byte[] newItemStyles = new byte[capacity];
+			Widget[] newItemWidgets = new Widget[capacity];
+			if (itemTypes != null) {
+				System.arraycopy(itemTypes, 0, newItemTypes, 0, itemCount);
+				System.arraycopy(itemStyles, 0, newItemStyles, 0, itemCount);
+				System.arraycopy(itemWidgets, 0, newItemWidgets, 0, itemCount);
+			}
+			itemTypes = newItemTypes;
+			itemStyles = newItemStyles;
+			itemWidgets = newItemWidgets;
+			itemOffsets = grow(itemOffsets, capacity);
+			itemLengths = grow(itemLengths, capacity);
+			itemWidths = grow(itemWidths, capacity);
+			itemXs = grow(itemXs, capacity);
+		}
+		itemTypes[itemCount] = type;
+		itemOffsets[itemCount] = offset;
+		itemLengths[itemCount] = length;
+		itemStyles[itemCount] = (byte) style;
+		itemWidgets[itemCount] = widget;
+		itemWidths[itemCount] = -1;
+		itemCount++;
+	}
+	
+	/**
+	 * Append an inline widget (hyperlink or picture) item.
+	 * 
+	 * @param widget
+	 */
+	private void addWidgetItem(Widget widget) {
+		add(widget);
+		addItem(WIDGET_ITEM, 0, 0, Font.STYLE_PLAIN, widget);
+	}
+	
+	/**
+	 * Build the items according to the text input and styled option
 	 */
 	private void reflow() {
 		needToReflow = false;
 		removeAll();
+		for (int i = 0; i < itemCount; ++i) {
+			itemWidgets[i] = null;
+		}
+		itemCount = 0;
+		chars = null;
+		lineCount = 0;
+		breakWidth = -1;
 		
 		if (text == null || text.length() == 0) {
 			return;
 		}
 		
+		final StringBuffer buffer = new StringBuffer();
+		
 		if (!styled) {
-			splitWords(text, Font.STYLE_PLAIN);
+			splitWords(buffer, text, Font.STYLE_PLAIN);
+			chars = buffer.toString().toCharArray();
 			return;
 		}
 		
@@ -223,7 +649,7 @@ public class TextArea extends TextWidget {
 						Object attribute = attributes.get(KuixConstants.IMAGE_TAG_SRC_ATTRIBUTE);
 						if (attribute != null) {
 							Picture picture = new Picture().setSource((String) attribute);
-							add(picture);
+							addWidgetItem(picture);
 						}
 					}
 				}
@@ -246,18 +672,19 @@ public class TextArea extends TextWidget {
 							hyperlink.setOnAction("goUrl(" + lastHref + ")");
 							lastHref = null;
 						}
-						add(hyperlink);
+						addWidgetItem(hyperlink);
 						lastCharacters = null;
 					} else {
 						processLastCharacters();
 						if (KuixConstants.BREAD_RETURN_TAG.equals(name) 
 								|| KuixConstants.PARAGRAPH_TAG.equals(name) 
 								|| KuixConstants.DIV_TAG.equals(name)) {
-							add(new Widget(KuixConstants.BREAK_WIDGET_TAG));
+							addItem(BREAK_ITEM, 0, 0, Font.STYLE_PLAIN, null);
 							if (KuixConstants.PARAGRAPH_TAG.equals(name) 
 									|| KuixConstants.DIV_TAG.equals(name)) {
-								add(new Text().setText(" "));
-								add(new Widget(KuixConstants.BREAK_WIDGET_TAG));
+								addItem(WORD_ITEM, buffer.length(), 1, Font.STYLE_PLAIN, null);	// A space gives its height to the empty line
+								buffer.append(' ');
+								addItem(BREAK_ITEM, 0, 0, Font.STYLE_PLAIN, null);
 							}
 						} else if (KuixConstants.BOLD_TAG.equals(name) || KuixConstants.STRONG_TAG.equals(name)) {
 							bold--;
@@ -288,7 +715,7 @@ public class TextArea extends TextWidget {
 							style |= Font.STYLE_UNDERLINED;
 						}
 						
-						splitWords(lastCharacters, style);
+						splitWords(buffer, lastCharacters, style);
 						lastCharacters = null;
 					}
 				}
@@ -300,26 +727,27 @@ public class TextArea extends TextWidget {
 			e.printStackTrace();
 		}
 		
+		chars = buffer.toString().toCharArray();
+		
 	}
 	
-	private void splitWords(String fullText, int style) {
+	/**
+	 * Append the words of <code>fullText</code> to the <code>buffer</code>
+	 * and add a word item for each of them.
+	 * 
+	 * @param buffer
+	 * @param fullText
+	 * @param style
+	 */
+	private void splitWords(StringBuffer buffer, String fullText, int style) {
 		int beginIndex = 0;
 		int endIndex = 0;
-		String word;
 		do {
 			endIndex = fullText.indexOf(' ', beginIndex);
-			if (endIndex == -1) {
-				word = fullText.substring(beginIndex);
-			} else {
-				word = fullText.substring(beginIndex, endIndex);
-			}
-			if (word.length() != 0) {
-				Text textWidget = new Text();
-				textWidget.setText(word);
-				if (style != Font.STYLE_PLAIN) {
-					textWidget.setDefaultFontStyle(style);
-				}
-				add(textWidget);
+			int wordEndIndex = endIndex == -1 ? fullText.length() : endIndex;
+			if (wordEndIndex > beginIndex) {
+				addItem(WORD_ITEM, buffer.length(), wordEndIndex - beginIndex, style, null);
+				buffer.append(fullText.substring(beginIndex, wordEndIndex));
 			}
 			beginIndex = endIndex + 1;
 		} while (endIndex  != -1);
@@ -140,7 +140,7 @@ public abstract class TextWidget extends FocusableWidget {
 	 * @return The font face
 	 */
 	private int getFontFace() {
-		Object fontFaceValue = getStylePropertyValue(KuixConstants.FONT_FACE_STYLE_PROPERTY, true);
+		Object fontFaceValue = getStylePropertyValue(KuixConstants.FONT_FACE_STYLE_PROPERTY_ID, true);
 		if (fontFaceValue != null) {
 			return ((Integer) fontFaceValue).intValue();
 		}
@@ -154,7 +154,7 @@ public abstract class TextWidget extends FocusableWidget {
 		int fontStyle = Font.STYLE_PLAIN;
 		Object fontStyleValue;
 		for (Widget widget = this; widget != null; widget = widget.parent) {
-			fontStyleValue = widget.getStylePropertyValue(KuixConstants.FONT_STYLE_STYLE_PROPERTY, false);
+			fontStyleValue = widget.getStylePropertyValue(KuixConstants.FONT_STYLE_STYLE_PROPERTY_ID, false);
 			if (fontStyleValue != null) {
 				fontStyle |= ((Integer) fontStyleValue).intValue();
 			}
@@ -166,7 +166,7 @@ public abstract class TextWidget extends FocusableWidget {
 	 * @return The font size
 	 */
 	private int getFontSize() {
-		Object fontSizeValue = getStylePropertyValue(KuixConstants.FONT_SIZE_STYLE_PROPERTY, true);
+		Object fontSizeValue = getStylePropertyValue(KuixConstants.FONT_SIZE_STYLE_PROPERTY_ID, true);
 		if (fontSizeValue != null) {
 			return ((Integer) fontSizeValue).intValue();
 		}
@@ -184,19 +184,19 @@ public abstract class TextWidget extends FocusableWidget {
 	}
 
 	/* (non-Javadoc)
-	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(java.lang.String)
+	 * @see org.kalmeo.kuix.widget.Widget#getDefaultStylePropertyValue(int)
 	 */
-	protected Object getDefaultStylePropertyValue(String name) {
-		if (defaultFontFace != null && KuixConstants.FONT_FACE_STYLE_PROPERTY.equals(name)) {
+	protected Object getDefaultStylePropertyValue(int id) {
+		if (defaultFontFace != null && id == KuixConstants.FONT_FACE_STYLE_PROPERTY_ID) {
 			return defaultFontFace;
 		}
-		if (defaultFontStyle != null && KuixConstants.FONT_STYLE_STYLE_PROPERTY.equals(name)) {
+		if (defaultFontStyle != null && id == KuixConstants.FONT_STYLE_STYLE_PROPERTY_ID) {
 			return defaultFontStyle;
 		}
-		if (defaultFontSize != null && KuixConstants.FONT_SIZE_STYLE_PROPERTY.equals(name)) {
+		if (defaultFontSize != null && id == KuixConstants.FONT_SIZE_STYLE_PROPERTY_ID) {
 			return defaultFontSize;
 		}
-		return super.getDefaultStylePropertyValue(name);
+		return super.getDefaultStylePropertyValue(id);
 	}
 	
 	/* (non-Javadoc)
@@ -51,6 +51,13 @@ public class UnpaintableWidget extends Widget {
 		// Ignore children painting
 		
 	}
+	
+	/* (non-Javadoc)
+	 * @see org.kalmeo.kuix.widget.Widget#isOpaque()
+	 */
+	public boolean isOpaque() {
+		return false;	// Nothing is painted
+	}
 
 	/* (non-Javadoc)
 	 * @see org.kalmeo.kuix.widget.Widget#cleanUp()
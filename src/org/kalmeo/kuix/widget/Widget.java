@@ -36,11 +36,14 @@ import org.kalmeo.kuix.core.style.StyleSelector;
 import org.kalmeo.kuix.layout.InlineLayout;
 import org.kalmeo.kuix.layout.Layout;
 import org.kalmeo.kuix.layout.LayoutData;
+import org.kalmeo.kuix.layout.StaticLayout;
+import org.kalmeo.kuix.layout.StaticLayoutData;
 import org.kalmeo.kuix.util.Alignment;
 import org.kalmeo.kuix.util.Color;
 import org.kalmeo.kuix.util.Gap;
 import org.kalmeo.kuix.util.Insets;
 import org.kalmeo.kuix.util.Metrics;
+import org.kalmeo.kuix.util.MosaicImageCache;
 import org.kalmeo.kuix.util.Repeat;
 import org.kalmeo.kuix.util.Span;
 import org.kalmeo.kuix.util.Weight;
@@ -199,6 +202,12 @@ public class Widget {
 
 	// Defaults
 	private static final Layout DEFAULT_LAYOUT = new InlineLayout();
+	
+	// Hit test index axis
+	private static final byte HIT_TEST_AXIS_NONE = 0;
+	private static final byte HIT_TEST_AXIS_X = 1;
+	private static final byte HIT_TEST_AXIS_Y = 2;
+	private static final Widget[] NO_HIT_TEST_CHILDREN = new Widget[0];
 	protected static final Insets DEFAULT_MARGIN = new Insets();
 	protected static final Insets DEFAULT_BORDER = new Insets();
 	protected static final Insets DEFAULT_PADDING = new Insets();
@@ -232,6 +241,10 @@ public class Widget {
 	// The first child widget
 	private Widget child;
 	private Widget lastChild;
+	
+	// Hit test index : visible children sorted along hitTestAxis (null = not built)
+	private Widget[] hitTestChildren;
+	private byte hitTestAxis;
 
 	// The position of the widget
 	private int x;
@@ -268,13 +281,29 @@ public class Widget {
 	// Define if the widget need to be relayout
 	private boolean invalidated = true;
 	
-	// Use in constraints computation optimization to know if it's nesesary to recompute widget's preferedSize
-	private int lastPreferredWidth = -1;
+	// Define if the widget size doesn't depend on its content (@see isRelayoutBoundary())
+	private boolean relayoutBoundary = false;
+	
+	// Preferred sizes cache, most recently used first : { preferredWidth0, width0, height0, preferredWidth1, ... }
+	private int[] preferredSizeCache = null;
+	private int preferredSizeCacheCount = 0;
+	
+	// Preferred sizes cache statistics
+	private static int preferredSizeCacheHitCount = 0;
+	private static int preferredSizeCacheMissCount = 0;
 	
 	// The cached objects
-	private Vector cachedStyles = null;
 	private Metrics cachedMetrics = null;
 	
+	// Offscreen layer cache
+	private boolean layerCached = false;
+	private boolean layerInvalidated = true;
+	private Image cachedLayer = null;
+	
+	// Offscreen layers memory usage (in bytes) and layer cached widget count
+	private static int layerCacheSize = 0;
+	private static int layerCachedWidgetCount = 0;
+	
 	// Style proprperties cache
 	
 	private static final long VALID_CACHED_FLAG_LAYOUT 				= 1 << 0;
@@ -301,31 +330,8 @@ public class Widget {
 	private static final long VALID_CACHED_FLAG_WEIGHT 				= 1 << 19;
 	private static final long VALID_CACHED_FLAG_ALIGN 				= 1 << 20;
 
-	private long validCachedFlags;
-
-	private Layout cachedLayout;
-	private LayoutData cachedLayoutData;
-	private Insets cachedMargin;
-	private Insets cachedBorder;
-	private Insets cachedPadding;
-	private Insets cachedInsets;
-	private Metrics cachedMinSize;
-	
-	private Color cachedColor;
-	private Color[] cachedBorderColor;
-	private int cachedBorderStroke;
-	private Image[] cachedBorderImage;
-	private Alignment[] cachedBorderAlign;
-	private Color cachedBackgroundColor;
-	private Image[] cachedBackgroundImage;
-	private Repeat[] cachedBackgroundRepeat;
-	private Alignment[] cachedBackgroundAlign;
-	private Color cachedGrayedColor;
-	
-	private Gap cachedGap;
-	private Span cachedSpan;
-	private Weight cachedWeight;
-	private Alignment cachedAlign;
+	// Computed style, shared with equivalent widgets (@see ComputedStyle)
+	private ComputedStyle computedStyle = null;
 	
 	/**
 	 * Construct a {@link Widget}
@@ -379,6 +385,14 @@ public class Widget {
 			setVisible(BooleanUtil.parseBoolean(value));
 			return true;
 		}
+		if (KuixConstants.LAYER_CACHED_ATTRIBUTE.equals(name)) {
+			setLayerCached(BooleanUtil.parseBoolean(value));
+			return true;
+		}
+		if (KuixConstants.RELAYOUT_BOUNDARY_ATTRIBUTE.equals(name)) {
+			setRelayoutBoundary(BooleanUtil.parseBoolean(value));
+			return true;
+		}
 		if (KuixConstants.SHORTCUTS_ATTRIBUTE.equals(name) || KuixConstants.PRESSED_SHORTCUTS_ATTRIBUTE.equals(name)) {
 			setShortcuts(value, KuixConstants.KEY_PRESSED_EVENT_TYPE);
 			return true;
@@ -635,6 +649,11 @@ public class Widget {
 			this.width = width;
 			this.height = height;
 			
+			// The parent hit test index is no longer valid
+			if (parent != null) {
+				parent.hitTestChildren = null;
+			}
+			
 			// Compute visual center coordinates
 			Insets margin = getMargin();
 			visualCenterX = (width - margin.left - margin.right) / 2 + margin.left;
@@ -712,6 +731,88 @@ public class Widget {
 		invalidate();
 	}
 	
+	/**
+	 * @return the layerCached
+	 */
+	public boolean isLayerCached() {
+		return layerCached;
+	}
+
+	/**
+	 * Define if the widget and its children are rendered once into an
+	 * offscreen layer image that is painted on next frames until the widget or
+	 * one of its children is invalidated. All layers memory is limited by
+	 * <code>Kuix.layerCacheBudget</code>.<br>
+	 * The layer is only used if the widget's background color covers its full
+	 * bounds (no margin).<br>
+	 * <b>Caution</b> : use it only on static content. {@link UnpaintableWidget}
+	 * children are not supported.
+	 * 
+	 * @param layerCached the layerCached to set
+	 */
+	public void setLayerCached(boolean layerCached) {
+		if (this.layerCached != layerCached) {
+			this.layerCached = layerCached;
+			if (layerCached) {
+				layerCachedWidgetCount++;
+			} else {
+				layerCachedWidgetCount--;
+				releaseCachedLayer();
+			}
+			layerInvalidated = true;
+		}
+	}
+	
+	/**
+	 * Tests whether or not this widget is a relayout boundary : its bounds
+	 * can't depend on its descendants. An invalidation coming from a
+	 * descendant stops here and only this widget subtree is laid out on next
+	 * frame. An invalidation of the widget itself is still propagated to its
+	 * parent.<br>
+	 * A widget is a relayout boundary if it is declared as is (@see
+	 * {@link #setRelayoutBoundary(boolean)}), or if its parent uses a
+	 * {@link StaticLayout} and its {@link StaticLayoutData} defines a pixel or
+	 * percentage width and height.
+	 * 
+	 * @return <code>true</code> if the widget is a relayout boundary
+	 */
+	public boolean isRelayoutBoundary() {
+		if (relayoutBoundary) {
+			return true;
+		}
+		if (parent != null && parent.getLayout() == StaticLayout.instance) {
+			LayoutData layoutData = getLayoutData();
+			if (layoutData instanceof StaticLayoutData) {
+				StaticLayoutData staticLayoutData = (StaticLayoutData) layoutData;
+				return staticLayoutData.width >= 0 && staticLayoutData.height >= 0;	// Negative values are min-size
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Declare that the widget size doesn't depend on its content (a fixed size
+	 * panel, or a widget that always fills its parent area). Then a change in
+	 * its content doesn't relayout the widget ancestors.<br>
+	 * <b>Caution</b> : if the declaration is wrong, the widget is not resized
+	 * when its content needs more (or less) space.
+	 * 
+	 * @param relayoutBoundary the relayoutBoundary to set
+	 */
+	public void setRelayoutBoundary(boolean relayoutBoundary) {
+		this.relayoutBoundary = relayoutBoundary;
+	}
+	
+	/**
+	 * Returns the memory size (in bytes) currently used by all widgets offscreen
+	 * layers.
+	 * 
+	 * @return the layerCacheSize
+	 */
+	public static int getLayerCacheSize() {
+		return layerCacheSize;
+	}
+	
 	/**
 	 * @return <code>true</code> if the widget is in widget tree of desktop
 	 */
@@ -737,12 +838,44 @@ public class Widget {
 	 * @param pattern
 	 */
 	public void setAttributeBindInstruction(String attribute, String[] properties, String pattern) {
+		if (dataProvider != null) {
+			dataProvider.updateBindIndex(this, false);
+		}
 		if (bindInstructions == null) {
 			bindInstructions = new LinkedList();
 		} else {
-			removeAttributeBindInstruction(attribute);
+			internalRemoveAttributeBindInstruction(attribute);
 		}
 		bindInstructions.add(new BindInstruction(attribute, properties, pattern));
+		if (dataProvider != null) {
+			dataProvider.updateBindIndex(this, true);
+		}
+	}
+	
+	/**
+	 * Returns the properties binded by all the bind instructions of this
+	 * widget.
+	 * 
+	 * @return the binded properties or <code>null</code> if no bind
+	 *         instruction is defined
+	 */
+	public String[] getBindedProperties() {
+		if (!hasBindInstruction()) {
+			return null;
+		}
+		Vector properties = new Vector();
+		for (BindInstruction bindInstruction = (BindInstruction) bindInstructions.getFirst(); bindInstruction != null; bindInstruction = bindInstruction.next) {
+			if (bindInstruction.bindedProperties != null) {
+				for (int i = 0; i < bindInstruction.bindedProperties.length; ++i) {
+					if (!properties.contains(bindInstruction.bindedProperties[i])) {
+						properties.addElement(bindInstruction.bindedProperties[i]);
+					}
+				}
+			}
+		}
+		String[] propertiesArray = new String[properties.size()];
+		properties.copyInto(propertiesArray);
+		return propertiesArray;
 	}
 	
 	/**
@@ -751,6 +884,22 @@ public class Widget {
 	 * @param attribute
 	 */
 	public void removeAttributeBindInstruction(String attribute) {
+		if (dataProvider != null) {
+			dataProvider.updateBindIndex(this, false);
+		}
+		internalRemoveAttributeBindInstruction(attribute);
+		if (dataProvider != null) {
+			dataProvider.updateBindIndex(this, true);
+		}
+	}
+	
+	/**
+	 * Remove the bindInstruction for a specific attribute without updating
+	 * the {@link DataProvider} bind index.
+	 * 
+	 * @param attribute
+	 */
+	private void internalRemoveAttributeBindInstruction(String attribute) {
 		if (hasBindInstruction()) {
 			for (BindInstruction bindInstruction = (BindInstruction) bindInstructions.getFirst(); bindInstruction != null; bindInstruction = bindInstruction.next) {
 				if (bindInstruction.attribute.equals(attribute)) {
@@ -927,100 +1076,99 @@ public class Widget {
 		this.dataProvider = dataProvider;
 	}
 	
-	/**
-	 * @param flag
-	 * @return true if the given <code>flag</code> is already activated
-	 */
-	private boolean checkValidCachedFlag(long flag) {
-		return (validCachedFlags & flag) == flag;
-	}
-	
 	/**
 	 * @return the layout
 	 */
 	public Layout getLayout() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_LAYOUT)) {
-			cachedLayout = (Layout) getStylePropertyValue(KuixConstants.LAYOUT_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_LAYOUT;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_LAYOUT)) {
+			computedStyle.cachedLayout = (Layout) getStylePropertyValue(KuixConstants.LAYOUT_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_LAYOUT;
 		}
-		return cachedLayout;
+		return computedStyle.cachedLayout;
 	}
 	
 	/**
 	 * @return the layoutData
 	 */
 	public LayoutData getLayoutData() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_LAYOUT_DATA)) {
-			cachedLayoutData = (LayoutData) getStylePropertyValue(KuixConstants.LAYOUT_DATA_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_LAYOUT_DATA;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_LAYOUT_DATA)) {
+			computedStyle.cachedLayoutData = (LayoutData) getStylePropertyValue(KuixConstants.LAYOUT_DATA_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_LAYOUT_DATA;
 		}
-		return cachedLayoutData;
+		return computedStyle.cachedLayoutData;
 	}
 	
 	/**
 	 * @return the margin
 	 */
 	public Insets getMargin() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_MARGIN)) {
-			cachedMargin = (Insets) getStylePropertyValue(KuixConstants.MARGIN_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_MARGIN;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_MARGIN)) {
+			computedStyle.cachedMargin = (Insets) getStylePropertyValue(KuixConstants.MARGIN_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_MARGIN;
 		}
-		return cachedMargin;
+		return computedStyle.cachedMargin;
 	}
 
 	/**
 	 * @return the border
 	 */
 	public Insets getBorder() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BORDER)) {
-			cachedBorder = (Insets) getStylePropertyValue(KuixConstants.BORDER_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_BORDER;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BORDER)) {
+			computedStyle.cachedBorder = (Insets) getStylePropertyValue(KuixConstants.BORDER_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BORDER;
 		}
-		return cachedBorder;
+		return computedStyle.cachedBorder;
 	}
 
 	/**
 	 * @return the padding
 	 */
 	public Insets getPadding() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_PADDING)) {
-			cachedPadding = (Insets) getStylePropertyValue(KuixConstants.PADDING_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_PADDING;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_PADDING)) {
+			computedStyle.cachedPadding = (Insets) getStylePropertyValue(KuixConstants.PADDING_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_PADDING;
 		}
-		return cachedPadding;
+		return computedStyle.cachedPadding;
 	}
 
 	/**
 	 * @return the minSize
 	 */
 	public Metrics getMinSize() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_MIN_SIZE)) {
-			cachedMinSize = (Metrics) getStylePropertyValue(KuixConstants.MIN_SIZE_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_MIN_SIZE;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_MIN_SIZE)) {
+			computedStyle.cachedMinSize = (Metrics) getStylePropertyValue(KuixConstants.MIN_SIZE_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_MIN_SIZE;
 		}
-		return cachedMinSize;
+		return computedStyle.cachedMinSize;
 	}
 	
 	/**
 	 * @return The insets
 	 */
 	public Insets getInsets() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_INSETS)) {
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_INSETS)) {
 			
 			Insets margin = getMargin();
 			Insets border = getBorder();
 			Insets padding = getPadding();
 			
-			cachedInsets = new Insets();
-			cachedInsets.top = margin.top + border.top + padding.top;
-			cachedInsets.left = margin.left + border.left + padding.left;
-			cachedInsets.bottom = margin.bottom + border.bottom + padding.bottom;
-			cachedInsets.right = margin.right + border.right + padding.right;
+			computedStyle.cachedInsets = new Insets();
+			computedStyle.cachedInsets.top = margin.top + border.top + padding.top;
+			computedStyle.cachedInsets.left = margin.left + border.left + padding.left;
+			computedStyle.cachedInsets.bottom = margin.bottom + border.bottom + padding.bottom;
+			computedStyle.cachedInsets.right = margin.right + border.right + padding.right;
 			
-			validCachedFlags |= VALID_CACHED_FLAG_INSETS;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_INSETS;
 			
 		}
-		return cachedInsets;
+		return computedStyle.cachedInsets;
 	}
 	
 	/**
@@ -1030,16 +1178,17 @@ public class Widget {
 	 * @return the color
 	 */
 	public Color getColor() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_COLOR)) {
-			Object colorValue = getStylePropertyValue(KuixConstants.COLOR_STYLE_PROPERTY, true);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_COLOR)) {
+			Object colorValue = getStylePropertyValue(KuixConstants.COLOR_STYLE_PROPERTY_ID, true);
 			if (colorValue != null) {
-				cachedColor = (Color) colorValue;
+				computedStyle.cachedColor = (Color) colorValue;
 			} else {
-				cachedColor = null;
+				computedStyle.cachedColor = null;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_COLOR;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_COLOR;
 		}
-		return cachedColor;
+		return computedStyle.cachedColor;
 	}
 	
 	/**
@@ -1049,16 +1198,17 @@ public class Widget {
 	 * @return the borderColor
 	 */
 	public Color[] getBorderColor() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_COLOR)) {
-			Object borderColorValue = getStylePropertyValue(KuixConstants.BORDER_COLOR_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_COLOR)) {
+			Object borderColorValue = getStylePropertyValue(KuixConstants.BORDER_COLOR_STYLE_PROPERTY_ID, false);
 			if (borderColorValue != null) {
-				cachedBorderColor = (Color[]) borderColorValue;
+				computedStyle.cachedBorderColor = (Color[]) borderColorValue;
 			} else {
-				cachedBorderColor = null;
+				computedStyle.cachedBorderColor = null;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BORDER_COLOR;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BORDER_COLOR;
 		}
-		return cachedBorderColor;
+		return computedStyle.cachedBorderColor;
 	}
 	
 	/**
@@ -1068,16 +1218,17 @@ public class Widget {
 	 * @return the borderStroke
 	 */
 	public int getBorderStroke() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_STROKE)) {
-			Object borderStrokeValue = getStylePropertyValue(KuixConstants.BORDER_STROKE_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_STROKE)) {
+			Object borderStrokeValue = getStylePropertyValue(KuixConstants.BORDER_STROKE_STYLE_PROPERTY_ID, false);
 			if (borderStrokeValue != null) {
-				cachedBorderStroke = ((Integer) borderStrokeValue).intValue();
+				computedStyle.cachedBorderStroke = ((Integer) borderStrokeValue).intValue();
 			} else {
-				cachedBorderStroke = Graphics.SOLID;
+				computedStyle.cachedBorderStroke = Graphics.SOLID;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BORDER_STROKE;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BORDER_STROKE;
 		}
-		return cachedBorderStroke;
+		return computedStyle.cachedBorderStroke;
 	}
 	
 	/**
@@ -1087,16 +1238,17 @@ public class Widget {
 	 * @return the borderImages array
 	 */
 	public Image[] getBorderImage() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_IMAGE)) {
-			Object borderImageValue = getStylePropertyValue(KuixConstants.BORDER_IMAGE_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_IMAGE)) {
+			Object borderImageValue = getStylePropertyValue(KuixConstants.BORDER_IMAGE_STYLE_PROPERTY_ID, false);
 			if (borderImageValue != null) {
-				cachedBorderImage = (Image[]) borderImageValue;
+				computedStyle.cachedBorderImage = (Image[]) borderImageValue;
 			} else {
-				cachedBorderImage = null;
+				computedStyle.cachedBorderImage = null;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BORDER_IMAGE;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BORDER_IMAGE;
 		}
-		return cachedBorderImage;
+		return computedStyle.cachedBorderImage;
 	}
 	
 	/**
@@ -1106,16 +1258,17 @@ public class Widget {
 	 * @return the borderAlignments array
 	 */
 	public Alignment[] getBorderAlign() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_ALIGN)) {
-			Object borderAlignValue = getStylePropertyValue(KuixConstants.BORDER_ALIGN_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BORDER_ALIGN)) {
+			Object borderAlignValue = getStylePropertyValue(KuixConstants.BORDER_ALIGN_STYLE_PROPERTY_ID, false);
 			if (borderAlignValue != null) {
-				cachedBorderAlign = (Alignment[]) borderAlignValue;
+				computedStyle.cachedBorderAlign = (Alignment[]) borderAlignValue;
 			} else {
-				cachedBorderAlign = null;
+				computedStyle.cachedBorderAlign = null;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BORDER_ALIGN;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BORDER_ALIGN;
 		}
-		return cachedBorderAlign;
+		return computedStyle.cachedBorderAlign;
 	}
 	
 	/**
@@ -1125,16 +1278,17 @@ public class Widget {
 	 * @return the backgroundColor
 	 */
 	public Color getBackgroundColor() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUND_COLOR)) {
-			Object backgroundColorValue = getStylePropertyValue(KuixConstants.BACKGROUND_COLOR_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUND_COLOR)) {
+			Object backgroundColorValue = getStylePropertyValue(KuixConstants.BACKGROUND_COLOR_STYLE_PROPERTY_ID, false);
 			if (backgroundColorValue != null) {
-				cachedBackgroundColor = (Color) backgroundColorValue;
+				computedStyle.cachedBackgroundColor = (Color) backgroundColorValue;
 			} else {
-				cachedBackgroundColor = null;
+				computedStyle.cachedBackgroundColor = null;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BACKGROUND_COLOR;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BACKGROUND_COLOR;
 		}
-		return cachedBackgroundColor;
+		return computedStyle.cachedBackgroundColor;
 	}
 	
 	/**
@@ -1143,16 +1297,17 @@ public class Widget {
 	 * @return the backroundImage array
 	 */
 	public Image[] getBackgroundImage() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUND_IMAGE)) {
-			Object backgroundImageValue = getStylePropertyValue(KuixConstants.BACKGROUND_IMAGE_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUND_IMAGE)) {
+			Object backgroundImageValue = getStylePropertyValue(KuixConstants.BACKGROUND_IMAGE_STYLE_PROPERTY_ID, false);
 			if (backgroundImageValue != null) {
-				cachedBackgroundImage = (Image[]) backgroundImageValue;
+				computedStyle.cachedBackgroundImage = (Image[]) backgroundImageValue;
 			} else {
-				cachedBackgroundImage = null;
+				computedStyle.cachedBackgroundImage = null;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BACKGROUND_IMAGE;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BACKGROUND_IMAGE;
 		}
-		return cachedBackgroundImage;
+		return computedStyle.cachedBackgroundImage;
 	}
 	
 	/**
@@ -1161,16 +1316,17 @@ public class Widget {
 	 * @return the backroundAlign array
 	 */
 	public Alignment[] getBackgroundAlign() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUNG_ALIGN)) {
-			Object backgroundAlignValue = getStylePropertyValue(KuixConstants.BACKGROUND_ALIGN_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUNG_ALIGN)) {
+			Object backgroundAlignValue = getStylePropertyValue(KuixConstants.BACKGROUND_ALIGN_STYLE_PROPERTY_ID, false);
 			if (backgroundAlignValue != null) {
-				cachedBackgroundAlign = (Alignment[]) backgroundAlignValue;
+				computedStyle.cachedBackgroundAlign = (Alignment[]) backgroundAlignValue;
 			} else {
-				cachedBackgroundAlign = DEFAULT_BACKGROUND_ALIGN;
+				computedStyle.cachedBackgroundAlign = DEFAULT_BACKGROUND_ALIGN;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BACKGROUNG_ALIGN;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BACKGROUNG_ALIGN;
 		}
-		return cachedBackgroundAlign;
+		return computedStyle.cachedBackgroundAlign;
 	}
 	
 	/**
@@ -1179,16 +1335,17 @@ public class Widget {
 	 * @return the backgroundRepeat array
 	 */
 	public Repeat[] getBackgroundRepeat() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUND_REPEAT)) {
-			Object backgroundRepeatValue = getStylePropertyValue(KuixConstants.BACKGROUND_REPEAT_STYLE_PROPERTY, false);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_BACKGROUND_REPEAT)) {
+			Object backgroundRepeatValue = getStylePropertyValue(KuixConstants.BACKGROUND_REPEAT_STYLE_PROPERTY_ID, false);
 			if (backgroundRepeatValue != null) {
-				cachedBackgroundRepeat = (Repeat[]) backgroundRepeatValue;
+				computedStyle.cachedBackgroundRepeat = (Repeat[]) backgroundRepeatValue;
 			} else {
-				cachedBackgroundRepeat = DEFAULT_BACKGROUND_REPEAT;
+				computedStyle.cachedBackgroundRepeat = DEFAULT_BACKGROUND_REPEAT;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_BACKGROUND_REPEAT;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_BACKGROUND_REPEAT;
 		}
-		return cachedBackgroundRepeat;
+		return computedStyle.cachedBackgroundRepeat;
 	}
 	
 	/**
@@ -1197,16 +1354,17 @@ public class Widget {
 	 * @return the grayed color
 	 */
 	public Color getGrayedColor() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_GRAYED_COLOR)) {
-			Object grayedColorValue = getStylePropertyValue(KuixConstants.GRAYED_COLOR_STYLE_PROPERTY, true);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_GRAYED_COLOR)) {
+			Object grayedColorValue = getStylePropertyValue(KuixConstants.GRAYED_COLOR_STYLE_PROPERTY_ID, true);
 			if (grayedColorValue != null) {
-				cachedGrayedColor = (Color) grayedColorValue;
+				computedStyle.cachedGrayedColor = (Color) grayedColorValue;
 			} else {
-				cachedGrayedColor = null;
+				computedStyle.cachedGrayedColor = null;
 			}
-			validCachedFlags |= VALID_CACHED_FLAG_GRAYED_COLOR;
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_GRAYED_COLOR;
 		}
-		return cachedGrayedColor;
+		return computedStyle.cachedGrayedColor;
 	}
 	
 	/**
@@ -1216,11 +1374,12 @@ public class Widget {
 	 * @return the gap
 	 */
 	public Gap getGap() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_GAP)) {
-			cachedGap = (Gap) getStylePropertyValue(KuixConstants.GAP_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_GAP;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_GAP)) {
+			computedStyle.cachedGap = (Gap) getStylePropertyValue(KuixConstants.GAP_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_GAP;
 		}
-		return cachedGap;
+		return computedStyle.cachedGap;
 	}
 
 	/**
@@ -1229,11 +1388,12 @@ public class Widget {
 	 * @return the span
 	 */
 	public Span getSpan() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_SPAN)) {
-			cachedSpan = (Span) getStylePropertyValue(KuixConstants.SPAN_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_SPAN;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_SPAN)) {
+			computedStyle.cachedSpan = (Span) getStylePropertyValue(KuixConstants.SPAN_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_SPAN;
 		}
-		return cachedSpan;
+		return computedStyle.cachedSpan;
 	}
 
 	/**
@@ -1243,11 +1403,12 @@ public class Widget {
 	 * @return the weight
 	 */
 	public Weight getWeight() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_WEIGHT)) {
-			cachedWeight = (Weight) getStylePropertyValue(KuixConstants.WEIGHT_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_WEIGHT;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_WEIGHT)) {
+			computedStyle.cachedWeight = (Weight) getStylePropertyValue(KuixConstants.WEIGHT_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_WEIGHT;
 		}
-		return cachedWeight;
+		return computedStyle.cachedWeight;
 	}
 
 	/**
@@ -1256,11 +1417,12 @@ public class Widget {
 	 * @return the alignment
 	 */
 	public Alignment getAlign() {
-		if (!checkValidCachedFlag(VALID_CACHED_FLAG_ALIGN)) {
-			cachedAlign = (Alignment) getStylePropertyValue(KuixConstants.ALIGN_STYLE_PROPERTY, false);
-			validCachedFlags |= VALID_CACHED_FLAG_ALIGN;
+		ComputedStyle computedStyle = getComputedStyle();
+		if (!computedStyle.checkValidCachedFlag(VALID_CACHED_FLAG_ALIGN)) {
+			computedStyle.cachedAlign = (Alignment) getStylePropertyValue(KuixConstants.ALIGN_STYLE_PROPERTY_ID, false);
+			computedStyle.validCachedFlags |= VALID_CACHED_FLAG_ALIGN;
 		}
-		return cachedAlign;
+		return computedStyle.cachedAlign;
 	}
 
 	/**
@@ -1323,26 +1485,121 @@ public class Widget {
 		// We don't use 'isVisible()' instead of 'visible' because of recurcive call of getWidgetAt. 
 		// But calling this method if widget's parent is not visible could return wrong.
 		if (visible && (mx >= x) && (my >= y) && (mx < x + width) && (my < y + height)) {
-			Widget inside = getWidgetAt(child, mx - this.x, my - this.y);
+			Widget inside = getChildAt(mx - this.x, my - this.y);
 			return (inside != null) ? inside : this;
 		}
 		return null;
 	}
 
 	/**
-	 * Returns the next child widget under mx, my point
+	 * Forget the children hit test index. It is rebuilt by the next hit test.
+	 * Subclasses that remove children without invalidating themselves need
+	 * to call it.
+	 */
+	protected void invalidateHitTestIndex() {
+		hitTestChildren = null;
+	}
+	
+	/**
+	 * Returns the child widget under mx, my point (in this widget coordinate
+	 * system). Children are tested from the last to the first, because the
+	 * last child is painted on top.<br>
+	 * If the children are sorted along the x or y axis, a hit test index is
+	 * used to only test the children whose interval contains the point.
 	 * 
-	 * @param widget
 	 * @param mx
 	 * @param my
-	 * @return the next child widget under mx, my point
+	 * @return the child widget under mx, my point
 	 */
-	private Widget getWidgetAt(Widget widget, int mx, int my) {
-		if (widget == null) {
+	private Widget getChildAt(int mx, int my) {
+		if (hitTestChildren == null && !invalidated) {
+			buildHitTestIndex();
+		}
+		if (hitTestChildren == null || hitTestAxis == HIT_TEST_AXIS_NONE) {
+			for (Widget widget = lastChild; widget != null; widget = widget.previous) {
+				Widget inside = widget.getWidgetAt(mx, my);
+				if (inside != null) {
+					return inside;
+				}
+			}
 			return null;
 		}
-		Widget inside = getWidgetAt(widget.next, mx, my);
-		return (inside != null) ? inside : widget.getWidgetAt(mx, my);
+		
+		// Only children whose interval contains m are candidates : [first, last[
+		Widget[] children = hitTestChildren;
+		boolean horizontal = hitTestAxis == HIT_TEST_AXIS_X;
+		int m = horizontal ? mx : my;
+		int low = 0;
+		int high = children.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			Widget widget = children[middle];
+			if ((horizontal ? widget.x + widget.width : widget.y + widget.height) <= m) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		int first = low;
+		high = children.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if ((horizontal ? children[middle].x : children[middle].y) <= m) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		for (int i = low - 1; i >= first; --i) {
+			Widget inside = children[i].getWidgetAt(mx, my);
+			if (inside != null) {
+				return inside;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Build the hit test index : if the visible children starts and ends are
+	 * both in ascending order along the y (or x) axis, the children are
+	 * stored in an array to be binary searched along this axis.
+	 */
+	private void buildHitTestIndex() {
+		int count = 0;
+		for (Widget widget = child; widget != null; widget = widget.next) {
+			if (widget.visible) {
+				count++;
+			}
+		}
+		if (count < KuixConstants.HIT_TEST_INDEX_MIN_CHILDREN) {
+			hitTestChildren = NO_HIT_TEST_CHILDREN;
+			hitTestAxis = HIT_TEST_AXIS_NONE;
+			return;
+		}
+		Widget[] children = new Widget[count];
+		boolean sortedX = true;
+		boolean sortedY = true;
+		int i = 0;
+		for (Widget widget = child; widget != null; widget = widget.next) {
+			if (widget.visible) {
+				if (i > 0) {
+					Widget previousWidget = children[i - 1];
+					sortedX &= widget.x >= previousWidget.x && widget.x + widget.width >= previousWidget.x + previousWidget.width;
+					sortedY &= widget.y >= previousWidget.y && widget.y + widget.height >= previousWidget.y + previousWidget.height;
+				}
+				children[i++] = widget;
+			}
+		}
+		if (sortedY) {
+			hitTestChildren = children;
+			hitTestAxis = HIT_TEST_AXIS_Y;
+		} else if (sortedX) {
+			hitTestChildren = children;
+			hitTestAxis = HIT_TEST_AXIS_X;
+		} else {
+			hitTestChildren = NO_HIT_TEST_CHILDREN;
+			hitTestAxis = HIT_TEST_AXIS_NONE;
+		}
 	}
 
 	/**
@@ -1393,27 +1650,105 @@ public class Widget {
 	 */
 	public Metrics getPreferredSize(int preferredWidth) {
 		Metrics metrics = getCachedMetrics();
-		if (needToComputePreferredSize(preferredWidth)) {
-			Layout layout = getLayout();
-			if (layout == null) {
-				Insets insets = getInsets();
-				Metrics minSize = getMinSize();
-				metrics.width = insets.left + minSize.width + insets.right;
-				metrics.height = insets.top + minSize.height + insets.bottom;
-			} else {
-				layout.measurePreferredSize(this, preferredWidth, metrics);
-			}
-			lastPreferredWidth = preferredWidth;
+		if (needToComputePreferredSize(preferredWidth) || !loadPreferredSize(preferredWidth, metrics)) {
+			computePreferredSize(preferredWidth, metrics);
+			storePreferredSize(preferredWidth, metrics);
 		}
 		return metrics;
 	}
 	
 	/**
+	 * Force the preferredSize computation even if a size is cached for
+	 * <code>preferredWidth</code>.
+	 * 
 	 * @param preferredWidth
 	 * @return <code>true</code> if the preferredSize computation is needed
+	 * @deprecated The preferred sizes are cached by width until the next
+	 *             invalidation. Call <code>invalidate()</code> when the size
+	 *             changes instead.
 	 */
 	protected boolean needToComputePreferredSize(int preferredWidth) {
-		return invalidated || preferredWidth != lastPreferredWidth;
+		return false;
+	}
+	
+	/**
+	 * Compute the prefered size of this {@link Widget}. The result is cached
+	 * by <code>getPreferredSize(int)</code> until the next invalidation.
+	 * 
+	 * @param preferredWidth
+	 * @param metrics the {@link Metrics} to fill
+	 */
+	protected void computePreferredSize(int preferredWidth, Metrics metrics) {
+		Layout layout = getLayout();
+		if (layout == null) {
+			Insets insets = getInsets();
+			Metrics minSize = getMinSize();
+			metrics.width = insets.left + minSize.width + insets.right;
+			metrics.height = insets.top + minSize.height + insets.bottom;
+		} else {
+			layout.measurePreferredSize(this, preferredWidth, metrics);
+		}
+	}
+	
+	/**
+	 * Load the cached prefered size for the given <code>preferredWidth</code>
+	 * into <code>metrics</code>. The found entry becomes the most recently
+	 * used one.
+	 * 
+	 * @param preferredWidth
+	 * @param metrics
+	 * @return <code>true</code> if the size was cached
+	 */
+	private boolean loadPreferredSize(int preferredWidth, Metrics metrics) {
+		for (int i = 0; i < preferredSizeCacheCount; ++i) {
+			int index = i * 3;
+			if (preferredSizeCache[index] == preferredWidth) {
+				metrics.width = preferredSizeCache[index + 1];
+				metrics.height = preferredSizeCache[index + 2];
+				if (i != 0) {
+					System.arraycopy(preferredSizeCache, 0, preferredSizeCache, 3, index);
+					preferredSizeCache[0] = preferredWidth;
+					preferredSizeCache[1] = metrics.width;
+					preferredSizeCache[2] = metrics.height;
+				}
+				++preferredSizeCacheHitCount;
+				return true;
+			}
+		}
+		++preferredSizeCacheMissCount;
+		return false;
+	}
+	
+	/**
+	 * Store the <code>metrics</code> size as the most recently used cached
+	 * prefered size. The least recently used entry is dropped if the cache is
+	 * full.
+	 * 
+	 * @param preferredWidth
+	 * @param metrics
+	 */
+	private void storePreferredSize(int preferredWidth, Metrics metrics) {
+		if (preferredSizeCache == null) {
+			preferredSizeCache = new int[KuixConstants.PREFERRED_SIZE_CACHE_SIZE * 3];
+		}
+		if (preferredSizeCacheCount < KuixConstants.PREFERRED_SIZE_CACHE_SIZE) {
+			++preferredSizeCacheCount;
+		}
+		System.arraycopy(preferredSizeCache, 0, preferredSizeCache, 3, (preferredSizeCacheCount - 1) * 3);
+		preferredSizeCache[0] = preferredWidth;
+		preferredSizeCache[1] = metrics.width;
+		preferredSizeCache[2] = metrics.height;
+	}
+	
+	/**
+	 * Returns the prefered sizes cache statistics of all widgets.
+	 * 
+	 * @return a description of the cache hits and misses
+	 */
+	public static String getPreferredSizeCacheStatistics() {
+		return new StringBuffer("preferred sizes : ").append(preferredSizeCacheHitCount)
+				.append(" hits, ").append(preferredSizeCacheMissCount)
+				.append(" misses").toString();
 	}
 
 	/**
@@ -1633,8 +1968,21 @@ public class Widget {
 	 * tree.
 	 */
 	public void remove() {
+		if (detach()) {
+			System.gc();
+		}
+	}
+	
+	/**
+	 * Remove the current {@link Widget} from its parent like
+	 * <code>remove()</code>, but without requesting a garbage collection.
+	 * Used to detach widgets that are kept to be reused.
+	 * 
+	 * @return <code>true</code> if the widget had a parent
+	 */
+	protected boolean detach() {
 		if (parent == null) {
-			return;
+			return false;
 		}
 		if (parent.child == this) {
 			parent.child = next;
@@ -1660,7 +2008,7 @@ public class Widget {
 		prevParent.onChildRemoved(this);
 		onRemoved(prevParent);
 		
-		System.gc();
+		return true;
 	}
 
 	/**
@@ -1706,6 +2054,9 @@ public class Widget {
 			dataProvider.unbind(this);
 		}
 		
+		// Release the offscreen layer (and stop counting this widget as layer cached)
+		setLayerCached(false);
+		
 		// Propagate cleanUp to all children
 		cleanUpChildren();
 		
@@ -1751,12 +2102,38 @@ public class Widget {
 	 * @param fromWidget the Widget responsible of the invalidation.
 	 */
 	protected void invalidate(Widget fromWidget) {
+		if (fromWidget == this) {
+			invalidateLayers();
+			if (Kuix.getCanvas() != null) {
+				Kuix.getCanvas().getLayoutMonitor().invalidated(this);
+			}
+		}
 		invalidated = true;
+		hitTestChildren = null;
+		preferredSizeCacheCount = 0;
 		if (parent != null && !parent.invalidated) {
-			parent.invalidate(fromWidget);
+			if (fromWidget != this && Kuix.getCanvas() != null && isRelayoutBoundary()) {
+				// The ancestors layout doesn't depend on this widget content
+				Kuix.getCanvas().revalidateNextFrame(this);
+			} else {
+				parent.invalidate(fromWidget);
+			}
+		} else {
+			// The ancestors are already invalidated, but they could have been measured since
+			for (Widget widget = parent; widget != null && widget.preferredSizeCacheCount != 0; widget = widget.parent) {
+				widget.preferredSizeCacheCount = 0;
+			}
 		}
 	}
 	
+	/**
+	 * Layout the widget and its invalidated descendants within its current
+	 * bounds.
+	 */
+	public void revalidate() {
+		doLayout();
+	}
+	
 	/**
 	 * Mark this widget as validate
 	 */
@@ -1769,9 +2146,15 @@ public class Widget {
 	 */
 	protected void doLayout() {
 		markAsValidate();	// Tag as validate first, because doLayout process could reinvalidate the widget
+		layerInvalidated = true;
+		hitTestChildren = null;
 		Layout layout = getLayout();
 		if (layout != null) {
 			layout.doLayout(this);
+			if (invalidated && Kuix.getCanvas() != null) {
+				// The layout process invalidated the widget again : an other pass will be needed
+				Kuix.getCanvas().getLayoutMonitor().relayoutNeeded(this);
+			}
 		}
 	}
 	
@@ -1793,6 +2176,7 @@ public class Widget {
 	 * @param height
 	 */
 	protected void invalidateAppearanceRegion(int x, int y, int width, int height) {
+		layerInvalidated = true;
 		if (parent != null) {
 			parent.invalidateAppearanceRegion(x + this.x, y + this.y, width, height);
 		}
@@ -1836,6 +2220,13 @@ public class Widget {
 			Alignment[] alignments = getBackgroundAlign();
 			Repeat[] repeats = getBackgroundRepeat();
 			
+			// Use the prerendered mosaic if available
+			Image mosaic = MosaicImageCache.getBackgroundMosaic(images, alignments, repeats, width, height);
+			if (mosaic != null) {
+				g.drawImage(mosaic, x, y, Graphics.TOP | Graphics.LEFT);
+				return;
+			}
+			
 			int backgroundCount = Math.max(images.length, Math.max(alignments.length, repeats.length));
 			Repeat repeat;
 			for (int i = 0; i<backgroundCount; ++i) {
@@ -1931,6 +2322,24 @@ public class Widget {
 			Insets border = getBorder();
 			Alignment[] alignments = getBorderAlign();
 			
+			// Use the prerendered mosaic strips if available
+			Image[] mosaic = MosaicImageCache.getBorderMosaic(borderImages, alignments, border, width, height);
+			if (mosaic != null) {
+				if (mosaic[0] != null) {
+					g.drawImage(mosaic[0], x, y, Graphics.TOP | Graphics.LEFT);
+				}
+				if (mosaic[1] != null) {
+					g.drawImage(mosaic[1], x + width - border.right, y + border.top, Graphics.TOP | Graphics.LEFT);
+				}
+				if (mosaic[2] != null) {
+					g.drawImage(mosaic[2], x, y + height - border.bottom, Graphics.TOP | Graphics.LEFT);
+				}
+				if (mosaic[3] != null) {
+					g.drawImage(mosaic[3], x, y + border.top, Graphics.TOP | Graphics.LEFT);
+				}
+				return;
+			}
+			
 			// Top
 			if (borderImages[0] != null) {
 				paintMosaicImage(	g, 
@@ -2151,31 +2560,238 @@ public class Widget {
 		}
 		g.translate(x, y);
 		
-		// Paint itself
-		if ((width > 0) && (height > 0)) {
-			g.clipRect(0, 0, width, height);
+		// Paint the offscreen layer if the widget is layer cached
+		if (!layerCached || !paintCachedLayer(g)) {
+			
+			// Paint itself
+			if ((width > 0) && (height > 0)) {
+				g.clipRect(0, 0, width, height);
+			}
+			paint(g);
+			
+			// Paint children
+			Insets insets = getInsets();
+			g.clipRect(insets.left, insets.top, width - insets.left - insets.right, height - insets.top - insets.bottom);
+			paintChildrenImpl(g);
+			
 		}
-		paint(g);
-		
-		// Paint children
-		Insets insets = getInsets();
-		g.clipRect(insets.left, insets.top, width - insets.left - insets.right, height - insets.top - insets.bottom);
-		paintChildrenImpl(g);
 		
 		g.translate(-x, -y);
 		g.setClip(clipX, clipY, clipWidth, clipHeight);
 	}
 	
+	/**
+	 * Paint the widget's offscreen layer. The layer is rendered again if it is
+	 * invalidated. Graphics need to be already translated to the widget
+	 * position.
+	 * 
+	 * @param g
+	 * @return <code>false</code> if the layer can't be used
+	 */
+	private boolean paintCachedLayer(Graphics g) {
+		
+		// The layer image is opaque, then the widget needs to cover its full bounds
+		Insets margin = getMargin();
+		if (width <= 0 || height <= 0 
+				|| getBackgroundColor() == null 
+				|| margin.top != 0 || margin.right != 0 || margin.bottom != 0 || margin.left != 0) {
+			releaseCachedLayer();
+			return false;
+		}
+		
+		// Create the layer image
+		if (cachedLayer == null || cachedLayer.getWidth() != width || cachedLayer.getHeight() != height) {
+			releaseCachedLayer();
+			int size = width * height * 4;
+			if (layerCacheSize + size > Kuix.layerCacheBudget) {
+				return false;
+			}
+			try {
+				cachedLayer = Image.createImage(width, height);
+			} catch (OutOfMemoryError e) {
+				return false;
+			}
+			layerCacheSize += size;
+			layerInvalidated = true;
+		}
+		
+		// Render the layer
+		if (layerInvalidated) {
+			layerInvalidated = false;	// Tag as valid first, because the paint process could reinvalidate the layer
+			Graphics layerGraphics = cachedLayer.getGraphics();
+			paint(layerGraphics);
+			Insets insets = getInsets();
+			layerGraphics.clipRect(insets.left, insets.top, width - insets.left - insets.right, height - insets.top - insets.bottom);
+			paintChildrenImpl(layerGraphics);
+		}
+		
+		g.drawImage(cachedLayer, 0, 0, Graphics.TOP | Graphics.LEFT);
+		return true;
+	}
+	
+	/**
+	 * Release the offscreen layer image if it exists.
+	 */
+	private void releaseCachedLayer() {
+		if (cachedLayer != null) {
+			layerCacheSize -= cachedLayer.getWidth() * cachedLayer.getHeight() * 4;
+			cachedLayer = null;
+		}
+	}
+	
+	/**
+	 * Invalidate the offscreen layers of this widget and its ancestors.
+	 */
+	protected void invalidateLayers() {
+		if (layerCachedWidgetCount != 0) {
+			for (Widget widget = this; widget != null; widget = widget.parent) {
+				widget.layerInvalidated = true;
+			}
+		}
+	}
+	
 	/**
 	 * Invoke the <code>paintImpl</code> method on widget's children.
 	 * 
 	 * @param g
 	 */
 	protected void paintChildrenImpl(Graphics g) {
-		for (Widget widget = child; widget != null; widget = widget.next) {
+		
+		// Children painted before the last child that fully hides the clip area are ignored
+		Widget widget = findOccludingChild(g.getClipX(), g.getClipY(), g.getClipWidth(), g.getClipHeight());
+		if (widget == null) {
+			widget = child;
+		}
+		
+		for (; widget != null; widget = widget.next) {
 			widget.paintImpl(g);
 		}
 	}
+	
+	/**
+	 * Tests whether or not this widget paints its background area (bounds
+	 * minus margin and border) with an opaque color. An opaque widget hides
+	 * everything painted behind its background area.
+	 * 
+	 * @return <code>true</code> if the widget is opaque
+	 */
+	public boolean isOpaque() {
+		return visible && getBackgroundColor() != null;
+	}
+	
+	/**
+	 * Check if the opaque background area of this widget fully covers the
+	 * <code>x</code>, <code>y</code>, <code>width</code>,
+	 * <code>height</code> rectangle. Coordinates are in the parent coordinate
+	 * system.
+	 * 
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @return <code>true</code> if the rectangle is hidden by this widget
+	 */
+	public boolean occludes(int x, int y, int width, int height) {
+		if (this.x > x || this.y > y || this.x + this.width < x + width || this.y + this.height < y + height) {
+			return false;
+		}
+		if (!isOpaque()) {
+			return false;
+		}
+		Insets margin = getMargin();
+		Insets border = getBorder();
+		return this.x + margin.left + border.left <= x
+				&& this.y + margin.top + border.top <= y
+				&& this.x + this.width - margin.right - border.right >= x + width
+				&& this.y + this.height - margin.bottom - border.bottom >= y + height;
+	}
+	
+	/**
+	 * Tests whether or not a visible widget painted after this widget (a next
+	 * sibling of this widget or of one of its ancestors, or their descendants)
+	 * paints in the <code>x</code>, <code>y</code>, <code>width</code>,
+	 * <code>height</code> rectangle (in the display coordinate system).
+	 * 
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @return <code>true</code> if the rectangle is overlaid
+	 */
+	public boolean isOverlaid(int x, int y, int width, int height) {
+		if (parent == null) {
+			return false;
+		}
+		
+		// Rectangle in the parent coordinate system
+		x -= parent.getDisplayX();
+		y -= parent.getDisplayY();
+		for (Widget widget = this; widget.parent != null; widget = widget.parent) {
+			for (Widget sibling = widget.next; sibling != null; sibling = sibling.next) {
+				if (sibling.paintsIn(x, y, width, height)) {
+					return true;
+				}
+			}
+			x += widget.parent.x;
+			y += widget.parent.y;
+		}
+		return false;
+	}
+	
+	/**
+	 * Tests whether or not this widget could paint in the <code>x</code>,
+	 * <code>y</code>, <code>width</code>, <code>height</code> rectangle
+	 * (in the parent coordinate system). A container without background and
+	 * border only paints through its children.
+	 * 
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @return <code>true</code> if the widget could paint in the rectangle
+	 */
+	private boolean paintsIn(int x, int y, int width, int height) {
+		if (!visible || this.x >= x + width || this.y >= y + height || this.x + this.width <= x || this.y + this.height <= y) {
+			return false;
+		}
+		if (child == null || getBackgroundColor() != null || getBackgroundImage() != null) {
+			return true;
+		}
+		Insets border = getBorder();
+		if (border.top != 0 || border.right != 0 || border.bottom != 0 || border.left != 0) {
+			return true;
+		}
+		for (Widget widget = child; widget != null; widget = widget.next) {
+			if (widget.paintsIn(x - this.x, y - this.y, width, height)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns the last child that fully hides the <code>x</code>,
+	 * <code>y</code>, <code>width</code>, <code>height</code> rectangle
+	 * (in this widget coordinate system), or <code>null</code> if no child
+	 * hides it.
+	 * 
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @return the occluding child or <code>null</code>
+	 */
+	protected Widget findOccludingChild(int x, int y, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			return null;
+		}
+		for (Widget widget = lastChild; widget != null; widget = widget.previous) {
+			if (widget.occludes(x, y, width, height)) {
+				return widget;
+			}
+		}
+		return null;
+	}
 
 	/**
 	 * Returns the list of {@link Style} that correspond to this {@link Widget}
@@ -2184,10 +2800,46 @@ public class Widget {
 	 * @return The list of {@link Style} that correspond to this {@link Widget}
 	 */
 	protected Vector getStyles() {
-		if (cachedStyles == null) {
-			cachedStyles = Kuix.getStyles(this);
+		ComputedStyle computedStyle = getComputedStyle();
+		if (computedStyle.styles == null) {
+			computedStyle.styles = Kuix.getStyles(this);
 		}
-		return cachedStyles;
+		return computedStyle.styles;
+	}
+	
+	/**
+	 * Returns the {@link ComputedStyle} of this widget. It is resolved (or
+	 * shared) on first call after a style invalidation.
+	 * 
+	 * @return the computed style
+	 */
+	ComputedStyle getComputedStyle() {
+		if (computedStyle == null) {
+			computedStyle = ComputedStyle.get(this);
+		}
+		return computedStyle;
+	}
+	
+	/**
+	 * Tests whether or not this widget can share its computed style with
+	 * equivalent widgets (@see ComputedStyle). A widget which style property
+	 * values don't only depend on its class, tag, style classes, pseudo
+	 * classes and ancestors (i.e. default values that depend on a field)
+	 * needs to override this method and return <code>false</code>.
+	 * 
+	 * @return <code>true</code> if the computed style can be shared
+	 */
+	protected boolean isStyleSharable() {
+		return true;
+	}
+	
+	/**
+	 * Returns the computed styles sharing statistics of all widgets.
+	 * 
+	 * @return a description of the shared and created computed styles counts
+	 */
+	public static String getComputedStyleStatistics() {
+		return ComputedStyle.getStatistics();
 	}
 
 	/**
@@ -2196,7 +2848,9 @@ public class Widget {
 	 * @param propagateToChildren
 	 */
 	public void clearCachedStyles(boolean propagateToChildren) {
-		cachedStyles = null;
+		if (computedStyle != null) {
+			computedStyle.discard();	// The styles could have changed : the computed style must not be given to other widgets
+		}
 		if (propagateToChildren) {
 			for (Widget widget = child; widget != null; widget = widget.next) {
 				widget.clearCachedStyles(propagateToChildren);
@@ -2213,8 +2867,11 @@ public class Widget {
 	 */
 	public void invalidateStylePropertiesCache(boolean propagateToChildren) {
 		
-		// Reset the valid cached flags
-		validCachedFlags = 0;
+		// Release the computed style : it is resolved again on next access
+		computedStyle = null;
+		
+		// Style properties could change the widget appearance
+		invalidateLayers();
 		
 		if (propagateToChildren) {
 			for (Widget widget = child; widget != null; widget = widget.next) {
@@ -2234,6 +2891,24 @@ public class Widget {
 	 * @return The specified style property value
 	 */
 	protected Object getStylePropertyValue(String name, boolean inherited) {
+		int id = StyleProperty.findId(name);
+		if (id == -1) {
+			return null;	// No style defines this property
+		}
+		return getStylePropertyValue(id, inherited);
+	}
+	
+	/**
+	 * Return the specified style property value representing by the
+	 * <code>id</code> (@see StyleProperty#findId(String)), or
+	 * <code>null</code>.
+	 * 
+	 * @param id
+	 * @param inherited Specify if the property value is inherited from widget's
+	 *            parent
+	 * @return The specified style property value
+	 */
+	protected Object getStylePropertyValue(int id, boolean inherited) {
 		Vector styles = getStyles();
 		if (styles != null) {
 			for (int i = 0; i < styles.size(); ++i) {
@@ -2243,25 +2918,61 @@ public class Widget {
 					continue;
 				}
 				
-				StyleProperty styleAttribute = style.getProperty(name);
+				StyleProperty styleAttribute = style.getProperty(id);
 				if (styleAttribute != null) {
 					Object value = styleAttribute.getValue();
 					if (value != null) {
 						return value;
 					}
-					return getDefaultStylePropertyValue(name);
+					return getDefaultStylePropertyValue(id);
 				}
 			}
 		}
 		if (inherited && parent != null) {
-			Object parentStyleProperty = parent.getStylePropertyValue(name, inherited);
+			Object parentStyleProperty = parent.getStylePropertyValue(id, inherited);
 			if (parentStyleProperty != null) {
 				return parentStyleProperty;
 			}
 		}
-		return getDefaultStylePropertyValue(name);
+		return getDefaultStylePropertyValue(id);
 	}
 
+	/**
+	 * Returns the de default style property value for <code>id</code>
+	 * property, or <code>null</code>. Properties that don't have a default
+	 * value here are delegated to the deprecated
+	 * <code>getDefaultStylePropertyValue(String)</code>.
+	 * 
+	 * @param id
+	 * @return The de default style property value for <code>id</code>
+	 *         property
+	 */
+	protected Object getDefaultStylePropertyValue(int id) {
+		switch (id) {
+			case KuixConstants.LAYOUT_STYLE_PROPERTY_ID:
+				return DEFAULT_LAYOUT;
+			case KuixConstants.MARGIN_STYLE_PROPERTY_ID:
+				return DEFAULT_MARGIN;
+			case KuixConstants.BORDER_STYLE_PROPERTY_ID:
+				return DEFAULT_BORDER;
+			case KuixConstants.PADDING_STYLE_PROPERTY_ID:
+				return DEFAULT_PADDING;
+			case KuixConstants.MIN_SIZE_STYLE_PROPERTY_ID:
+				return DEFAULT_MIN_SIZE;
+			case KuixConstants.GAP_STYLE_PROPERTY_ID:
+				return DEFAULT_GAP;
+			case KuixConstants.SPAN_STYLE_PROPERTY_ID:
+				return DEFAULT_SPAN;
+			case KuixConstants.WEIGHT_STYLE_PROPERTY_ID:
+				return DEFAULT_WEIGHT;
+			case KuixConstants.ALIGN_STYLE_PROPERTY_ID:
+				return DEFAULT_ALIGN;
+			case KuixConstants.COLOR_STYLE_PROPERTY_ID:
+				return Color.BLACK;
+		}
+		return getDefaultStylePropertyValue(StyleProperty.getName(id));
+	}
+	
 	/**
 	 * Returns the de default style property value for <code>name</code>
 	 * property, or <code>null</code>.
@@ -2269,38 +2980,10 @@ public class Widget {
 	 * @param name
 	 * @return The de default style property value for <code>name</code>
 	 *         property
+	 * @deprecated Style properties are identified by their id. Override
+	 *             <code>getDefaultStylePropertyValue(int)</code> instead.
 	 */
 	protected Object getDefaultStylePropertyValue(String name) {
-		if (KuixConstants.LAYOUT_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_LAYOUT;
-		}
-		if (KuixConstants.MARGIN_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_MARGIN;
-		}
-		if (KuixConstants.BORDER_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_BORDER;
-		}
-		if (KuixConstants.PADDING_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_PADDING;
-		}
-		if (KuixConstants.MIN_SIZE_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_MIN_SIZE;
-		}
-		if (KuixConstants.GAP_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_GAP;
-		}
-		if (KuixConstants.SPAN_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_SPAN;
-		}
-		if (KuixConstants.WEIGHT_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_WEIGHT;
-		}
-		if (KuixConstants.ALIGN_STYLE_PROPERTY.equals(name)) {
-			return DEFAULT_ALIGN;
-		}
-		if (KuixConstants.COLOR_STYLE_PROPERTY.equals(name)) {
-			return Color.BLACK;
-		}
 		return null;
 	}
 	
@@ -2552,6 +3235,27 @@ public class Widget {
 		return false;
 	}
 	
+	/**
+	 * Tests whether or not consecutive events of the given <code>type</code>
+	 * could be coalesced before being sent to this widget. A coalesced
+	 * <code>POINTER_DRAGGED_EVENT_TYPE</code> event carries the last pointer
+	 * position, and a coalesced <code>KEY_REPEATED_EVENT_TYPE</code> event
+	 * carries the number of repeats (@see
+	 * {@link org.kalmeo.kuix.core.KuixCanvas#getEventRepeatCount()}).<br>
+	 * By default the decision is delegated to the parent, like the pointer
+	 * events. Override this method to return <code>false</code> if the widget
+	 * needs to receive every sample.
+	 * 
+	 * @param type
+	 * @return <code>true</code> if the events could be coalesced
+	 */
+	public boolean isEventCoalescable(byte type) {
+		if (parent != null) {
+			return parent.isEventCoalescable(type);
+		}
+		return true;
+	}
+	
 	/**
 	 * Process a focus event
 	 * 
@@ -2607,6 +3311,38 @@ public class Widget {
 		return false;
 	}
 	
+	/**
+	 * Process a batch of model update events. The bind instructions that bind
+	 * at least one of the <code>properties</code> are processed only once and
+	 * the widget is invalidated only once.<br>
+	 * This method doesn't call <code>processModelUpdateEvent</code> :
+	 * subclasses that override <code>processModelUpdateEvent</code> have to
+	 * override this method too.
+	 * 
+	 * @param properties
+	 * 
+	 * @return <code>true</code> if the event is treated by the widget
+	 */
+	public boolean processModelUpdateEvents(String[] properties) {
+		if (dataProvider != null && hasBindInstruction()) {
+			boolean success = false;
+			for (BindInstruction bindInstruction = (BindInstruction) bindInstructions.getFirst(); bindInstruction != null; bindInstruction = bindInstruction.next) {
+				for (int i = 0; i < properties.length; ++i) {
+					if (bindInstruction.hasProperty(properties[i])) {
+						bindInstruction.process();
+						success = true;
+						break;
+					}
+				}
+			}
+			if (success) {
+				invalidate();
+			}
+			return success;
+		}
+		return false;
+	}
+	
 	/**
 	 * Process an items model update event.
 	 * 